@@ -27,6 +27,9 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -2454,4 +2457,156 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("ParallelScriptGeneration");
+
+		String[] bundles = { "a", "b", "c", "d", "e" };
+		Utils.generateFeature(buildFolder, "f", null, bundles);
+		for (int i = 0; i < bundles.length; i++) {
+			IFolder bundle = Utils.createFolder(buildFolder, "plugins/" + bundles[i]);
+			Attributes additionalAttributes = new Attributes();
+			if (i > 0) {
+				// each bundle requires the previous ones
+				additionalAttributes.put(new Attributes.Name("Require-Bundle"), String.join(",", Arrays.copyOf(bundles, i)));
+			}
+			Utils.generateBundleManifest(bundle, bundles[i], "1.0.0", additionalAttributes);
+			Utils.generatePluginBuildProperties(bundle, null);
+			Utils.writeBuffer(bundle.getFile("src/" + bundles[i] + "/A.java"), new StringBuffer("package " + bundles[i] + "; public class A {}"));
+		}
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		properties.put(IBuildPropertiesConstants.PROPERTY_SCRIPT_GENERATION_THREADS, "1");
+		generateScripts(buildFolder, properties);
+		Map<String, String> serial = readScripts(buildFolder, bundles);
+
+		properties.put(IBuildPropertiesConstants.PROPERTY_SCRIPT_GENERATION_THREADS, "4");
+		generateScripts(buildFolder, properties);
+		Map<String, String> parallel = readScripts(buildFolder, bundles);
+
+		// the scripts generated in parallel are identical to the serial ones
+		assertEquals(serial, parallel);
+	}
+
+	private Map<String, String> readScripts(IFolder buildFolder, String[] bundles) throws Exception {
+		Map<String, String> scripts = new HashMap<>();
+		for (String bundle : bundles) {
+			IFile script = buildFolder.getFile("plugins/" + bundle + "/build.xml");
+			assertResourceFile(script);
+			scripts.put(bundle, Files.readString(script.getLocation().toFile().toPath()));
+			// make sure the next generation writes the script again
+			script.getLocation().toFile().delete();
+		}
+		return scripts;
+	}
+
+	@Test
+	public void testSkipUnchangedScripts() throws Exception {
+		IFolder buildFolder = newTest("SkipUnchangedScripts");
+
+		Utils.generateBundle(buildFolder, "bundle");
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "plugin", "bundle");
+		properties.put("skipUnchangedScripts", "true");
+		generateScripts(buildFolder, properties);
+		assertResourceFile(buildFolder, "build.xml.digest");
+
+		// the script of an unchanged bundle is kept
+		java.nio.file.Path script = buildFolder.getFile("build.xml").getLocation().toFile().toPath();
+		Files.writeString(script, "<!-- kept -->", StandardOpenOption.APPEND);
+		generateScripts(buildFolder, properties);
+		assertTrue(Files.readString(script).contains("<!-- kept -->"));
+
+		// changing a source file regenerates it
+		Utils.writeBuffer(buildFolder.getFile("src/foo.java"), new StringBuffer("public class foo { long l; }"));
+		generateScripts(buildFolder, properties);
+		assertFalse(Files.readString(script).contains("<!-- kept -->"));
+		assertTrue(Files.readString(script).contains("resourcecontains"));
+		// the compile digest is only recorded when the compilation succeeded
+		assertTrue(Files.readString(script).contains("<target name=\"recordCompileDigest\" unless=\"compilation.error.occured\">"));
+	}
+
+	@Test
+	public void testLocalBuildCache() throws Exception {
+		IFolder buildFolder = newTest("LocalBuildCache");
+
+		Utils.generateBundle(buildFolder, "bundle");
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "plugin", "bundle");
+		properties.put("localBuildCache", buildFolder.getLocation().append("cache").toOSString());
+		generateScripts(buildFolder, properties);
+
+		String script = Files.readString(buildFolder.getFile("build.xml").getLocation().toFile().toPath());
+		assertTrue(script.contains("<property name=\"localBuildCache\""));
+		assertTrue(script.contains("action=\"restore\""));
+		assertTrue(script.contains("action=\"store\""));
+
+		// without a cache folder the compilation is not cached
+		properties.remove("localBuildCache");
+		generateScripts(buildFolder, properties);
+		script = Files.readString(buildFolder.getFile("build.xml").getLocation().toFile().toPath());
+		assertFalse(script.contains("eclipse.buildCache"));
+	}
+
+	@Test
+	public void testLocalBuildCacheTask() throws Exception {
+		IFolder buildFolder = newTest("LocalBuildCacheTask");
+		IFolder cache = buildFolder.getFolder("cache");
+
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("<project name=\"test\" basedir=\".\">                                      \n");
+		buffer.append("   <target name=\"store\">                                                 \n");
+		buffer.append("      <eclipse.buildCache action=\"store\" cacheDir=\"");
+		buffer.append(cache.getLocation().toOSString());
+		buffer.append("\" output=\"out\" sources=\"src\" settings=\"-source 17\" />           \n");
+		buffer.append("   </target>                                                               \n");
+		buffer.append("   <target name=\"restore\">                                               \n");
+		buffer.append("      <eclipse.buildCache action=\"restore\" cacheDir=\"");
+		buffer.append(cache.getLocation().toOSString());
+		buffer.append("\" output=\"out\" sources=\"src\" settings=\"-source 17\" property=\"restored\" />\n");
+		buffer.append("      <echo file=\"restored.txt\" message=\"${restored}\" />                 \n");
+		buffer.append("   </target>                                                               \n");
+		buffer.append("</project>                                                                 \n");
+		IFile xml = buildFolder.getFile("build.xml");
+		Utils.writeBuffer(xml, buffer);
+		String buildXMLPath = xml.getLocation().toOSString();
+		String antHome = buildFolder.getLocation().toOSString();
+
+		Utils.writeBuffer(buildFolder.getFile("src/A.java"), new StringBuffer("public class A { }"));
+		IFile classFile = buildFolder.getFile("out/A.class");
+		Utils.writeBuffer(classFile, new StringBuffer("compiled"));
+		runAntScript(buildXMLPath, new String[] { "store" }, antHome, null);
+		assertEquals(1, cache.getLocation().toFile().list().length);
+
+		// unchanged inputs restore the cached output
+		Utils.writeBuffer(classFile, new StringBuffer("stale"));
+		runAntScript(buildXMLPath, new String[] { "restore" }, antHome, null);
+		assertEquals("compiled", Files.readString(classFile.getLocation().toFile().toPath()));
+		assertEquals("true", Files.readString(buildFolder.getFile("restored.txt").getLocation().toFile().toPath()));
+
+		// a changed source misses the cache
+		Utils.writeBuffer(buildFolder.getFile("src/A.java"), new StringBuffer("public class A { int i; }"));
+		Utils.writeBuffer(classFile, new StringBuffer("stale"));
+		runAntScript(buildXMLPath, new String[] { "restore" }, antHome, null);
+		assertEquals("stale", Files.readString(classFile.getLocation().toFile().toPath()));
+		assertEquals("${restored}", Files.readString(buildFolder.getFile("restored.txt").getLocation().toFile().toPath()));
+	}
+
+	@Test
+	public void testBuildTimingHooks() throws Exception {
+		IFolder buildFolder = newTest("BuildTimingHooks");
+
+		Utils.generateBundle(buildFolder, "bundle");
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "plugin", "bundle");
+		properties.put("buildTimingReport", buildFolder.getLocation().append("timings").toOSString());
+		generateScripts(buildFolder, properties);
+
+		String script = Files.readString(buildFolder.getFile("build.xml").getLocation().toFile().toPath());
+		assertTrue(script.contains("<eclipse.buildTimer"));
+		assertTrue(script.contains("element=\"bundle\" version=\"1.0.0\""));
+		assertTrue(script.contains("step=\"compile:"));
+		assertTrue(script.contains("step=\"gather.bin.parts\""));
+	}
 }
@@ -34,7 +34,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -139,6 +141,39 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		return getImmutableAntProperty(key, null);
 	}
 
+	/**
+	 * Returns the string valued immutable Ant properties sorted by name.
+	 */
+	public static SortedMap<String, String> getImmutableAntProperties() {
+		SortedMap<String, String> result = new TreeMap<>();
+		if (immutableAntProperties != null) {
+			for (String key : immutableAntProperties.stringPropertyNames()) {
+				result.put(key, immutableAntProperties.getProperty(key));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns whether the generated scripts record the time spent in the steps
+	 * of each element, for the report written to the folder named by the
+	 * <code>buildTimingReport</code> property.
+	 */
+	public static boolean isBuildTimingEnabled() {
+		String report = getImmutableAntProperty(PROPERTY_BUILD_TIMING_REPORT, null);
+		return report != null && report.length() > 0;
+	}
+
+	/**
+	 * Starts or stops timing a step of the build of an element, when build
+	 * timing is enabled.
+	 */
+	protected void generateBuildTimer(String element, String version, String step, boolean start, String after) {
+		if (isBuildTimingEnabled()) {
+			script.printBuildTimerTask(Utils.getPropertyFormat(PROPERTY_BUILD_TIMING_REPORT), element, version, step, start, after);
+		}
+	}
+
 	public static boolean getPropertyAsBoolean(String key) {
 		String booleanValue = getImmutableAntProperty(key, null);
 		if ("true".equalsIgnoreCase(booleanValue)) { //$NON-NLS-1$
@@ -201,7 +236,8 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 
 	static public class MissingProperties extends Properties {
 		private static final long serialVersionUID = 3546924667060303927L;
-		private static MissingProperties singleton;
+		// eagerly initialized, the instance is compared by identity from several generator threads
+		private static final MissingProperties singleton = new MissingProperties();
 
 		private MissingProperties() {
 			//nothing to do;
@@ -218,9 +254,6 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		}
 
 		public static MissingProperties getInstance() {
-			if (singleton == null) {
-				singleton = new MissingProperties();
-			}
 			return singleton;
 		}
 	}
@@ -87,6 +87,10 @@ public interface IBuildPropertiesConstants {
 
 	public static final String PROPERTY_SIGNIFICANT_VERSION_DIGITS = "significantVersionDigits"; //$NON-NLS-1$
 	public static final String PROPERTY_GENERATED_VERSION_LENGTH = "generatedVersionLength"; //$NON-NLS-1$
+	public static final String PROPERTY_SCRIPT_GENERATION_THREADS = "scriptGenerationThreads"; //$NON-NLS-1$
+	public static final String PROPERTY_SKIP_UNCHANGED_SCRIPTS = "skipUnchangedScripts"; //$NON-NLS-1$
+	public static final String PROPERTY_LOCAL_BUILD_CACHE = "localBuildCache"; //$NON-NLS-1$
+	public static final String PROPERTY_BUILD_TIMING_REPORT = "buildTimingReport"; //$NON-NLS-1$
 
 	public static final String RESOLVER_DEV_MODE = "resolution.devMode"; //$NON-NLS-1$
 	public static final String PROPERTY_INDIVIDUAL_SOURCE = "individualSourceBundles"; //$NON-NLS-1$
@@ -86,6 +86,12 @@ public class Messages extends NLS {
 	public static String invalid_archivesFormat;
 	public static String error_loading_platform_properties;
 
+	// phases of the generation
+	public static String phase_loadManifests;
+	public static String phase_addBundles;
+	public static String phase_resolveState;
+	public static String phase_generatePluginScripts;
+
 	// assemble.xml
 	public static String assemble_jarUp;
 	public static String sign_Jar;
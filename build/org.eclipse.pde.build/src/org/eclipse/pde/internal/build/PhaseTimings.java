@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Accumulates the time spent in the phases of the script generation, so that
+ * the generation tasks can report it when running verbose.
+ */
+public final class PhaseTimings {
+	private static final Map<String, Long> timings = new LinkedHashMap<>();
+
+	private PhaseTimings() {
+	}
+
+	/**
+	 * Adds the given duration to the time spent in a phase.
+	 *
+	 * @param phase the name of the phase
+	 * @param startNanos the {@link System#nanoTime()} when the phase started
+	 */
+	public static synchronized void record(String phase, long startNanos) {
+		timings.merge(phase, Long.valueOf(System.nanoTime() - startNanos), Long::sum);
+	}
+
+	/**
+	 * @return the nanoseconds spent in each phase, in the order the phases
+	 *         were first recorded
+	 */
+	public static synchronized Map<String, Long> getTimings() {
+		return new LinkedHashMap<>(timings);
+	}
+
+	public static synchronized void reset() {
+		timings.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -152,6 +152,30 @@ public class AntScript implements IAntScript {
 
 	}
 
+	/**
+	 * Print an <code>eclipse.buildTimer</code> task to the Ant script. The
+	 * time between the start and the stop of a step of an element is recorded
+	 * in the timings of the report folder.
+	 *
+	 * @param report the folder of the timing report
+	 * @param element the element being built
+	 * @param version the version of the element being built
+	 * @param step the step of the build of the element
+	 * @param start <code>true</code> to start timing the step, <code>false</code> to stop
+	 * @param after comma separated elements, as <code>id_version</code>, that must be built before this step can start, or <code>null</code>
+	 */
+	public void printBuildTimerTask(String report, String element, String version, String step, boolean start, String after) {
+		printTab();
+		output.print("<eclipse.buildTimer"); //$NON-NLS-1$
+		printAttribute("report", report, true); //$NON-NLS-1$
+		printAttribute("element", element, true); //$NON-NLS-1$
+		printAttribute("version", version, true); //$NON-NLS-1$
+		printAttribute("step", step, true); //$NON-NLS-1$
+		printAttribute("action", start ? "start" : "stop", true); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		printAttribute("after", after, false); //$NON-NLS-1$
+		output.println("/>"); //$NON-NLS-1$
+	}
+
 	public void printJarTask(String jarFile, FileSet[] files, String manifestAttribute) {
 		printTab();
 		output.print("<jar"); //$NON-NLS-1$
@@ -14,6 +14,8 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -34,6 +40,7 @@ import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.Messages;
+import org.eclipse.pde.internal.build.PhaseTimings;
 import org.eclipse.pde.internal.build.SourceFeatureInformation;
 import org.eclipse.pde.internal.build.Utils;
 import org.eclipse.pde.internal.build.builder.ClasspathComputer3_0.ClasspathElement;
@@ -99,8 +106,34 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	}
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
+	/** Set when two nested jars competed for the same extraction folder name */
+	private boolean extractedLocationClash = false;
+	private final BuildInputDigests inputDigests = new BuildInputDigests();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	BuildInputDigests getInputDigests() {
+		return inputDigests;
+	}
+
+	/**
+	 * Registers the extraction folder chosen for a nested jar by a previously
+	 * generated script.
+	 *
+	 * @return <code>false</code> if the folder is no longer available to that jar
+	 */
+	synchronized boolean reuseExtractedRoot(String absolute, String destination) {
+		String known = extractedLocations.get(absolute);
+		if (known != null) {
+			return known.equals(destination);
+		}
+		if (extractedLocations.containsValue(destination)) {
+			extractedLocationClash = true;
+			return false;
+		}
+		extractedLocations.put(absolute, destination);
+		return true;
+	}
+
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null) {
 			return element.getPath();
 		}
@@ -118,6 +151,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		String destination = name;
 		while (extractedLocations.containsValue(destination)) {
 			destination = name + '_' + Integer.toHexString(destination.hashCode());
+			extractedLocationClash = true;
 		}
 
 		extractedLocations.put(absolute, destination);
@@ -533,6 +567,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		}
 
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
+		List<BundleDescription> modelsToGenerate = new ArrayList<>(models.size());
+		List<FeatureEntry> entriesToGenerate = new ArrayList<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model)) {
 				continue;
@@ -545,7 +581,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty()) {
-				return;
+				break;
 			}
 
 			@SuppressWarnings("rawtypes")
@@ -555,22 +591,146 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			if (list.size() == 0) {
 				continue;
 			}
+			modelsToGenerate.add(model);
+			entriesToGenerate.add(correspondingEntry);
+		}
+
+		long start = System.nanoTime();
+		try {
+			int threads = Math.min(getIntProperty(AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_SCRIPT_GENERATION_THREADS), Runtime.getRuntime().availableProcessors()), modelsToGenerate.size());
+			if (threads <= 1) {
+				for (int i = 0; i < modelsToGenerate.size(); i++) {
+					createModelGenerator(modelsToGenerate.get(i), entriesToGenerate.get(i)).generate();
+				}
+				return;
+			}
+			generateModelsInParallel(modelsToGenerate, entriesToGenerate, threads);
+		} finally {
+			PhaseTimings.record(Messages.phase_generatePluginScripts, start);
+		}
+	}
 
-			ModelBuildScriptGenerator generator = new ModelBuildScriptGenerator();
-			generator.setBuildSiteFactory(siteFactory);
-			generator.setCompiledElements(getCompiledElements());
-			generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
-			generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
-			generator.setFeatureGenerator(this);
-			generator.setPluginPath(getPluginPath());
-			generator.setDevEntries(devEntries);
-			generator.includePlatformIndependent(isPlatformIndependentIncluded());
-			generator.setSignJars(signJars);
-			generator.setAssociatedEntry(correspondingEntry);
-			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+	/**
+	 * Generates the scripts of the given models on several threads. The
+	 * generators are created in model order so that each of them sees the
+	 * compiled elements a serial generation would have shown it. If the
+	 * generation had to disambiguate the extraction folder of nested jars, the
+	 * chosen names depend on the generation order and the scripts are
+	 * generated again serially.
+	 */
+	private void generateModelsInParallel(List<BundleDescription> models, List<FeatureEntry> entries, int threads) throws CoreException {
+		Set<String> compiledElements = getCompiledElements();
+		Set<String> previouslyCompiled = new HashSet<>(compiledElements);
+		Map<String, Integer> compiledOrder = new HashMap<>();
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
+		for (int i = 0; i < models.size(); i++) {
+			ModelBuildScriptGenerator generator = createModelGenerator(models.get(i), entries.get(i));
+			String name = ModelBuildScriptGenerator.getNormalizedName(generator.getModel());
+			if (!previouslyCompiled.contains(name) && compiledElements.contains(name)) {
+				compiledOrder.putIfAbsent(name, Integer.valueOf(i));
+			}
+			generators.add(generator);
+		}
+		for (int i = 0; i < generators.size(); i++) {
+			generators.get(i).setCompiledElements(new CompiledElementsView(compiledElements, compiledOrder, i));
 		}
 
+		Map<String, String> previousExtractedLocations;
+		synchronized (this) {
+			previousExtractedLocations = new HashMap<>(extractedLocations);
+			extractedLocationClash = false;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Void>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					generator.generate();
+					return null;
+				}));
+			}
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CoreException coreException) {
+				throw coreException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_WRITING_FILE, e.getCause().getMessage(), e.getCause()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(Status.CANCEL_STATUS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		boolean regenerate;
+		synchronized (this) {
+			regenerate = extractedLocationClash;
+			if (regenerate) {
+				extractedLocations.clear();
+				extractedLocations.putAll(previousExtractedLocations);
+			}
+		}
+		if (regenerate) {
+			for (int i = 0; i < models.size(); i++) {
+				createModelGenerator(models.get(i), entries.get(i)).generate();
+			}
+		}
+	}
+
+	private ModelBuildScriptGenerator createModelGenerator(BundleDescription model, FeatureEntry correspondingEntry) throws CoreException {
+		ModelBuildScriptGenerator generator = new ModelBuildScriptGenerator();
+		generator.setBuildSiteFactory(siteFactory);
+		generator.setCompiledElements(getCompiledElements());
+		generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
+		generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
+		generator.setFeatureGenerator(this);
+		generator.setPluginPath(getPluginPath());
+		generator.setDevEntries(devEntries);
+		generator.includePlatformIndependent(isPlatformIndependentIncluded());
+		generator.setSignJars(signJars);
+		generator.setAssociatedEntry(correspondingEntry);
+		generator.setGenerateSourceReferences(sourceReferences);
+		return generator;
+	}
+
+	/**
+	 * Read-only view of the compiled elements as they were when the generator
+	 * at the given position was created.
+	 */
+	private static class CompiledElementsView extends AbstractSet<String> {
+		private final Set<String> elements;
+		private final Map<String, Integer> order;
+		private final int position;
+
+		CompiledElementsView(Set<String> elements, Map<String, Integer> order, int position) {
+			this.elements = elements;
+			this.order = order;
+			this.position = position;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!elements.contains(o)) {
+				return false;
+			}
+			Integer added = order.get(o);
+			return added == null || added.intValue() <= position;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return elements.stream().filter(this::contains).iterator();
+		}
+
+		@Override
+		public int size() {
+			return (int) elements.stream().filter(this::contains).count();
+		}
 	}
 
 	/**
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.builder.ModelBuildScriptGenerator.CompiledEntry;
+
+/**
+ * Computes the digests recorded next to generated build scripts and compiled
+ * outputs, so that an unchanged bundle can be recognized on the next run.
+ * Digests of the sources of a bundle are computed once and shared by all the
+ * generators of a build.
+ */
+class BuildInputDigests {
+	public static final String DIGEST_FILE_SUFFIX = ".digest"; //$NON-NLS-1$
+	private static final String KEY_INPUTS = "inputs"; //$NON-NLS-1$
+	private static final String KEY_EXTRACTED_PREFIX = "extracted."; //$NON-NLS-1$
+
+	private final Map<String, String> sourceDigests = new ConcurrentHashMap<>();
+
+	/**
+	 * Accumulates the parts of a digest.
+	 */
+	static class Digest {
+		private final MessageDigest digest;
+
+		Digest() {
+			try {
+				digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		Digest add(Object part) {
+			digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '\n');
+			return this;
+		}
+
+		Digest addFile(File file) {
+			add(file.getName());
+			if (!file.isFile()) {
+				return add(-1);
+			}
+			try (InputStream input = Files.newInputStream(file.toPath())) {
+				byte[] buffer = new byte[8192];
+				int read;
+				while ((read = input.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+				}
+			} catch (IOException e) {
+				add(e.getMessage());
+			}
+			return this;
+		}
+
+		String get() {
+			return HexFormat.of().formatHex(digest.digest());
+		}
+	}
+
+	/**
+	 * Returns the digest of the files in the source folders of the given
+	 * bundle, or of the bundle location itself for a binary bundle. Files are
+	 * identified by their path and content, so that touching a file or
+	 * checking it out again does not change the digest.
+	 */
+	String getSourceDigest(BundleDescription bundle) {
+		String location = bundle.getLocation();
+		if (location == null) {
+			return ""; //$NON-NLS-1$
+		}
+		return sourceDigests.computeIfAbsent(location, l -> computeSourceDigest(bundle));
+	}
+
+	private String computeSourceDigest(BundleDescription bundle) {
+		Digest digest = new Digest();
+		File location = new File(bundle.getLocation());
+		digest.add(location);
+		try {
+			Properties properties = AbstractScriptGenerator.readProperties(location.getPath(), IPDEBuildConstants.PROPERTIES_FILE, IStatus.OK);
+			if (properties == AbstractScriptGenerator.MissingProperties.getInstance()) {
+				if (location.isDirectory()) {
+					addFolder(digest, location.toPath());
+				} else {
+					digest.addFile(location);
+				}
+				return digest.get();
+			}
+			for (CompiledEntry entry : ModelBuildScriptGenerator.extractEntriesToCompile(properties, bundle)) {
+				digest.add(entry.getName(false));
+				for (String source : entry.getSource()) {
+					addFolder(digest, location.toPath().resolve(source));
+				}
+			}
+		} catch (CoreException e) {
+			digest.add(e.getMessage());
+		}
+		return digest.get();
+	}
+
+	private static void addFolder(Digest digest, Path folder) {
+		digest.add(folder);
+		if (!Files.isDirectory(folder)) {
+			return;
+		}
+		try (Stream<Path> files = Files.walk(folder)) {
+			files.filter(Files::isRegularFile).sorted().forEach(file -> digest.add(folder.relativize(file)).addFile(file.toFile()));
+		} catch (IOException | RuntimeException e) {
+			digest.add(e.getMessage());
+		}
+	}
+
+	/**
+	 * Reads the digest recorded for the given script.
+	 *
+	 * @return the recorded digest properties, or <code>null</code> if none
+	 */
+	static Properties readRecordedDigest(String scriptLocation, String scriptName) {
+		File file = new File(scriptLocation, scriptName + DIGEST_FILE_SUFFIX);
+		if (!file.isFile() || !new File(scriptLocation, scriptName).isFile()) {
+			return null;
+		}
+		Properties recorded = new Properties();
+		try (InputStream input = Files.newInputStream(file.toPath())) {
+			recorded.load(input);
+		} catch (IOException e) {
+			return null;
+		}
+		return recorded;
+	}
+
+	static boolean matches(Properties recorded, String inputs) {
+		return recorded != null && inputs.equals(recorded.getProperty(KEY_INPUTS));
+	}
+
+	static Map<String, String> getExtractedRoots(Properties recorded) {
+		Map<String, String> result = new LinkedHashMap<>();
+		String[] keys = recorded.stringPropertyNames().toArray(new String[0]);
+		Arrays.sort(keys);
+		for (String key : keys) {
+			if (key.startsWith(KEY_EXTRACTED_PREFIX)) {
+				result.put(key.substring(KEY_EXTRACTED_PREFIX.length()), recorded.getProperty(key));
+			}
+		}
+		return result;
+	}
+
+	static void deleteRecordedDigest(String scriptLocation, String scriptName) {
+		new File(scriptLocation, scriptName + DIGEST_FILE_SUFFIX).delete();
+	}
+
+	static void recordDigest(String scriptLocation, String scriptName, String inputs, Map<String, String> extractedRoots) throws IOException {
+		Properties recorded = new Properties();
+		recorded.setProperty(KEY_INPUTS, inputs);
+		for (Map.Entry<String, String> extracted : extractedRoots.entrySet()) {
+			recorded.setProperty(KEY_EXTRACTED_PREFIX + extracted.getKey(), extracted.getValue());
+		}
+		try (OutputStream output = Files.newOutputStream(new File(scriptLocation, scriptName + DIGEST_FILE_SUFFIX).toPath())) {
+			recorded.store(output, null);
+		}
+	}
+}
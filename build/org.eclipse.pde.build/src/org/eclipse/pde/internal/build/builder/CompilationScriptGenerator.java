@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.pde.internal.build.builder;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -105,6 +106,10 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 			script.printParallel(threadCount, threadsPerProcessor);
 		}
 
+		// the elements whose compilation must end before the next ones can start, for the timing report
+		List<String> previousBucket = new ArrayList<>();
+		List<String> currentBucket = new ArrayList<>();
+
 		for (BundleDescription bundle : sortedPlugins) {
 			// Individual source bundles have empty build.jars targets, skip them
 			if (Utils.isSourceBundle(bundle)) {
@@ -116,12 +121,29 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 					script.printEndParallel();
 					script.printParallel(threadCount, threadsPerProcessor);
 					bucket.clear();
+					previousBucket = currentBucket;
+					currentBucket = new ArrayList<>();
 				}
 				bucket.add(Long.valueOf(bundle.getBundleId()));
+			} else {
+				previousBucket = currentBucket;
+				currentBucket = new ArrayList<>();
 			}
 
 			IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
-			script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+			if (isBuildTimingEnabled()) {
+				String after = Utils.getStringFromCollection(previousBucket, ","); //$NON-NLS-1$
+				script.printStartTag("sequential"); //$NON-NLS-1$
+				script.incrementIdent();
+				generateBuildTimer(bundle.getSymbolicName(), bundle.getVersion().toString(), TARGET_BUILD_JARS, true, after);
+				script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+				generateBuildTimer(bundle.getSymbolicName(), bundle.getVersion().toString(), TARGET_BUILD_JARS, false, after);
+				script.decrementIdent();
+				script.printEndTag("sequential"); //$NON-NLS-1$
+			} else {
+				script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+			}
+			currentBucket.add(bundle.getSymbolicName() + '_' + bundle.getVersion());
 		}
 
 		if (parallel) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -321,6 +321,7 @@ public class FeatureBuildScriptGenerator extends AbstractScriptGenerator {
 
 		script.println();
 		script.printTargetDeclaration(TARGET_PUBLISH_BIN_PARTS, TARGET_INIT, PROPERTY_P2_PUBLISH_PARTS, null, null);
+		generateBuildTimer(feature.getId(), feature.getVersion(), TARGET_PUBLISH_BIN_PARTS, true, null);
 
 		String featureTemp = Utils.getPropertyFormat(PROPERTY_FEATURE_TEMP_FOLDER) + '/' + featureFolderName;
 		script.printMkdirTask(featureTemp);
@@ -366,6 +367,7 @@ public class FeatureBuildScriptGenerator extends AbstractScriptGenerator {
 		}
 		script.println("/>"); //$NON-NLS-1$
 
+		generateBuildTimer(feature.getId(), feature.getVersion(), TARGET_PUBLISH_BIN_PARTS, false, null);
 		script.printTargetEnd();
 	}
 
@@ -379,6 +381,7 @@ public class FeatureBuildScriptGenerator extends AbstractScriptGenerator {
 
 		script.println();
 		script.printTargetDeclaration(TARGET_GATHER_BIN_PARTS, TARGET_INIT, PROPERTY_FEATURE_BASE, null, null);
+		generateBuildTimer(feature.getId(), feature.getVersion(), TARGET_GATHER_BIN_PARTS, true, null);
 		if (include != null) {
 			script.printMkdirTask(root);
 		}
@@ -408,6 +411,7 @@ public class FeatureBuildScriptGenerator extends AbstractScriptGenerator {
 		if (customFeatureCallbacks != null) {
 			script.printSubantTask(Utils.getPropertyFormat(PROPERTY_CUSTOM_BUILD_CALLBACKS), PROPERTY_POST + TARGET_GATHER_BIN_PARTS, customCallbacksBuildpath, customCallbacksFailOnError, customCallbacksInheritAll, callbackParams, null);
 		}
+		generateBuildTimer(feature.getId(), feature.getVersion(), TARGET_GATHER_BIN_PARTS, false, null);
 		script.printTargetEnd();
 		generateRootFilesAndPermissions();
 	}
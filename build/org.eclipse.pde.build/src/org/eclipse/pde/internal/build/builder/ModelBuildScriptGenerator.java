@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -18,15 +18,20 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.jar.JarFile;
 
 import org.eclipse.core.runtime.CoreException;
@@ -36,6 +41,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.equinox.p2.publisher.eclipse.FeatureEntry;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.util.ManifestElement;
@@ -63,6 +69,10 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 	public static final String SRC_ZIP = "src.zip"; //$NON-NLS-1$
 	public static final String EXPANDED_DOT = "@dot"; //$NON-NLS-1$
 	public static final String DOT = "."; //$NON-NLS-1$
+	private static final String ACTION_RESTORE = "restore"; //$NON-NLS-1$
+	private static final String ACTION_STORE = "store"; //$NON-NLS-1$
+	private static final String STEP_COMPILE = "compile:"; //$NON-NLS-1$
+	private static final String STEP_JAR = "jar:"; //$NON-NLS-1$
 
 	/**
 	 * Represents a entry that must be compiled and which is listed in the build.properties file.
@@ -159,6 +169,21 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 	private boolean generateErrorPropertyAttribute = true;
 	private boolean sourceReferences = false;
 
+	/** Ant properties read while generating the script or compiling the bundle */
+	private static final Set<String> SIGNIFICANT_ANT_PROPERTIES = Set.of(PROPERTY_SIGNIFICANT_VERSION_DIGITS, PROPERTY_GENERATED_VERSION_LENGTH, PROPERTY_PACKAGER_MODE, PROPERTY_PACKAGER_AS_NORMALIZER, PROPERTY_INDIVIDUAL_SOURCE, PROPERTY_ALLOW_BINARY_CYCLES, PROPERTY_LOCAL_BUILD_CACHE, PROPERTY_BUILD_TIMING_REPORT, PROPERTY_ANT_VERSION, RESOLVER_DEV_MODE, PROPERTY_JAVAC_COMPILERARG, PROPERTY_BOOTCLASSPATH, PROPERTY_BUILD_COMPILER, PROPERTY_COMPILER_ADAPTER, PROPERTY_ADAPTER_USELOG, PROPERTY_ADAPTER_USEARGFILE);
+
+	/** Digest of the inputs of the script, when unchanged scripts are skipped */
+	private String scriptInputs = null;
+	/** Extraction folders of nested jars used by the script */
+	private final Map<String, String> usedExtractedRoots = new LinkedHashMap<>();
+	/** Digest of the compilation inputs by jar name */
+	private final Map<String, String> compileDigests = new HashMap<>();
+	private BuildInputDigests inputDigests;
+	/** Folder of the local build cache, when compiled jars are cached */
+	private String localBuildCache = null;
+	/** Classpath of each jar, before extraction of nested jars, when compiled jars are cached */
+	private final Map<String, List<Object>> cachedClasspaths = new HashMap<>();
+
 	/**
 	 * @see AbstractScriptGenerator#generate()
 	 */
@@ -189,12 +214,158 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			return;
 		}
 
-		openScript(getLocation(model), buildScriptFileName);
+		localBuildCache = getImmutableAntProperty(PROPERTY_LOCAL_BUILD_CACHE, null);
+		if (localBuildCache != null && localBuildCache.length() == 0) {
+			localBuildCache = null;
+		}
+
+		String scriptLocation = getLocation(model);
+		if (getPropertyAsBoolean(PROPERTY_SKIP_UNCHANGED_SCRIPTS)) {
+			scriptInputs = computeScriptInputs();
+			if (reuseRecordedScript(scriptLocation)) {
+				return;
+			}
+			BuildInputDigests.deleteRecordedDigest(scriptLocation, buildScriptFileName);
+		}
+
+		compileDigests.clear();
+		openScript(scriptLocation, buildScriptFileName);
 		try {
 			generateBuildScript();
 		} finally {
 			closeScript();
 		}
+
+		if (scriptInputs != null) {
+			try {
+				BuildInputDigests.recordDigest(scriptLocation, buildScriptFileName, scriptInputs, usedExtractedRoots);
+			} catch (IOException e) {
+				String message = NLS.bind(Messages.exception_writingFile, scriptLocation + '/' + buildScriptFileName + BuildInputDigests.DIGEST_FILE_SUFFIX);
+				throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_WRITING_FILE, message, e));
+			}
+		}
+	}
+
+	private BuildInputDigests getInputDigests() {
+		if (featureGenerator != null) {
+			return featureGenerator.getInputDigests();
+		}
+		if (inputDigests == null) {
+			inputDigests = new BuildInputDigests();
+		}
+		return inputDigests;
+	}
+
+	/**
+	 * Returns the immutable Ant properties that change the generated script
+	 * or the compilation of the bundle: the generation settings, the compiler
+	 * settings and the locations of the execution environments. Other
+	 * properties, like build ids and time stamps, are left out so that they
+	 * do not invalidate the recorded digests on every build.
+	 */
+	private SortedMap<String, String> getSignificantAntProperties() {
+		Set<String> profiles = Set.of(getSite(false).getRegistry().getProfileManager().getJavaProfiles());
+		SortedMap<String, String> properties = getImmutableAntProperties();
+		properties.keySet().removeIf(key -> !SIGNIFICANT_ANT_PROPERTIES.contains(key) && !key.startsWith("javac") && !profiles.contains(key)); //$NON-NLS-1$
+		return properties;
+	}
+
+	/**
+	 * Computes the digest of everything the generated script depends on: the
+	 * manifest and build properties of the bundle, the generation settings,
+	 * the sources of the bundle and the resolved bundles it depends on.
+	 */
+	private String computeScriptInputs() throws CoreException {
+		String location = getLocation(model);
+		BuildInputDigests.Digest digest = new BuildInputDigests.Digest();
+		digest.add(BundleHelper.getDefault().getBundle().getVersion());
+		digest.add(location).add(buildScriptFileName);
+		digest.addFile(new File(location, JarFile.MANIFEST_NAME));
+		digest.addFile(new File(location, propertiesFileName));
+		digest.add(new TreeMap<>(getBuildProperties()));
+		digest.add(signJars).add(sourceReferences).add(isPlatformIndependentIncluded()).add(isIgnoreMissingPropertiesFile());
+		digest.add(Arrays.toString(getPluginPath()));
+		digest.add(devEntries == null ? null : Arrays.toString(devEntries.getDevClassPath(model.getSymbolicName())));
+		digest.add(associatedEntry == null ? null : associatedEntry + "," + associatedEntry.isUnpack()); //$NON-NLS-1$
+		digest.add(getConfigInfos());
+		digest.add(getSignificantAntProperties());
+		digest.add(workspaceOutputFolders == null ? null : new TreeMap<>(workspaceOutputFolders));
+
+		TreeMap<Object, Object> bundleProperties = new TreeMap<>();
+		((Properties) model.getUserObject()).forEach((key, value) -> {
+			if (value instanceof String || value instanceof Boolean) {
+				bundleProperties.put(key, value);
+			}
+		});
+		digest.add(bundleProperties);
+
+		if (featureGenerator != null) {
+			Set<BundleDescription> sources = featureGenerator.sourceToGather.getElementEntries().get(model.getSymbolicName());
+			if (sources != null) {
+				for (BundleDescription source : sources) {
+					digest.add(source.getLocation());
+				}
+			}
+		}
+
+		BuildInputDigests digests = getInputDigests();
+		digest.add(digests.getSourceDigest(model));
+		TreeMap<String, BundleDescription> prerequisites = new TreeMap<>();
+		Deque<BundleDescription> toVisit = new ArrayDeque<>();
+		toVisit.add(model);
+		while (!toVisit.isEmpty()) {
+			BundleDescription bundle = toVisit.poll();
+			if (prerequisites.putIfAbsent(getNormalizedName(bundle) + '@' + bundle.getLocation(), bundle) != null) {
+				continue;
+			}
+			toVisit.addAll(Arrays.asList(bundle.getResolvedRequires()));
+			for (ExportPackageDescription imported : bundle.getResolvedImports()) {
+				toVisit.add(imported.getExporter());
+			}
+			HostSpecification host = bundle.getHost();
+			if (host != null && host.getHosts() != null) {
+				toVisit.addAll(Arrays.asList(host.getHosts()));
+			}
+			toVisit.addAll(Arrays.asList(bundle.getFragments()));
+		}
+		for (Entry<String, BundleDescription> prerequisite : prerequisites.entrySet()) {
+			BundleDescription bundle = prerequisite.getValue();
+			boolean compiled = getCompiledElements().contains(getNormalizedName(bundle));
+			digest.add(prerequisite.getKey()).add(compiled).add(Arrays.toString(getClasspathEntries(bundle)));
+			if (compiled) {
+				digest.add(digests.getSourceDigest(bundle));
+			}
+		}
+		return digest.get();
+	}
+
+	/**
+	 * Keeps the script generated by a previous run if its recorded inputs
+	 * match the current ones, and the nested jars it extracts still get the
+	 * same folders.
+	 */
+	private boolean reuseRecordedScript(String scriptLocation) {
+		Properties recorded = BuildInputDigests.readRecordedDigest(scriptLocation, buildScriptFileName);
+		if (!BuildInputDigests.matches(recorded, scriptInputs)) {
+			return false;
+		}
+		for (Entry<String, String> extracted : BuildInputDigests.getExtractedRoots(recorded).entrySet()) {
+			if (featureGenerator == null || !featureGenerator.reuseExtractedRoot(extracted.getKey(), extracted.getValue())) {
+				return false;
+			}
+		}
+		if (BundleHelper.getDefault().isDebugging()) {
+			System.out.println("Reusing unchanged script of plugin " + model.getSymbolicName()); //$NON-NLS-1$
+		}
+		return true;
+	}
+
+	private String getExtractedRoot(ClasspathElement element) {
+		String root = featureGenerator.getExtractedRoot(element);
+		if (element.getSubPath() != null) {
+			usedExtractedRoots.put(element.getAbsolutePath(), root);
+		}
+		return root;
 	}
 
 	public static String getNormalizedName(BundleDescription bundle) {
@@ -669,6 +840,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 	private void generatePublishBinPartsTarget() throws CoreException {
 		script.println();
 		script.printTargetDeclaration(TARGET_PUBLISH_BIN_PARTS, TARGET_INIT, PROPERTY_P2_PUBLISH_PARTS, PROPERTY_COMPILE_PROBLEM_MARKER_EXISTS, null);
+		generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), TARGET_PUBLISH_BIN_PARTS, true, null);
 		IPath destination = IPath.fromOSString(Utils.getPropertyFormat(PROPERTY_BUILD_RESULT_FOLDER));
 		destination = destination.append(fullName);
 		String root = destination.toString();
@@ -749,6 +921,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 				script.printEndTag("eclipse.gatherBundle"); //$NON-NLS-1$
 			}
 		}
+		generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), TARGET_PUBLISH_BIN_PARTS, false, null);
 		script.printTargetEnd();
 	}
 
@@ -771,6 +944,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 	private void generateGatherBinPartsTarget() throws CoreException {
 		script.println();
 		script.printTargetDeclaration(TARGET_GATHER_BIN_PARTS, TARGET_INIT, PROPERTY_DESTINATION_TEMP_FOLDER, null, null);
+		generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), TARGET_GATHER_BIN_PARTS, true, null);
 		IPath destination = IPath.fromOSString(Utils.getPropertyFormat(PROPERTY_DESTINATION_TEMP_FOLDER));
 		destination = destination.append(fullName);
 		String root = destination.toString();
@@ -790,6 +964,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			script.printSubantTask(Utils.getPropertyFormat(PROPERTY_CUSTOM_BUILD_CALLBACKS), PROPERTY_POST + TARGET_GATHER_BIN_PARTS, customCallbacksBuildpath, customCallbacksFailOnError, customCallbacksInheritAll, params, null);
 		}
 
+		generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), TARGET_GATHER_BIN_PARTS, false, null);
 		script.printTargetEnd();
 	}
 
@@ -1042,6 +1217,9 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		script.printProperty(PROPERTY_BUNDLE_ID, model.getSymbolicName());
 		script.printProperty(PROPERTY_BUNDLE_VERSION, model.getVersion().toString());
 		script.printProperty(PROPERTY_P2_PUBLISHONERROR, FALSE);
+		if (localBuildCache != null) {
+			script.printProperty(PROPERTY_LOCAL_BUILD_CACHE, localBuildCache);
+		}
 		script.println();
 
 		if (customBuildCallbacks != null && !customBuildCallbacks.equals(FALSE)) {
@@ -1298,7 +1476,15 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		}
 		for (CompiledEntry compiledJarName : compiledJarNames) {
 			String name = compiledJarName.getName(false);
-			script.printAvailableTask(name, replaceVariables(getJARLocation(name), true));
+			String compileDigest = compileDigests.get(name);
+			if (compileDigest == null) {
+				script.printAvailableTask(name, replaceVariables(getJARLocation(name), true));
+			} else {
+				generateUpToDateCondition(name, compileDigest);
+			}
+			if (localBuildCache != null) {
+				generateBuildCacheTask(compiledJarName, ACTION_RESTORE);
+			}
 			script.printAntCallTask(name, true, null);
 		}
 		if (customBuildCallbacks != null) {
@@ -1308,6 +1494,9 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		script.println();
 
 		generateCheckCompilationTask(pluginModel);
+		if (!compileDigests.isEmpty()) {
+			generateRecordCompileDigestTask();
+		}
 
 		script.printTargetDeclaration(TARGET_BUILD_SOURCES, TARGET_INIT, null, null, null);
 		if (customBuildCallbacks != null) {
@@ -1325,6 +1514,71 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		script.printTargetEnd();
 	}
 
+	/**
+	 * Restores the jar from the local build cache or stores it there. The
+	 * cache key covers the sources, the bundle files and compiler settings
+	 * that influence the compilation, and the contents of the classpath.
+	 */
+	private void generateBuildCacheTask(CompiledEntry entry, String action) {
+		String name = entry.getName(false);
+		Map<String, String> arguments = new LinkedHashMap<>();
+		arguments.put("cacheDir", Utils.getPropertyFormat(PROPERTY_LOCAL_BUILD_CACHE)); //$NON-NLS-1$
+		arguments.put("action", action); //$NON-NLS-1$
+		arguments.put("output", replaceVariables(getJARLocation(entry.getName(true)), true)); //$NON-NLS-1$
+		if (ACTION_RESTORE.equals(action)) {
+			arguments.put("property", name); //$NON-NLS-1$
+		} else if (generateErrorPropertyAttribute) {
+			arguments.put("errorProperty", PROPERTY_COMPILATION_ERROR); //$NON-NLS-1$
+		}
+		arguments.put("sources", Utils.getStringFromArray(entry.getSource(), ",")); //$NON-NLS-1$ //$NON-NLS-2$
+		String files = PROPERTIES_FILE + ',' + JarFile.MANIFEST_NAME + ",.settings/org.eclipse.jdt.core.prefs"; //$NON-NLS-1$
+		if (warningProperties != null) {
+			files += ',' + warningProperties;
+		}
+		arguments.put("files", files + ",javaCompiler." + name.replaceAll("[\\\\/]", "_") + ".args"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		arguments.put("settings", Utils.getPropertyFormat(PROPERTY_BUNDLE_JAVAC_SOURCE) + ' ' + Utils.getPropertyFormat(PROPERTY_BUNDLE_JAVAC_TARGET) + ' ' + Utils.getPropertyFormat(PROPERTY_JAVAC_DEBUG_INFO) + ' ' + Utils.getPropertyFormat(PROPERTY_JAVAC_COMPILERARG) + ' ' + Utils.getPropertyFormat(PROPERTY_BUNDLE_BOOTCLASSPATH)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		script.printStartTag("eclipse.buildCache", arguments); //$NON-NLS-1$
+		script.incrementIdent();
+		script.printPathStructure("classpath", null, cachedClasspaths.get(name)); //$NON-NLS-1$
+		script.decrementIdent();
+		script.printEndTag("eclipse.buildCache"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Sets the property named after the jar when the jar exists and was
+	 * compiled from the same inputs, so that its compilation is skipped.
+	 */
+	private void generateUpToDateCondition(String name, String compileDigest) {
+		String jarLocation = replaceVariables(getJARLocation(name), true);
+		String digestLocation = jarLocation + BuildInputDigests.DIGEST_FILE_SUFFIX;
+		script.printConditionStart(name, TRUE, null);
+		script.printStartTag("and"); //$NON-NLS-1$
+		script.incrementIdent();
+		Map<String, String> arguments = new LinkedHashMap<>();
+		arguments.put("file", jarLocation); //$NON-NLS-1$
+		script.printElement("available", arguments); //$NON-NLS-1$
+		arguments.put("file", digestLocation); //$NON-NLS-1$
+		script.printElement("available", arguments); //$NON-NLS-1$
+		arguments.clear();
+		arguments.put("resource", digestLocation); //$NON-NLS-1$
+		arguments.put("substring", compileDigest); //$NON-NLS-1$
+		script.printElement("resourcecontains", arguments); //$NON-NLS-1$
+		script.decrementIdent();
+		script.printEndTag("and"); //$NON-NLS-1$
+		script.printEndCondition();
+	}
+
+	/**
+	 * Records the digest of the inputs a jar was compiled from, unless its
+	 * compilation failed.
+	 */
+	private void generateRecordCompileDigestTask() {
+		script.println();
+		script.printTargetDeclaration(TARGET_RECORD_COMPILE_DIGEST, null, null, PROPERTY_COMPILATION_ERROR, null);
+		script.printEchoTask(Utils.getPropertyFormat(PROPERTY_COMPILE_DIGEST_FILE), Utils.getPropertyFormat(PROPERTY_COMPILE_DIGEST));
+		script.printTargetEnd();
+	}
+
 	private void generateCheckCompilationTask(BundleDescription pluginModel) throws CoreException {
 		script.printTargetDeclaration(TARGET_CHECK_COMPILATION_RESULTS, null, PROPERTY_COMPILATION_ERROR, null, null);
 		script.printEchoTask(Utils.getPropertyFormat(PROPERTY_COMPILE_PROBLEM_MARKER), getNormalizedName(pluginModel) + "${line.separator}" + PROPERTY_COMPILATION_ERROR + "=" + Utils.getPropertyFormat(PROPERTY_COMPILATION_ERROR)); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1467,7 +1721,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 								if (element.getSubPath() == null) {
 									path = element.getPath();
 								} else {
-									path = featureGenerator.getExtractedRoot(element) + '/' + element.getSubPath();
+									path = getExtractedRoot(element) + '/' + element.getSubPath();
 								}
 
 								if (path.startsWith(Utils.getPropertyFormat(PROPERTY_BUILD_RESULT_FOLDER))) {
@@ -1516,7 +1770,7 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			if (element.getSubPath() == null) {
 				extracted.add(element);
 			} else {
-				String destPath = featureGenerator.getExtractedRoot(element);
+				String destPath = getExtractedRoot(element);
 				String destDir = Utils.getPropertyFormat(PROPERTY_BUILD_DIRECTORY) + '/' + "nestedJars" + '/' + destPath.toString(); //$NON-NLS-1$
 				script.printMkdirTask(destDir);
 				script.printUnzipTask(element.getPath(), destDir, false, element.getSubPath(), null);
@@ -1541,12 +1795,32 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		//extract nested jars and update the classpath with the new locations
 		List<Object> extractedPath = generateExtractNestedJars(classpath, entry);
 
+		if (localBuildCache != null) {
+			cachedClasspaths.put(name, classpath != null ? classpath : new ArrayList<>());
+		}
+
+		String compileDigest = null;
+		// without the error property a failed compilation cannot be told apart
+		if (scriptInputs != null && generateErrorPropertyAttribute) {
+			BuildInputDigests.Digest digest = new BuildInputDigests.Digest().add(scriptInputs).add(name);
+			if (classpath != null) {
+				for (Object element : classpath) {
+					digest.add(element);
+				}
+			}
+			compileDigest = digest.get();
+			compileDigests.put(name, compileDigest);
+		}
+
 		String depends = TARGET_INIT + "," + name + TARGET_NESTED_JARS; //$NON-NLS-1$
 		script.printTargetDeclaration(name, depends, null, entry.getName(true), NLS.bind(Messages.build_plugin_jar, model.getSymbolicName() + ' ' + name));
 		String destdir = (entry.getType() == CompiledEntry.FOLDER) ? getJARLocation(entry.getName(true)) : getTempJARFolderLocation(entry.getName(true));
 		script.printDeleteTask(destdir, null, null);
 		script.printMkdirTask(destdir);
 		script.printPathStructure("path", name + PROPERTY_CLASSPATH, extractedPath); //$NON-NLS-1$
+		if (compileDigest != null) {
+			script.printDeleteTask(null, replaceVariables(getJARLocation(name), true) + BuildInputDigests.DIGEST_FILE_SUFFIX, null);
+		}
 
 		String[] sources = entry.getSource();
 		Map<String, String> params = null, references = null;
@@ -1630,7 +1904,9 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			}
 			generateCompilerSettings(javac, entry, classpath);
 
+			generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), STEP_COMPILE + name, true, null);
 			script.print(javac);
+			generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), STEP_COMPILE + name, false, null);
 		}
 
 		script.printAntCallTask(TARGET_CHECK_COMPILATION_RESULTS, true, null);
@@ -1661,11 +1937,13 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		String jarLocation = getJARLocation(entry.getName(true));
 		if (entry.getType() != CompiledEntry.FOLDER) {
 			script.printMkdirTask(IPath.fromOSString(jarLocation).removeLastSegments(1).toString());
+			generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), STEP_JAR + name, true, null);
 			if (workspaceFiles != null) {
 				script.printJarTask(jarLocation, destdir, workspaceFiles, getEmbeddedManifestFile(entry, destdir), null, "preserve"); //$NON-NLS-1$
 			} else {
 				script.printJarTask(jarLocation, destdir, getEmbeddedManifestFile(entry, destdir));
 			}
+			generateBuildTimer(model.getSymbolicName(), model.getVersion().toString(), STEP_JAR + name, false, null);
 			script.printDeleteTask(destdir, null, null);
 		}
 
@@ -1674,6 +1952,17 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			params.put(PROPERTY_JAR_LOCATION, jarLocation);
 			script.printSubantTask(Utils.getPropertyFormat(PROPERTY_CUSTOM_BUILD_CALLBACKS), PROPERTY_POST + name, customCallbacksBuildpath, customCallbacksFailOnError, customCallbacksInheritAll, params, references);
 		}
+		if (compileDigest != null) {
+			// only record the digest when the jar compiled without errors,
+			// otherwise a failed compilation would be skipped from now on
+			Map<String, String> digestParams = new HashMap<>(2);
+			digestParams.put(PROPERTY_COMPILE_DIGEST_FILE, replaceVariables(getJARLocation(name), true) + BuildInputDigests.DIGEST_FILE_SUFFIX);
+			digestParams.put(PROPERTY_COMPILE_DIGEST, compileDigest);
+			script.printAntCallTask(TARGET_RECORD_COMPILE_DIGEST, true, digestParams);
+		}
+		if (localBuildCache != null) {
+			generateBuildCacheTask(entry, ACTION_STORE);
+		}
 		script.printTargetEnd();
 	}
 
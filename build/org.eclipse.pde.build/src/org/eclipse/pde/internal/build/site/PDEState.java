@@ -63,6 +63,7 @@ import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
 import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.PDEUIStateWrapper;
+import org.eclipse.pde.internal.build.PhaseTimings;
 import org.eclipse.pde.internal.build.Utils;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
@@ -258,17 +259,24 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		Dictionary<String, String> manifest = loadManifestWithQualifier(bundleLocation);
 		if (manifest == null) {
 			return addFlexibleRoot(bundleLocation);
 		}
+		return addBundle(manifest, bundleLocation);
+	}
+
+	private Dictionary<String, String> loadManifestWithQualifier(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
+		if (manifest == null) {
+			return null;
+		}
 		try {
 			hasQualifier(bundleLocation, manifest);
 		} catch (BundleException e) {
 			//should not happen since we know the header
 		}
-		return addBundle(manifest, bundleLocation);
+		return manifest;
 	}
 
 	private boolean addFlexibleRoot(File bundleLocation) {
@@ -396,15 +404,38 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		// Manifests are loaded in parallel, but the bundles are added in the
+		// given order so that they get the same ids as when added one by one
+		long start = System.nanoTime();
+		List<File> locations = new ArrayList<>(bundles);
+		List<Dictionary<String, String>> manifests = locations.parallelStream().map(this::loadManifestWithQualifier).toList();
+		PhaseTimings.record(Messages.phase_loadManifests, start);
+
+		start = System.nanoTime();
+		for (int i = 0; i < locations.size(); i++) {
+			Dictionary<String, String> manifest = manifests.get(i);
+			if (manifest == null) {
+				addFlexibleRoot(locations.get(i));
+			} else {
+				addBundle(manifest, locations.get(i));
+			}
 		}
+		PhaseTimings.record(Messages.phase_addBundles, start);
 	}
 
 	@SuppressWarnings("deprecation")
 	private static final String FRAMEWORK_EXECUTIONENVIRONMENT = Constants.FRAMEWORK_EXECUTIONENVIRONMENT;
 
 	public void resolveState() {
+		long start = System.nanoTime();
+		try {
+			doResolveState();
+		} finally {
+			PhaseTimings.record(Messages.phase_resolveState, start);
+		}
+	}
+
+	private void doResolveState() {
 		List<Config> configs = AbstractScriptGenerator.getConfigInfos();
 		List<Dictionary<String, Object>> properties = new ArrayList<>(); //Collection of dictionaries
 
@@ -916,7 +947,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		this.eeSources = eeSources;
 	}
 
-	public ProfileManager getProfileManager() {
+	public synchronized ProfileManager getProfileManager() {
 		if (profileManager == null) {
 			profileManager = new ProfileManager(eeSources, true);
 		}
@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.apache.tools.ant.types.Path.PathElement;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.Utils;
+
+/**
+ * Restores the output of a compiled jar from a local cache, or stores it there
+ * after compilation. Outputs are stored under a key derived from the contents
+ * of the sources, the given bundle files, the compiler settings and the
+ * classpath.
+ */
+public class BuildCacheTask extends Task {
+	private static final String ACTION_RESTORE = "restore"; //$NON-NLS-1$
+	private static final String ACTION_STORE = "store"; //$NON-NLS-1$
+	private static final String ANT_PREFIX = "${"; //$NON-NLS-1$
+
+	/** Digests of file contents by path, size and modification time, shared by all builds of this VM */
+	private static final Map<String, String> FILE_DIGESTS = new ConcurrentHashMap<>();
+
+	private String cacheDir = null;
+	private String action = ACTION_RESTORE;
+	private String output = null;
+	private String property = null;
+	private String errorProperty = null;
+	private String sources = null;
+	private String files = null;
+	private String settings = null;
+	private org.apache.tools.ant.types.Path classpath = null;
+
+	@Override
+	public void execute() throws BuildException {
+		if (cacheDir == null || cacheDir.length() == 0 || cacheDir.startsWith(ANT_PREFIX) || output == null) {
+			return;
+		}
+		if (ACTION_RESTORE.equals(action)) {
+			if (property != null && getProject().getProperty(property) != null) {
+				return;
+			}
+			restore();
+		} else if (ACTION_STORE.equals(action)) {
+			if (errorProperty != null && getProject().getProperty(errorProperty) != null) {
+				return;
+			}
+			store();
+		} else {
+			throw new BuildException("Unknown action: " + action, getLocation()); //$NON-NLS-1$
+		}
+	}
+
+	private void restore() {
+		Path entry = getCacheEntry();
+		if (!Files.exists(entry)) {
+			return;
+		}
+		Path target = getProject().resolveFile(output).toPath();
+		try {
+			deleteRecursively(target);
+			copyRecursively(entry.resolve(target.getFileName().toString()), target);
+		} catch (IOException e) {
+			log(NLS.bind(TaskMessages.warning_buildCacheRestore, new Object[] {output, entry, e.getMessage()}), Project.MSG_WARN);
+			return;
+		}
+		log(NLS.bind(TaskMessages.info_buildCacheRestored, output, entry), Project.MSG_VERBOSE);
+		if (property != null) {
+			getProject().setNewProperty(property, "true"); //$NON-NLS-1$
+		}
+	}
+
+	private void store() {
+		Path source = getProject().resolveFile(output).toPath();
+		Path entry = getCacheEntry();
+		if (!Files.exists(source) || Files.exists(entry)) {
+			return;
+		}
+		// copy to a temporary entry first so that concurrent builds never see a partial entry
+		Path temp = entry.resolveSibling(entry.getFileName() + "." + ProcessHandle.current().pid() + '.' + Thread.currentThread().getId()); //$NON-NLS-1$
+		try {
+			copyRecursively(source, temp.resolve(source.getFileName().toString()));
+			Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+			log(NLS.bind(TaskMessages.info_buildCacheStored, output, entry), Project.MSG_VERBOSE);
+		} catch (IOException e) {
+			// another build may have stored the same entry in the meantime
+			if (Files.exists(entry)) {
+				return;
+			}
+			log(NLS.bind(TaskMessages.warning_buildCacheStore, new Object[] {output, entry, e.getMessage()}), Project.MSG_WARN);
+		} finally {
+			try {
+				deleteRecursively(temp);
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	private Path getCacheEntry() {
+		return new File(cacheDir).toPath().resolve(computeKey());
+	}
+
+	private String computeKey() {
+		MessageDigest digest = newDigest();
+		File baseDir = getProject().getBaseDir();
+		update(digest, new File(output).getName());
+		update(digest, settings);
+		if (files != null) {
+			for (String file : Utils.getArrayFromString(files)) {
+				update(digest, file);
+				update(digest, digestOf(new File(baseDir, file).toPath()));
+			}
+		}
+		if (sources != null) {
+			for (String source : Utils.getArrayFromString(sources)) {
+				update(digest, source);
+				update(digest, digestOf(new File(baseDir, source).toPath()));
+			}
+		}
+		if (classpath != null) {
+			for (String element : classpath.list()) {
+				File file = new File(element);
+				update(digest, file.getName());
+				update(digest, digestOf(file.toPath()));
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Returns the digest of the contents of a file, or of the relative paths
+	 * and contents of all the files under a folder.
+	 */
+	private static String digestOf(Path path) {
+		if (Files.isRegularFile(path)) {
+			return digestOfFile(path);
+		}
+		if (!Files.isDirectory(path)) {
+			return ""; //$NON-NLS-1$
+		}
+		MessageDigest digest = newDigest();
+		try (Stream<Path> walk = Files.walk(path)) {
+			List<Path> children = walk.filter(Files::isRegularFile).sorted().toList();
+			for (Path child : children) {
+				update(digest, path.relativize(child).toString().replace('\\', '/'));
+				update(digest, digestOfFile(child));
+			}
+		} catch (IOException e) {
+			update(digest, e.getMessage());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String digestOfFile(Path file) {
+		File f = file.toFile();
+		String key = f.getAbsolutePath() + '|' + f.length() + '|' + f.lastModified();
+		return FILE_DIGESTS.computeIfAbsent(key, k -> {
+			MessageDigest digest = newDigest();
+			try (InputStream input = Files.newInputStream(file)) {
+				byte[] buffer = new byte[8192];
+				int read;
+				while ((read = input.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+				}
+			} catch (IOException e) {
+				update(digest, e.getMessage());
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		});
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new BuildException(e);
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) '\n');
+	}
+
+	private static void copyRecursively(Path source, Path target) throws IOException {
+		if (!Files.isDirectory(source)) {
+			Files.createDirectories(target.getParent());
+			Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+			return;
+		}
+		try (Stream<Path> walk = Files.walk(source)) {
+			for (Path child : walk.toList()) {
+				Path destination = target.resolve(source.relativize(child).toString());
+				if (Files.isDirectory(child)) {
+					Files.createDirectories(destination);
+				} else {
+					Files.copy(child, destination, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+	}
+
+	private static void deleteRecursively(Path path) throws IOException {
+		if (!Files.exists(path)) {
+			return;
+		}
+		try (Stream<Path> walk = Files.walk(path)) {
+			for (Path child : walk.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(child);
+			}
+		}
+	}
+
+	/**
+	 * Set the folder holding the cached outputs. Nothing is done if it is not set.
+	 */
+	public void setCacheDir(String cacheDir) {
+		this.cacheDir = cacheDir;
+	}
+
+	/**
+	 * Set the action to perform, either <code>restore</code> or <code>store</code>.
+	 */
+	public void setAction(String action) {
+		this.action = action;
+	}
+
+	/**
+	 * Set the jar file or folder produced by the compilation.
+	 */
+	public void setOutput(String output) {
+		this.output = output;
+	}
+
+	/**
+	 * Set the property to set when the output has been restored. Nothing is
+	 * restored if this property is already set.
+	 */
+	public void setProperty(String property) {
+		this.property = property;
+	}
+
+	/**
+	 * Set the name of the property indicating compilation errors. Nothing is
+	 * stored if this property is set.
+	 */
+	public void setErrorProperty(String errorProperty) {
+		this.errorProperty = errorProperty;
+	}
+
+	/**
+	 * Set the comma separated source folders, relative to the base directory.
+	 */
+	public void setSources(String sources) {
+		this.sources = sources;
+	}
+
+	/**
+	 * Set the comma separated files of the bundle that influence the
+	 * compilation, relative to the base directory.
+	 */
+	public void setFiles(String files) {
+		this.files = files;
+	}
+
+	/**
+	 * Set the compiler settings.
+	 */
+	public void setSettings(String settings) {
+		this.settings = settings;
+	}
+
+	public org.apache.tools.ant.types.Path createClasspath() {
+		if (classpath == null) {
+			classpath = new org.apache.tools.ant.types.Path(getProject());
+		}
+		return classpath;
+	}
+
+	/**
+	 * Convenience for a single classpath element.
+	 */
+	public PathElement createPathElement() {
+		return createClasspath().createPathElement();
+	}
+}
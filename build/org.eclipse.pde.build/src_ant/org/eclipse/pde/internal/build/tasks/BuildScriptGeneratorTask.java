@@ -18,16 +18,21 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.BuildScriptGenerator;
 import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.IBuildPropertiesConstants;
+import org.eclipse.pde.internal.build.PhaseTimings;
 import org.eclipse.pde.internal.build.Utils;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
 import org.eclipse.pde.internal.build.site.ProfileManager;
@@ -116,8 +121,20 @@ public class BuildScriptGeneratorTask extends Task {
 		}
 		generator.setImmutableAntProperties(antProperties);
 		BundleHelper.getDefault().setLog(this);
-		generator.generate();
-		BundleHelper.getDefault().setLog(null);
+		PhaseTimings.reset();
+		try {
+			generator.generate();
+		} finally {
+			BundleHelper.getDefault().setLog(null);
+			reportPhaseTimings();
+		}
+	}
+
+	private void reportPhaseTimings() {
+		for (Map.Entry<String, Long> timing : PhaseTimings.getTimings().entrySet()) {
+			long millis = TimeUnit.NANOSECONDS.toMillis(timing.getValue().longValue());
+			log(NLS.bind(TaskMessages.info_phaseTiming, timing.getKey(), Long.valueOf(millis)), Project.MSG_VERBOSE);
+		}
 	}
 
 	private void initializeAntProperties(Properties properties) {
@@ -150,6 +167,16 @@ public class BuildScriptGeneratorTask extends Task {
 		if (value != null) {
 			properties.put(IBuildPropertiesConstants.PROPERTY_ANT_VERSION, value);
 		}
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_LOCAL_BUILD_CACHE);
+		if (value != null && value.length() > 0) {
+			properties.put(IBuildPropertiesConstants.PROPERTY_LOCAL_BUILD_CACHE, value);
+		}
+
+		value = getProject().getProperty(IBuildPropertiesConstants.PROPERTY_BUILD_TIMING_REPORT);
+		if (value != null && value.length() > 0) {
+			properties.put(IBuildPropertiesConstants.PROPERTY_BUILD_TIMING_REPORT, value);
+		}
 	}
 
 	private void setEEProfileProperties(Properties antProperties) {
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Records the time spent in a step of the build of an element. The step is
+ * started and stopped by two invocations of this task, and the timing is
+ * appended to the <code>timings.csv</code> file of the report folder when it
+ * stops.
+ */
+public class BuildTimerTask extends Task {
+	public static final String TIMINGS_FILE = "timings.csv"; //$NON-NLS-1$
+	public static final String TIMINGS_HEADER = "element,version,step,start,end,duration,thread,after"; //$NON-NLS-1$
+
+	private static final String ACTION_START = "start"; //$NON-NLS-1$
+	private static final String ACTION_STOP = "stop"; //$NON-NLS-1$
+	private static final String ANT_PREFIX = "${"; //$NON-NLS-1$
+
+	/** Start times of the steps being timed, by report, element, version and step */
+	private static final Map<String, Long> STARTS = new ConcurrentHashMap<>();
+	private static final Object LOCK = new Object();
+
+	private String report = null;
+	private String element = null;
+	private String version = null;
+	private String step = null;
+	private String action = ACTION_START;
+	private String after = null;
+
+	@Override
+	public void execute() throws BuildException {
+		if (report == null || report.length() == 0 || report.startsWith(ANT_PREFIX) || element == null || step == null) {
+			return;
+		}
+		String key = report + '|' + element + '|' + version + '|' + step;
+		if (ACTION_START.equals(action)) {
+			STARTS.put(key, Long.valueOf(System.currentTimeMillis()));
+		} else if (ACTION_STOP.equals(action)) {
+			Long start = STARTS.remove(key);
+			if (start != null) {
+				record(start.longValue(), System.currentTimeMillis());
+			}
+		} else {
+			throw new BuildException("Unknown action: " + action, getLocation()); //$NON-NLS-1$
+		}
+	}
+
+	private void record(long start, long end) {
+		StringBuilder line = new StringBuilder();
+		line.append(element).append(',');
+		if (version != null) {
+			line.append(version);
+		}
+		line.append(',');
+		line.append(step).append(',');
+		line.append(start).append(',');
+		line.append(end).append(',');
+		line.append(end - start).append(',');
+		line.append(Thread.currentThread().getName().replace(',', ' ')).append(',');
+		if (after != null) {
+			line.append(after.replace(',', ';'));
+		}
+		line.append('\n');
+
+		File file = new File(report, TIMINGS_FILE);
+		synchronized (LOCK) {
+			try {
+				boolean exists = file.isFile();
+				if (!exists) {
+					file.getParentFile().mkdirs();
+				}
+				try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+					if (!exists) {
+						writer.write(TIMINGS_HEADER);
+						writer.write('\n');
+					}
+					writer.write(line.toString());
+				}
+			} catch (IOException e) {
+				log(NLS.bind(TaskMessages.warning_buildTimings, file, e.getMessage()), Project.MSG_WARN);
+			}
+		}
+	}
+
+	/**
+	 * Set the folder of the timing report. Nothing is recorded if it is not set.
+	 */
+	public void setReport(String report) {
+		this.report = report;
+	}
+
+	/**
+	 * Set the element being built.
+	 */
+	public void setElement(String element) {
+		this.element = element;
+	}
+
+	/**
+	 * Set the version of the element being built.
+	 */
+	public void setVersion(String version) {
+		this.version = version;
+	}
+
+	/**
+	 * Set the step of the build of the element.
+	 */
+	public void setStep(String step) {
+		this.step = step;
+	}
+
+	/**
+	 * Set the action to perform, either <code>start</code> or <code>stop</code>.
+	 */
+	public void setAction(String action) {
+		this.action = action;
+	}
+
+	/**
+	 * Set the comma separated elements, as <code>id_version</code>, that must
+	 * be built before this step can start.
+	 */
+	public void setAfter(String after) {
+		this.after = after;
+	}
+}
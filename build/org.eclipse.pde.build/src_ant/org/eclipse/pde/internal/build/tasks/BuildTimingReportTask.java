@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.IXMLConstants;
+import org.eclipse.pde.internal.build.Utils;
+
+/**
+ * Summarizes the timings recorded by {@link BuildTimerTask} in the report
+ * folder. The timings of each element are written to <code>timings.json</code>
+ * along with the critical path of the compilation: the chain of elements that
+ * had to be compiled one after the other, following the order in which the
+ * compile scripts run them, that took the longest time. The critical path is
+ * also written to <code>criticalPath.txt</code> and logged.
+ */
+public class BuildTimingReportTask extends Task {
+	public static final String REPORT_FILE = "timings.json"; //$NON-NLS-1$
+	public static final String CRITICAL_PATH_FILE = "criticalPath.txt"; //$NON-NLS-1$
+
+	private static final String ANT_PREFIX = "${"; //$NON-NLS-1$
+
+	private String report = null;
+
+	private static class Timing {
+		String element;
+		String version;
+		String step;
+		long start;
+		long end;
+		long duration;
+		String thread;
+		String[] after;
+
+		/**
+		 * Returns the element as <code>id_version</code>, as it is referred to
+		 * by the elements built after it.
+		 */
+		String getId() {
+			return version.length() == 0 ? element : element + '_' + version;
+		}
+	}
+
+	@Override
+	public void execute() throws BuildException {
+		if (report == null || report.length() == 0 || report.startsWith(ANT_PREFIX)) {
+			return;
+		}
+		File timingsFile = new File(report, BuildTimerTask.TIMINGS_FILE);
+		if (!timingsFile.isFile()) {
+			return;
+		}
+
+		Map<String, List<Timing>> elements = new LinkedHashMap<>();
+		try {
+			for (String line : Files.readAllLines(timingsFile.toPath(), StandardCharsets.UTF_8)) {
+				Timing timing = parse(line);
+				if (timing != null) {
+					elements.computeIfAbsent(timing.getId(), e -> new ArrayList<>()).add(timing);
+				}
+			}
+		} catch (IOException e) {
+			throw new BuildException(NLS.bind(TaskMessages.warning_buildTimings, timingsFile, e.getMessage()), e, getLocation());
+		}
+
+		List<Timing> criticalPath = computeCriticalPath(elements);
+		long criticalDuration = 0;
+		for (Timing timing : criticalPath) {
+			criticalDuration += timing.duration;
+		}
+
+		StringBuilder summary = new StringBuilder();
+		summary.append(NLS.bind(TaskMessages.info_criticalPath, Long.valueOf(criticalDuration), Integer.valueOf(criticalPath.size())));
+		summary.append('\n');
+		for (Timing timing : criticalPath) {
+			summary.append(NLS.bind(TaskMessages.info_phaseTiming, timing.getId(), Long.valueOf(timing.duration)));
+			summary.append('\n');
+		}
+		log(summary.toString());
+
+		try {
+			Files.writeString(new File(report, REPORT_FILE).toPath(), toJson(elements, criticalPath, criticalDuration), StandardCharsets.UTF_8);
+			Files.writeString(new File(report, CRITICAL_PATH_FILE).toPath(), summary, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			log(NLS.bind(TaskMessages.warning_buildTimings, report, e.getMessage()), Project.MSG_WARN);
+		}
+	}
+
+	private static Timing parse(String line) {
+		if (line.length() == 0 || line.equals(BuildTimerTask.TIMINGS_HEADER)) {
+			return null;
+		}
+		String[] fields = line.split(",", -1); //$NON-NLS-1$
+		if (fields.length < 8) {
+			return null;
+		}
+		Timing timing = new Timing();
+		timing.element = fields[0];
+		timing.version = fields[1];
+		timing.step = fields[2];
+		try {
+			timing.start = Long.parseLong(fields[3]);
+			timing.end = Long.parseLong(fields[4]);
+			timing.duration = Long.parseLong(fields[5]);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		timing.thread = fields[6];
+		timing.after = Utils.getArrayFromString(fields[7], ";"); //$NON-NLS-1$
+		return timing;
+	}
+
+	/**
+	 * The compilation of an element starts once the elements it is recorded to
+	 * come after are compiled, so the critical path is the longest chain of
+	 * compilations through these relations.
+	 */
+	private static List<Timing> computeCriticalPath(Map<String, List<Timing>> elements) {
+		Map<String, Timing> compilations = new LinkedHashMap<>();
+		for (List<Timing> timings : elements.values()) {
+			for (Timing timing : timings) {
+				if (IXMLConstants.TARGET_BUILD_JARS.equals(timing.step)) {
+					compilations.put(timing.getId(), timing);
+				}
+			}
+		}
+
+		List<Timing> ordered = new ArrayList<>(compilations.values());
+		ordered.sort(Comparator.comparingLong(t -> t.start));
+		Map<String, Long> finish = new HashMap<>();
+		Map<String, String> previous = new HashMap<>();
+		String last = null;
+		for (Timing timing : ordered) {
+			long longest = 0;
+			for (String after : timing.after) {
+				Long time = finish.get(after);
+				if (time != null && time.longValue() > longest) {
+					longest = time.longValue();
+					previous.put(timing.getId(), after);
+				}
+			}
+			finish.put(timing.getId(), Long.valueOf(longest + timing.duration));
+			if (last == null || finish.get(last).longValue() < longest + timing.duration) {
+				last = timing.getId();
+			}
+		}
+
+		List<Timing> path = new ArrayList<>();
+		for (String element = last; element != null; element = previous.get(element)) {
+			path.add(compilations.get(element));
+		}
+		Collections.reverse(path);
+		return path;
+	}
+
+	private static String toJson(Map<String, List<Timing>> elements, List<Timing> criticalPath, long criticalDuration) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"elements\": ["); //$NON-NLS-1$
+		boolean firstElement = true;
+		for (Map.Entry<String, List<Timing>> element : elements.entrySet()) {
+			json.append(firstElement ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			firstElement = false;
+			Timing first = element.getValue().get(0);
+			json.append("    {\"element\": ").append(quote(first.element)); //$NON-NLS-1$
+			json.append(", \"version\": ").append(quote(first.version)).append(", \"steps\": ["); //$NON-NLS-1$ //$NON-NLS-2$
+			boolean firstStep = true;
+			for (Timing timing : element.getValue()) {
+				json.append(firstStep ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				firstStep = false;
+				json.append("      {\"step\": ").append(quote(timing.step)); //$NON-NLS-1$
+				json.append(", \"start\": ").append(timing.start); //$NON-NLS-1$
+				json.append(", \"end\": ").append(timing.end); //$NON-NLS-1$
+				json.append(", \"duration\": ").append(timing.duration); //$NON-NLS-1$
+				json.append(", \"thread\": ").append(quote(timing.thread)).append('}'); //$NON-NLS-1$
+			}
+			json.append("\n    ]}"); //$NON-NLS-1$
+		}
+		json.append("\n  ],\n  \"criticalPath\": {\"duration\": ").append(criticalDuration).append(", \"elements\": ["); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < criticalPath.size(); i++) {
+			Timing timing = criticalPath.get(i);
+			json.append(i == 0 ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			json.append("    {\"element\": ").append(quote(timing.element)).append(", \"version\": ").append(quote(timing.version)); //$NON-NLS-1$ //$NON-NLS-2$
+			json.append(", \"duration\": ").append(timing.duration).append('}'); //$NON-NLS-1$
+		}
+		json.append("\n  ]}\n}\n"); //$NON-NLS-1$
+		return json.toString();
+	}
+
+	private static String quote(String value) {
+		StringBuilder result = new StringBuilder(value.length() + 2);
+		result.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				result.append('\\').append(c);
+			} else if (c < 0x20) {
+				result.append(String.format("\\u%04x", Integer.valueOf(c))); //$NON-NLS-1$
+			} else {
+				result.append(c);
+			}
+		}
+		return result.append('"').toString();
+	}
+
+	/**
+	 * Set the folder of the timing report.
+	 */
+	public void setReport(String report) {
+		this.report = report;
+	}
+}
@@ -43,6 +43,14 @@ public class TaskMessages extends NLS {
 	public static String error_licenseRootWithoutLicenseRef;
 	public static String error_conflictingProperties;
 
+	public static String info_phaseTiming;
+	public static String info_buildCacheRestored;
+	public static String info_buildCacheStored;
+	public static String warning_buildCacheRestore;
+	public static String warning_buildCacheStore;
+	public static String info_criticalPath;
+	public static String warning_buildTimings;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, TaskMessages.class);
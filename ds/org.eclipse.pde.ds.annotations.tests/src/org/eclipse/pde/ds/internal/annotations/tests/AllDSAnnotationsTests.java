@@ -20,6 +20,9 @@ import org.junit.platform.suite.api.Suite;
 	FullComponentTest.class,
 	ExtendedReferenceMethodComponentTest.class,
 	ExtendedLifeCycleMethodComponentTest.class,
+	ProjectStateStoreTest.class,
+	ComponentSourceFilterTest.class,
+	ConcurrentProcessingTest.class,
 })
 public class AllDSAnnotationsTests {
 	// Suite class - no setup needed here
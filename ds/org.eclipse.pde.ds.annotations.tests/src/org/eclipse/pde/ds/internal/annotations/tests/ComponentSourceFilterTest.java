@@ -0,0 +1,56 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.pde.ds.internal.annotations.ComponentSourceFilter;
+import org.junit.jupiter.api.Test;
+
+public class ComponentSourceFilterTest {
+
+	@Test
+	public void noComponent() {
+		assertFalse(mayContainComponent("package a; public class A { @Override public String toString() { return \"\"; } }"));
+	}
+
+	@Test
+	public void componentNotAnnotation() {
+		assertFalse(mayContainComponent("""
+				package a;
+				// @Component
+				/** Not a {@link Component}. */
+				public class A extends Component {
+					String s = "@Component";
+				}
+				"""));
+	}
+
+	@Test
+	public void importedComponent() {
+		assertTrue(mayContainComponent("""
+				package a;
+				import org.osgi.service.component.annotations.*;
+				@Deprecated @Component(service = A.class)
+				public class A {}
+				"""));
+	}
+
+	@Test
+	public void qualifiedComponent() {
+		assertTrue(mayContainComponent("package a; @ org . osgi.service.component.annotations /* */ .Component public class A {}"));
+	}
+
+	@Test
+	public void secondaryTypeComponent() {
+		assertTrue(mayContainComponent("package a; public class A {} @Component class B {}"));
+	}
+
+	@Test
+	public void escapedComponent() {
+		assertTrue(mayContainComponent("package a; @Comp\\u006fnent public class A {}"));
+	}
+
+	private static boolean mayContainComponent(String source) {
+		return ComponentSourceFilter.mayContainComponent(source.toCharArray());
+	}
+}
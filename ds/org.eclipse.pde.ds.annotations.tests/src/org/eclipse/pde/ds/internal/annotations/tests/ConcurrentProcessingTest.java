@@ -0,0 +1,174 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Processes the compilation units of all test projects in one call, once on
+ * the builder thread only and once concurrently, and compares the generated
+ * component descriptors and the order of the reported problems.
+ */
+public class ConcurrentProcessingTest extends TestBase {
+
+	private static final String[] PROJECTS = { "ds.annotations.test0", "ds.annotations.test1", "ds.annotations.test2" };
+
+	@AfterEach
+	public void restoreDescriptors() throws Exception {
+		process(new DSAnnotationCompilationParticipant(1));
+	}
+
+	@Test
+	public void concurrentProcessingMatchesSerialProcessing() throws Exception {
+		Map<String, String> serial = process(new DSAnnotationCompilationParticipant(1));
+		Map<String, String> concurrent = process(new DSAnnotationCompilationParticipant(PROJECTS.length));
+
+		assertFalse(serial.isEmpty());
+		assertEquals(serial, concurrent);
+	}
+
+	@Test
+	public void failedProjectSkipped() throws Exception {
+		Map<String, String> serial = process(new DSAnnotationCompilationParticipant(1));
+		// the job of a project without build context fails
+		Map<String, String> concurrent = process(new DSAnnotationCompilationParticipant(PROJECTS.length),
+				new NullProgressMonitor(), PROJECTS[2]);
+
+		serial.keySet().removeIf(key -> key.contains("/" + PROJECTS[2] + "/"));
+		assertFalse(serial.isEmpty());
+		assertEquals(serial, concurrent);
+	}
+
+	@Test
+	public void canceledMonitorCancelsProcessing() {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertThrows(OperationCanceledException.class,
+				() -> process(new DSAnnotationCompilationParticipant(PROJECTS.length), monitor, null));
+	}
+
+	private Map<String, String> process(DSAnnotationCompilationParticipant participant) throws CoreException {
+		return process(participant, new NullProgressMonitor(), null);
+	}
+
+	/**
+	 * Regenerates the component descriptors of the test projects with the
+	 * given participant, without building the given project.
+	 *
+	 * @return the contents of the component descriptors and the problems
+	 *         recorded for each compilation unit, by path
+	 */
+	private Map<String, String> process(DSAnnotationCompilationParticipant participant, IProgressMonitor buildMonitor,
+			String unbuiltProject) throws CoreException {
+		Map<String, String> results = new TreeMap<>();
+		IWorkspace ws = ResourcesPlugin.getWorkspace();
+		ws.run(monitor -> {
+			List<IJavaProject> javaProjects = new ArrayList<>();
+			List<BuildContext> files = new ArrayList<>();
+			for (String name : PROJECTS) {
+				IProject project = ws.getRoot().getProject(name);
+				for (IResource member : project.getFolder("OSGI-INF").members()) {
+					if ("xml".equals(member.getFileExtension())) {
+						member.delete(true, monitor);
+					}
+				}
+
+				IJavaProject javaProject = JavaCore.create(project);
+				if (!name.equals(unbuiltProject)) {
+					javaProjects.add(javaProject);
+					participant.aboutToBuild(javaProject);
+				}
+				project.getFolder("src").accept(resource -> {
+					if (resource.getType() == IResource.FILE && "java".equals(resource.getFileExtension())) {
+						files.add(new TestBuildContext((IFile) resource, results));
+					}
+					return true;
+				});
+			}
+
+			participant.processAnnotations(files.toArray(new BuildContext[files.size()]), buildMonitor);
+			for (IJavaProject javaProject : javaProjects) {
+				participant.buildFinished(javaProject);
+			}
+
+			for (String name : PROJECTS) {
+				IFolder folder = ws.getRoot().getProject(name).getFolder("OSGI-INF");
+				for (IResource member : folder.members()) {
+					if ("xml".equals(member.getFileExtension())) {
+						results.put(member.getFullPath().toString(), new String(readContents((IFile) member)));
+					}
+				}
+			}
+		}, ws.getRoot(), IWorkspace.AVOID_UPDATE, null);
+		return results;
+	}
+
+	private static char[] readContents(IFile file) throws CoreException {
+		try (InputStream in = file.getContents(true)) {
+			return new String(in.readAllBytes(), file.getCharset()).toCharArray();
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Unable to read " + file.getFullPath(), e));
+		}
+	}
+
+	private static class TestBuildContext extends BuildContext {
+
+		private final IFile file;
+
+		private final Map<String, String> results;
+
+		TestBuildContext(IFile file, Map<String, String> results) {
+			this.file = file;
+			this.results = results;
+		}
+
+		@Override
+		public IFile getFile() {
+			return file;
+		}
+
+		@Override
+		public char[] getContents() {
+			try {
+				return readContents(file);
+			} catch (CoreException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		@Override
+		public void recordNewProblems(CategorizedProblem[] newProblems) {
+			StringBuilder problems = new StringBuilder();
+			for (CategorizedProblem problem : newProblems) {
+				problems.append(problem.getSourceStart()).append(':').append(problem.getMessage()).append('\n');
+			}
+			results.merge("problems:" + file.getFullPath(), problems.toString(), String::concat);
+		}
+	}
+}
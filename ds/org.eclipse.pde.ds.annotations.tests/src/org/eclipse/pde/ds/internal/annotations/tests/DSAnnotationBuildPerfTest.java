@@ -0,0 +1,201 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Builds a generated DS project with only a few components among many classes.
+ */
+public class DSAnnotationBuildPerfTest {
+
+	private static final String PROJECT_NAME = "ds.annotations.perf";
+
+	private static final int CLASS_COUNT = 2000;
+
+	private static final int COMPONENT_COUNT = 20;
+
+	private static final int TEST_ITERATIONS = 10;
+
+	private static final int WARMUP_ITERATIONS = 2;
+
+	private IProject project;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		IWorkspace ws = ResourcesPlugin.getWorkspace();
+		project = ws.getRoot().getProject(PROJECT_NAME);
+		Path location = ws.getRoot().getLocation().toPath().resolve(PROJECT_NAME);
+		createProjectContent(location);
+		ws.run(monitor -> {
+			project.create(monitor);
+			project.open(monitor);
+		}, new NullProgressMonitor());
+		build();
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		project.delete(true, true, new NullProgressMonitor());
+	}
+
+	@Test
+	public void fullBuild() throws Exception {
+		Performance performance = Performance.getDefault();
+		PerformanceMeter meter = performance.createPerformanceMeter(performance.getDefaultScenarioId(getClass(), "fullBuild"));
+		performance.tagAsSummary(meter, "Build DS project with " + COMPONENT_COUNT + " components in " + CLASS_COUNT + " classes", Dimension.ELAPSED_PROCESS);
+		try {
+			for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+				build();
+			}
+
+			for (int i = 0; i < TEST_ITERATIONS; i++) {
+				meter.start();
+				build();
+				meter.stop();
+			}
+
+			meter.commit();
+			performance.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+
+		IFolder folder = project.getFolder("OSGI-INF");
+		folder.refreshLocal(IResource.DEPTH_ONE, null);
+		assertEquals(COMPONENT_COUNT, folder.members().length);
+	}
+
+	private void build() throws CoreException {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+	}
+
+	private static void createProjectContent(Path location) throws IOException {
+		Files.createDirectories(location.resolve("OSGI-INF"));
+		Files.writeString(location.resolve(".project"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<projectDescription>
+					<name>%s</name>
+					<comment></comment>
+					<projects>
+					</projects>
+					<buildSpec>
+						<buildCommand>
+							<name>org.eclipse.jdt.core.javabuilder</name>
+							<arguments>
+							</arguments>
+						</buildCommand>
+						<buildCommand>
+							<name>org.eclipse.pde.ManifestBuilder</name>
+							<arguments>
+							</arguments>
+						</buildCommand>
+					</buildSpec>
+					<natures>
+						<nature>org.eclipse.pde.PluginNature</nature>
+						<nature>org.eclipse.jdt.core.javanature</nature>
+					</natures>
+				</projectDescription>
+				""".formatted(PROJECT_NAME));
+		Files.writeString(location.resolve(".classpath"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<classpath>
+					<classpathentry kind="con" path="org.eclipse.jdt.launching.JRE_CONTAINER/org.eclipse.jdt.internal.debug.ui.launcher.StandardVMType/JavaSE-1.8"/>
+					<classpathentry kind="con" path="org.eclipse.pde.core.requiredPlugins"/>
+					<classpathentry kind="src" path="src"/>
+					<classpathentry kind="output" path="bin"/>
+				</classpath>
+				""");
+		Files.writeString(location.resolve("build.properties"), """
+				source.. = src/
+				output.. = bin/
+				bin.includes = META-INF/,\\
+				               .
+				""");
+
+		Path manifest = Files.createDirectories(location.resolve("META-INF")).resolve("MANIFEST.MF");
+		Files.writeString(manifest, """
+				Manifest-Version: 1.0
+				Bundle-ManifestVersion: 2
+				Bundle-Name: Perf
+				Bundle-SymbolicName: %s
+				Bundle-Version: 1.0.0.qualifier
+				Bundle-RequiredExecutionEnvironment: JavaSE-1.8
+				Import-Package: org.osgi.service.component;version="[1.3.0,2.0.0)"
+				""".formatted(PROJECT_NAME));
+
+		Path settings = Files.createDirectories(location.resolve(".settings"));
+		Files.writeString(settings.resolve("org.eclipse.jdt.core.prefs"), """
+				eclipse.preferences.version=1
+				org.eclipse.jdt.core.compiler.codegen.targetPlatform=1.8
+				org.eclipse.jdt.core.compiler.compliance=1.8
+				org.eclipse.jdt.core.compiler.source=1.8
+				""");
+		Files.writeString(settings.resolve("org.eclipse.pde.ds.annotations.prefs"), """
+				classpath=true
+				eclipse.preferences.version=1
+				enabled=true
+				path=OSGI-INF
+				validationErrorLevel=error
+				""");
+
+		Path src = Files.createDirectories(location.resolve("src/ds/annotations/perf"));
+		int componentInterval = CLASS_COUNT / COMPONENT_COUNT;
+		for (int i = 0; i < CLASS_COUNT; i++) {
+			String name = "Type" + i;
+			String content;
+			if (i % componentInterval == 0) {
+				content = """
+						package ds.annotations.perf;
+
+						import org.osgi.service.component.annotations.Activate;
+						import org.osgi.service.component.annotations.Component;
+
+						@Component(service = %1$s.class)
+						public class %1$s {
+
+							@Activate
+							void activate() {
+							}
+						}
+						""".formatted(name);
+			} else {
+				content = """
+						package ds.annotations.perf;
+
+						import java.util.ArrayList;
+						import java.util.List;
+
+						public class %1$s {
+
+							private final List<String> values = new ArrayList<>();
+
+							@Override
+							public String toString() {
+								return "%1$s" + values;
+							}
+						}
+						""".formatted(name);
+			}
+
+			Files.writeString(src.resolve(name + ".java"), content);
+		}
+	}
+}
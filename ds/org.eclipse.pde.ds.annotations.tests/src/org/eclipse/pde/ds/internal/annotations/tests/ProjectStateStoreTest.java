@@ -0,0 +1,142 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Set;
+
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationVersion;
+import org.eclipse.pde.ds.internal.annotations.ProjectState;
+import org.eclipse.pde.ds.internal.annotations.ProjectStateStore;
+import org.eclipse.pde.ds.internal.annotations.ValidationErrorLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProjectStateStoreTest {
+
+	@TempDir
+	File stateDir;
+
+	@Test
+	public void snapshotRoundTrip() throws Exception {
+		ProjectState state = createState();
+		ProjectStateStore.save(stateDir, state);
+		assertFalse(state.isChanged());
+
+		ProjectState loaded = ProjectStateStore.load(stateDir);
+		assertNotNull(loaded);
+		assertEquals(state, loaded);
+		assertEquals("OSGI-INF", loaded.getPath());
+		assertEquals(DSAnnotationVersion.V1_3, loaded.getSpecVersion());
+		assertEquals(ValidationErrorLevel.warning, loaded.getErrorLevel());
+		assertEquals(Set.of("OSGI-INF/a.A.xml", "OSGI-INF/a.A2.xml"), Set.copyOf(loaded.getModelFiles("a/A.java")));
+		assertFalse(loaded.isChanged());
+	}
+
+	@Test
+	public void changesAppendedToJournal() throws Exception {
+		ProjectState state = createState();
+		ProjectStateStore.save(stateDir, state);
+		File snapshot = new File(stateDir, "state.bin");
+		byte[] snapshotContent = Files.readAllBytes(snapshot.toPath());
+
+		state.updateMappings("b/B.java", mappings("b.B", "OSGI-INF/b.Renamed.xml"));
+		state.removeMappings("c/C.java");
+		assertTrue(state.isChanged());
+		ProjectStateStore.save(stateDir, state);
+
+		// only the journal is written
+		assertTrue(new File(stateDir, "state.journal").isFile());
+		assertEquals(snapshotContent.length, Files.readAllBytes(snapshot.toPath()).length);
+
+		ProjectState loaded = ProjectStateStore.load(stateDir);
+		assertEquals(state, loaded);
+		assertEquals("OSGI-INF/b.Renamed.xml", loaded.getModelFile("b.B"));
+		assertNull(loaded.getModelFiles("c/C.java"));
+
+		// an incomplete record at the end of the journal is ignored
+		Files.write(new File(stateDir, "state.journal").toPath(), new byte[] { 2, 0 }, StandardOpenOption.APPEND);
+		loaded = ProjectStateStore.load(stateDir);
+		assertEquals("OSGI-INF/b.Renamed.xml", loaded.getModelFile("b.B"));
+		assertTrue(loaded.isChanged());
+	}
+
+	@Test
+	public void incompleteSettingsRecordNotApplied() throws Exception {
+		ProjectState state = createState();
+		ProjectStateStore.save(stateDir, state);
+		state.updateMappings("b/B.java", mappings("b.B", "OSGI-INF/b.Renamed.xml"));
+		ProjectStateStore.save(stateDir, state);
+
+		// a settings record with a new format version but without its settings
+		Files.write(new File(stateDir, "state.journal").toPath(), new byte[] { 1, 0, 0, 0, 99, 0, 0, 0, 3 },
+				StandardOpenOption.APPEND);
+		ProjectState loaded = ProjectStateStore.load(stateDir);
+		assertEquals(state.getFormatVersion(), loaded.getFormatVersion());
+		assertEquals("OSGI-INF", loaded.getPath());
+		assertEquals("OSGI-INF/b.Renamed.xml", loaded.getModelFile("b.B"));
+		assertTrue(loaded.isChanged());
+	}
+
+	@Test
+	public void incompleteMappingsRecordNotApplied() throws Exception {
+		ProjectState state = createState();
+		ProjectStateStore.save(stateDir, state);
+		state.updateMappings("b/B.java", mappings("b.B", "OSGI-INF/b.Renamed.xml"));
+		ProjectStateStore.save(stateDir, state);
+
+		// a mappings record of a CU that lists two types but contains only one
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(2);
+			out.writeUTF("a/A.java");
+			out.writeInt(2);
+			out.writeUTF("a.A");
+			out.writeBoolean(true);
+			out.writeUTF("OSGI-INF/a.Truncated.xml");
+		}
+		Files.write(new File(stateDir, "state.journal").toPath(), bytes.toByteArray(), StandardOpenOption.APPEND);
+
+		ProjectState loaded = ProjectStateStore.load(stateDir);
+		assertEquals(Set.of("OSGI-INF/a.A.xml", "OSGI-INF/a.A2.xml"), Set.copyOf(loaded.getModelFiles("a/A.java")));
+		assertEquals("OSGI-INF/b.Renamed.xml", loaded.getModelFile("b.B"));
+		assertTrue(loaded.isChanged());
+	}
+
+	@Test
+	public void unchangedMappingsNotSaved() throws Exception {
+		ProjectState state = createState();
+		ProjectStateStore.save(stateDir, state);
+
+		state.updateMappings("b/B.java", mappings("b.B", "OSGI-INF/b.B.xml"));
+		assertFalse(state.isChanged());
+	}
+
+	private static ProjectState createState() {
+		ProjectState state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_3);
+		state.setErrorLevel(ValidationErrorLevel.warning);
+		HashMap<String, String> a = mappings("a.A", "OSGI-INF/a.A.xml");
+		a.put("a.A2", "OSGI-INF/a.A2.xml");
+		state.updateMappings("a/A.java", a);
+		state.updateMappings("b/B.java", mappings("b.B", "OSGI-INF/b.B.xml"));
+		state.updateMappings("c/C.java", mappings("c.C", "OSGI-INF/c.C.xml"));
+		return state;
+	}
+
+	private static HashMap<String, String> mappings(String type, String file) {
+		HashMap<String, String> mappings = new HashMap<>();
+		mappings.put(type, file);
+		return mappings;
+	}
+}
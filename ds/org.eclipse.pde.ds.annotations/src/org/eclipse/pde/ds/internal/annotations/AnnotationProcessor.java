@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,22 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -27,13 +38,28 @@ import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.compiler.BuildContext;
-import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.link.LinkedModeModel;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 
+/**
+ * Processes the annotations of the compilation units of one project. The
+ * compilation units may be processed on any thread; the resulting component
+ * descriptors and problems are kept until {@link #apply()} is called on the
+ * builder thread, which is the only one allowed to modify the workspace.
+ */
 public class AnnotationProcessor extends ASTRequestor {
 
 	private static final String DS_BUILDER = "org.eclipse.pde.ds.core.builder"; //$NON-NLS-1$
@@ -46,6 +72,19 @@ public class AnnotationProcessor extends ASTRequestor {
 
 	private boolean hasBuilder;
 
+	// component descriptors to write, in the order they were processed
+	private final List<ModelWrite> modelWrites = new ArrayList<>();
+
+	// problems to record, in the order the compilation units were processed
+	private final List<Map.Entry<BuildContext, DSAnnotationProblem[]>> problemsToRecord = new ArrayList<>();
+
+	// the contents the component descriptors will have once the writes are
+	// applied, so that components sharing a descriptor build on each other
+	private final Map<IFile, String> pendingContents = new HashMap<>();
+
+	private record ModelWrite(IFile file, IFile oldFile, String contents) {
+	}
+
 	public AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap) {
 		this.context = context;
 		this.fileMap = fileMap;
@@ -91,7 +130,169 @@ public class AnnotationProcessor extends ASTRequestor {
 
 			BuildContext buildContext = fileMap.get(source);
 			if (buildContext != null) {
-				buildContext.recordNewProblems(problems.toArray(new CategorizedProblem[problems.size()]));
+				// report problems in source order, not in hash order
+				DSAnnotationProblem[] sorted = problems.toArray(new DSAnnotationProblem[problems.size()]);
+				Arrays.sort(sorted, Comparator.comparingInt(DSAnnotationProblem::getSourceStart).thenComparing(DSAnnotationProblem::getMessage));
+				problemsToRecord.add(Map.entry(buildContext, sorted));
+			}
+		}
+	}
+
+	/**
+	 * Writes the processed component descriptors and records the problems
+	 * found in the processed compilation units. Must be called on the builder
+	 * thread.
+	 */
+	public void apply() {
+		for (ModelWrite write : modelWrites) {
+			try {
+				verifyOutputLocation(write.file());
+				writeModel(write);
+			} catch (CoreException e) {
+				Activator.log(e);
+			}
+		}
+
+		modelWrites.clear();
+		pendingContents.clear();
+
+		for (Map.Entry<BuildContext, DSAnnotationProblem[]> entry : problemsToRecord) {
+			entry.getKey().recordNewProblems(entry.getValue());
+		}
+
+		problemsToRecord.clear();
+	}
+
+	/**
+	 * Returns whether the given component descriptor exists, or will exist once
+	 * the writes scheduled so far are applied.
+	 */
+	boolean exists(IFile file) {
+		return pendingContents.containsKey(file) || file.exists();
+	}
+
+	/**
+	 * Returns the current contents of the given component descriptor,
+	 * including the writes scheduled so far and unsaved changes if it is open
+	 * in an editor.
+	 */
+	String readContents(IFile file) throws CoreException {
+		String pending = pendingContents.get(file);
+		if (pending != null) {
+			return pending;
+		}
+
+		ITextFileBuffer buffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+		if (buffer != null) {
+			return buffer.getDocument().get();
+		}
+
+		if (!file.exists()) {
+			return ""; //$NON-NLS-1$
+		}
+
+		try (InputStream in = file.getContents(true)) {
+			return new String(in.readAllBytes(), file.getCharset());
+		} catch (IOException e) {
+			throw new CoreException(Status.error(String.format("Unable to read component model %s.", file.getFullPath()), e)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Schedules the given component descriptor to be written, after moving it
+	 * from its old location if given. The contents are <code>null</code> if
+	 * unchanged.
+	 */
+	void writeModel(IFile file, IFile oldFile, String contents) {
+		modelWrites.add(new ModelWrite(file, oldFile, contents));
+		if (contents != null) {
+			pendingContents.put(file, contents);
+		} else if (oldFile != null && pendingContents.containsKey(oldFile)) {
+			pendingContents.put(file, pendingContents.get(oldFile));
+		}
+	}
+
+	private void writeModel(ModelWrite write) throws CoreException {
+		IFile file = write.file();
+		if (write.oldFile() != null && write.oldFile().exists() && !file.exists()) {
+			try {
+				write.oldFile().move(file.getFullPath(), true, true, null);
+			} catch (CoreException e) {
+				Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", write.oldFile().getFullPath(), file.getFullPath()), e)); //$NON-NLS-1$
+			}
+		}
+
+		if (write.contents() == null) {
+			return;
+		}
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
+		}
+
+		IPath filePath = file.getFullPath();
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		bufferManager.connect(filePath, LocationKind.IFILE, null);
+		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
+		try {
+			if (buffer.isDirty()) {
+				buffer.commit(null, true);
+			}
+
+			IDocument document = buffer.getDocument();
+			if (write.contents().equals(document.get())) {
+				return;
+			}
+
+			TextEdit edit = new ReplaceEdit(0, document.getLength(), write.contents());
+			if (buffer.isSynchronizationContextRequested()) {
+				final CoreException[] ex = new CoreException[1];
+				final CountDownLatch latch = new CountDownLatch(1);
+				bufferManager.execute(() -> {
+					try {
+						performEdit(document, edit);
+					} catch (CoreException e) {
+						ex[0] = e;
+					}
+
+					latch.countDown();
+				});
+
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					if (debug.isDebugging()) {
+						debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
+					}
+				}
+
+				if (ex[0] != null) {
+					throw ex[0];
+				}
+			} else {
+				performEdit(document, edit);
+			}
+
+			buffer.commit(null, true);
+		} finally {
+			bufferManager.disconnect(filePath, LocationKind.IFILE, null);
+		}
+	}
+
+	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
+		DocumentRewriteSession session = null;
+		try {
+			if (document instanceof IDocumentExtension4) {
+				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+			}
+
+			LinkedModeModel.closeAllModels(document);
+			edit.apply(document);
+		} catch (MalformedTreeException | BadLocationException e) {
+			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
+		} finally {
+			if (session != null) {
+				((IDocumentExtension4) document).stopRewriteSession(session);
 			}
 		}
 	}
@@ -128,7 +329,7 @@ public class AnnotationProcessor extends ASTRequestor {
 		folder.create(true, true, null);
 	}
 
-	void verifyOutputLocation(IFile file) throws CoreException {
+	private void verifyOutputLocation(IFile file) throws CoreException {
 		if (hasBuilder) {
 			return;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Ecliptical Software Inc. and others.
+ * Copyright (c) 2017, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,22 +38,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.eclipse.core.filebuffers.FileBuffers;
-import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
-import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -82,12 +76,8 @@ import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.TypeLiteral;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.DocumentRewriteSession;
-import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
-import org.eclipse.jface.text.IDocumentExtension4;
-import org.eclipse.jface.text.link.LinkedModeModel;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.ModelChangedEvent;
@@ -112,8 +102,6 @@ import org.eclipse.pde.internal.ds.core.IDSService;
 import org.eclipse.pde.internal.ds.core.IDSSingleProperty;
 import org.eclipse.pde.internal.ds.core.text.DSModel;
 import org.eclipse.pde.internal.ui.util.TextUtil;
-import org.eclipse.text.edits.MalformedTreeException;
-import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 import org.osgi.framework.BundleContext;
@@ -375,31 +363,20 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		IProject project = typeBinding.getJavaElement().getJavaProject().getProject();
 		IFile file = PDEProject.getBundleRelativeFile(project, path);
-		IPath filePath = file.getFullPath();
-
-		processor.verifyOutputLocation(file);
 
 		// handle file move/rename
+		IFile oldFile = null;
 		String oldPath = state.getModelFile(implClass);
-		if (oldPath != null && !oldPath.equals(dsKey) && !file.exists()) {
-			IFile oldFile = PDEProject.getBundleRelativeFile(project, IPath.fromPortableString(oldPath));
-			if (oldFile.exists()) {
-				try {
-					oldFile.move(file.getFullPath(), true, true, null);
-				} catch (CoreException e) {
-					Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", oldPath, file.getFullPath()), e)); //$NON-NLS-1$
-				}
+		if (oldPath != null && !oldPath.equals(dsKey) && !processor.exists(file)) {
+			oldFile = PDEProject.getBundleRelativeFile(project, IPath.fromPortableString(oldPath));
+			if (!processor.exists(oldFile)) {
+				oldFile = null;
 			}
 		}
 
-		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
-		bufferManager.connect(filePath, LocationKind.IFILE, null);
-		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
-		if (buffer.isDirty()) {
-			buffer.commit(null, true);
-		}
-
-		IDocument document = buffer.getDocument();
+		// the model is edited in a detached document; the processor writes it
+		// back on the builder thread once all compilation units are processed
+		final IDocument document = new Document(processor.readContents(oldFile == null ? file : oldFile));
 
 		final DSModel dsModel = new DSModel(document, true);
 		dsModel.setUnderlyingResource(file);
@@ -408,11 +385,8 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
 		// thus we replace the entire content with one edit (if changed)
-		final IDocument fDoc = document;
 		dsModel.addModelChangedListener(new IModelTextChangeListener() {
 
-			private final IDocument document = fDoc;
-
 			private boolean changed;
 
 			@Override
@@ -441,66 +415,9 @@ public class AnnotationVisitor extends ASTVisitor {
 			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
 
 			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
-			if (edits.length > 0) {
-				if (debug.isDebugging()) {
-					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
-				}
-
-				final MultiTextEdit edit = new MultiTextEdit();
-				edit.addChildren(edits);
-
-				if (buffer.isSynchronizationContextRequested()) {
-					final IDocument doc = document;
-					final CoreException[] ex = new CoreException[1];
-					final CountDownLatch latch = new CountDownLatch(1);
-					bufferManager.execute(() -> {
-						try {
-							performEdit(doc, edit);
-						} catch (CoreException e) {
-							ex[0] = e;
-						}
-
-						latch.countDown();
-					});
-
-					try {
-						latch.await();
-					} catch (InterruptedException e) {
-						if (debug.isDebugging()) {
-							debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
-						}
-					}
-
-					if (ex[0] != null) {
-						throw ex[0];
-					}
-				} else {
-					performEdit(document, edit);
-				}
-
-				buffer.commit(null, true);
-			}
+			processor.writeModel(file, oldFile, edits.length > 0 ? dsModel.getContents() : null);
 		} finally {
 			dsModel.dispose();
-			bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
-		}
-	}
-
-	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
-		DocumentRewriteSession session = null;
-		try {
-			if (document instanceof IDocumentExtension4) {
-				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
-			}
-
-			LinkedModeModel.closeAllModels(document);
-			edit.apply(document);
-		} catch (MalformedTreeException | BadLocationException e) {
-			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
-		} finally {
-			if (session != null) {
-				((IDocumentExtension4) document).stopRewriteSession(session);
-			}
 		}
 	}
 
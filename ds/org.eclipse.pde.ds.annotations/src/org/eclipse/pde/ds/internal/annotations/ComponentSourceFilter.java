@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Ecliptical Software Inc. and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Ecliptical Software Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ds.internal.annotations;
+
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+/**
+ * Selects the compilation units that may declare DS components, without parsing
+ * them or resolving any bindings. A component is declared with an annotation
+ * whose (simple or qualified) name ends with <code>Component</code>, so any
+ * source that contains no such annotation can be skipped.
+ */
+public final class ComponentSourceFilter {
+
+	private static final char[] COMPONENT = "Component".toCharArray(); //$NON-NLS-1$
+
+	private static final char[] UNICODE_ESCAPE = { '\\', 'u' };
+
+	private ComponentSourceFilter() {
+		// static only
+	}
+
+	/**
+	 * Returns whether the given source may declare a component. False positives
+	 * are possible (e.g. annotations of another type named
+	 * <code>Component</code>) but the source of a component is never rejected.
+	 */
+	public static boolean mayContainComponent(char[] source) {
+		if (source == null) {
+			return true;
+		}
+
+		// most sources do not even mention the name
+		if (CharOperation.indexOf(COMPONENT, source, true) == -1 && CharOperation.indexOf(UNICODE_ESCAPE, source, true) == -1) {
+			return false;
+		}
+
+		IScanner scanner = ToolFactory.createScanner(false, false, false, JavaCore.latestSupportedJavaVersion());
+		scanner.setSource(source);
+		try {
+			int token = scanner.getNextToken();
+			while (token != ITerminalSymbols.TokenNameEOF) {
+				if (token != ITerminalSymbols.TokenNameAT) {
+					token = scanner.getNextToken();
+					continue;
+				}
+
+				// read the (possibly qualified) annotation name
+				char[] name = null;
+				token = scanner.getNextToken();
+				while (token == ITerminalSymbols.TokenNameIdentifier) {
+					name = scanner.getCurrentTokenSource();
+					token = scanner.getNextToken();
+					if (token != ITerminalSymbols.TokenNameDOT) {
+						break;
+					}
+
+					token = scanner.getNextToken();
+				}
+
+				if (name != null && CharOperation.equals(COMPONENT, name)) {
+					return true;
+				}
+			}
+		} catch (InvalidInputException e) {
+			// let the compiler deal with it
+			return true;
+		}
+
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2021 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,19 +16,17 @@
 package org.eclipse.pde.ds.internal.annotations;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -44,15 +42,18 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jdt.core.IAccessRule;
-import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -60,13 +61,13 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
-import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.IBaseModel;
 import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.build.IBuildModel;
@@ -100,14 +101,27 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final QualifiedName PROP_STATE = new QualifiedName(Activator.PLUGIN_ID, "state"); //$NON-NLS-1$
 
-	private static final String STATE_FILENAME = "state.dat"; //$NON-NLS-1$
-
 	static final String BUILDPATH_PROBLEM_MARKER = "org.eclipse.pde.ds.annotations.buildpath_problem"; //$NON-NLS-1$
 
 	private static final Debug debug = Debug.getDebug("ds-annotation-builder"); //$NON-NLS-1$
 
 	private final Map<IJavaProject, ProjectContext> processingContext = Collections.synchronizedMap(new HashMap<IJavaProject, ProjectContext>());
 
+	private final int maxConcurrentProjects;
+
+	public DSAnnotationCompilationParticipant() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a participant processing the annotations of at most the given
+	 * number of projects concurrently; with <code>1</code>, all projects are
+	 * processed on the builder thread.
+	 */
+	public DSAnnotationCompilationParticipant(int maxConcurrentProjects) {
+		this.maxConcurrentProjects = Math.max(1, maxConcurrentProjects);
+	}
+
 	@Override
 	public boolean isAnnotationProcessor() {
 		return true;
@@ -206,10 +220,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		ProjectState state = null;
 		try {
 			Object value = project.getProject().getSessionProperty(PROP_STATE);
-			if (value instanceof SoftReference) {
-				@SuppressWarnings("unchecked")
-				SoftReference<ProjectState> ref = (SoftReference<ProjectState>) value;
-				state = ref.get();
+			if (value instanceof ProjectState) {
+				state = (ProjectState) value;
 			}
 		} catch (CoreException e) {
 			Activator.log(e);
@@ -230,7 +242,8 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 
 			try {
-				project.getProject().setSessionProperty(PROP_STATE, new SoftReference<>(state));
+				// keep the state for the session; it is small compared to the models of the project
+				project.getProject().setSessionProperty(PROP_STATE, state);
 			} catch (CoreException e) {
 				Activator.log(e);
 			}
@@ -240,31 +253,24 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private static ProjectState loadState(IProject project) throws IOException {
-		File stateFile = getStateFile(project);
-		if (!stateFile.canRead()) {
+		File stateDir = getStateDir(project);
+		ProjectState state = ProjectStateStore.load(stateDir);
+		if (state == null) {
 			if (debug.isDebugging()) {
-				debug.trace(String.format("Missing or invalid project state file: %s", stateFile)); //$NON-NLS-1$
+				debug.trace(String.format("Missing or invalid project state in: %s", stateDir)); //$NON-NLS-1$
 			}
 
 			return null;
 		}
 
-		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
-			ProjectState state = (ProjectState) in.readObject();
-
-			if (debug.isDebugging()) {
-				debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
-				for (String cuKey : state.getCompilationUnits()) {
-					debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
-				}
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
+			for (String cuKey : state.getCompilationUnits()) {
+				debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
 			}
-
-			return state;
-		} catch (ClassNotFoundException e) {
-			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
-			ex.initCause(e);
-			throw ex;
 		}
+
+		return state;
 	}
 
 	@Override
@@ -440,8 +446,6 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private void saveState(IProject project, ProjectState state) throws IOException {
-		File stateFile = getStateFile(project);
-
 		if (debug.isDebugging()) {
 			debug.trace(String.format("Saving state for project: %s", project.getName())); //$NON-NLS-1$
 			for (String cuKey : state.getCompilationUnits()) {
@@ -449,9 +453,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 		}
 
-		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			out.writeObject(state);
-		}
+		ProjectStateStore.save(getStateDir(project), state);
 	}
 
 	private void updateProject(IProject project, final Collection<String> retained, final Collection<String> abandoned) {
@@ -624,8 +626,21 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	@Override
 	public void processAnnotations(BuildContext[] files) {
+		// JDT passes no monitor to compilation participants; it checks the build
+		// monitor for cancellation once the participants have returned
+		processAnnotations(files, new NullProgressMonitor());
+	}
+
+	/**
+	 * Processes the annotations of the given files. The projects processed
+	 * concurrently are canceled with the given monitor.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	public void processAnnotations(BuildContext[] files, IProgressMonitor monitor) {
 		// we need to process CUs in context of a project; separate them by project
 		HashMap<IJavaProject, Map<ICompilationUnit, BuildContext>> filesByProject = new HashMap<>();
+		int skipped = 0;
 		for (BuildContext file : files) {
 			if (debug.isDebugging()) {
 				debug.trace(String.format("Creating compilation unit from file %s.", file.getFile().getFullPath())); //$NON-NLS-1$
@@ -641,8 +656,9 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
-			if (canSkipFile(cu)) {
+			if (canSkipFile(file)) {
 				markAsAbandoned(cu);
+				++skipped;
 				continue;
 			}
 
@@ -655,46 +671,94 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			map.put(cu, file);
 		}
 
-		// process all CUs in each project
-		for (Map.Entry<IJavaProject, Map<ICompilationUnit, BuildContext>> entry : filesByProject.entrySet()) {
-			if (debug.isDebugging()) {
-				debug.trace(String.format("Processing compilation units in project %s.", entry.getKey().getElementName())); //$NON-NLS-1$
-			}
-
-			processAnnotations(entry.getKey(), entry.getValue());
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Skipped %d of %d compilation units without component annotations.", Integer.valueOf(skipped), Integer.valueOf(files.length))); //$NON-NLS-1$
 		}
-	}
 
-	public boolean canSkipFile(ICompilationUnit cu) {
-		IType primaryType = cu.findPrimaryType();
-		if (primaryType == null) {
-			return false;
+		// process all CUs in each project; projects are independent of each other,
+		// so they may be processed concurrently, but their results are always
+		// applied on the builder thread in the order of the project names
+		ArrayList<Map.Entry<IJavaProject, Map<ICompilationUnit, BuildContext>>> entries = new ArrayList<>(filesByProject.entrySet());
+		entries.sort(Comparator.comparing(entry -> entry.getKey().getElementName()));
+		AnnotationProcessor[] processors = new AnnotationProcessor[entries.size()];
+		if (entries.size() == 1 || maxConcurrentProjects == 1) {
+			for (int i = 0; i < processors.length; i++) {
+				processors[i] = processAnnotations(entries.get(i).getKey(), entries.get(i).getValue(), monitor);
+			}
+		} else {
+			processConcurrently(entries, processors, monitor);
 		}
 
-		try {
-			return !containsComponent(primaryType);
-		} catch (JavaModelException e) {
-			return false;
+		for (AnnotationProcessor processor : processors) {
+			if (processor != null) {
+				processor.apply();
+			}
 		}
 	}
 
-	private boolean containsComponent(IType type) throws JavaModelException {
-
-		IAnnotation annotationWithImport = type.getAnnotation("Component"); //$NON-NLS-1$
-		IAnnotation fullyQualifiedAnnotation = type.getAnnotation(COMPONENT_ANNOTATION);
+	/**
+	 * Processes the compilation units of each project in a job of its own,
+	 * running at most {@link #maxConcurrentProjects} jobs at a time. The jobs
+	 * only read the workspace. A failed job does not cancel the others; the
+	 * processor of its project is left <code>null</code> and the failure is
+	 * logged by the job manager.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	private void processConcurrently(List<Map.Entry<IJavaProject, Map<ICompilationUnit, BuildContext>>> entries, AnnotationProcessor[] processors, IProgressMonitor monitor) {
+		JobGroup group = new JobGroup(Messages.DSAnnotationCompilationParticipant_jobGroupName, maxConcurrentProjects, entries.size()) {
+			@Override
+			protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCanceledJobs) {
+				// projects are independent of each other
+				return false;
+			}
+		};
+		ArrayList<Job> jobs = new ArrayList<>(entries.size());
+		for (int i = 0; i < processors.length; i++) {
+			int index = i;
+			IJavaProject javaProject = entries.get(i).getKey();
+			Map<ICompilationUnit, BuildContext> fileMap = entries.get(i).getValue();
+			Job job = Job.create(NLS.bind(Messages.DSAnnotationCompilationParticipant_jobName, javaProject.getElementName()), jobMonitor -> {
+				processors[index] = processAnnotations(javaProject, fileMap, jobMonitor);
+			});
+			job.setSystem(true);
+			job.setJobGroup(group);
+			jobs.add(job);
+		}
+
+		jobs.forEach(Job::schedule);
+		try {
+			group.join(0, monitor);
+		} catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (OperationCanceledException e) {
+			group.cancel();
+			throw e;
+		}
 
-		boolean hasComponentAnnotation = annotationWithImport.exists() || fullyQualifiedAnnotation.exists();
-		if (hasComponentAnnotation) {
-			return true;
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
 		}
 
-		for (IJavaElement child : type.getChildren()) {
-			if ((child instanceof IType) && containsComponent((IType) child)) {
-				return true;
+		for (int i = 0; i < processors.length; i++) {
+			IStatus result = jobs.get(i).getResult();
+			if (result == null || !result.isOK()) {
+				// skip the project; its results may be incomplete
+				processors[i] = null;
 			}
 		}
+	}
 
-		return false;
+	/**
+	 * Determines whether the given file can be skipped because it does not
+	 * declare any component. Only the tokens of the source are scanned, which is
+	 * much cheaper than opening the compilation unit in the Java model or
+	 * parsing it with resolved bindings.
+	 */
+	public boolean canSkipFile(BuildContext file) {
+		return !ComponentSourceFilter.mayContainComponent(file.getContents());
 	}
 
 	public void markAsAbandoned(ICompilationUnit cu) {
@@ -711,7 +775,11 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
-	private void processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap) {
+	private AnnotationProcessor processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap, IProgressMonitor monitor) {
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Processing compilation units in project %s.", javaProject.getElementName())); //$NON-NLS-1$
+		}
+
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		parser.setResolveBindings(true);
 		parser.setBindingsRecovery(true);
@@ -723,8 +791,12 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
 
+		// process CUs in a stable order so that the results do not depend on hashing
 		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+		Arrays.sort(cuArr, Comparator.comparing(AnnotationProcessor::getCompilationUnitKey));
+		AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap);
+		parser.createASTs(cuArr, new String[0], processor, monitor);
+		return processor;
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -733,16 +805,13 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				return true;
 			}
 
-			File stateFile = getStateFile(project);
-			return stateFile.canRead();
+			return ProjectStateStore.exists(getStateDir(project));
 		} catch (CoreException e) {
 			return false;
 		}
 	}
 
-	private static File getStateFile(IProject project) {
-		File workDir = project.getWorkingLocation(Activator.PLUGIN_ID).toFile();
-		File stateFile = new File(workDir, STATE_FILENAME);
-		return stateFile;
+	private static File getStateDir(IProject project) {
+		return project.getWorkingLocation(Activator.PLUGIN_ID).toFile();
 	}
 }
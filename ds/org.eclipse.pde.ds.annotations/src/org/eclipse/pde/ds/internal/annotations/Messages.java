@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -183,6 +183,10 @@ public class Messages extends NLS {
 
 	public static String DSAnnotationCompilationParticipant_buildpathProblemMarker_message;
 
+	public static String DSAnnotationCompilationParticipant_jobGroupName;
+
+	public static String DSAnnotationCompilationParticipant_jobName;
+
 	public static String DSAnnotationPreferenceListener_jobName;
 
 	public static String DSAnnotationPreferenceListener_taskName;
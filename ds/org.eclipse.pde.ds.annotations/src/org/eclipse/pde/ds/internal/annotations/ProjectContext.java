@@ -26,20 +26,16 @@ public class ProjectContext {
 	// CUs not processed in this run
 	private final Collection<String> unprocessed;
 
-	private final ProjectState oldState;
-
 	public ProjectContext(ProjectState state) {
 		this.state = state;
 
 		// track unprocessed CUs from the start
 		unprocessed = new HashSet<>(state.getCompilationUnits());
-
-		// clone existing state so later we can determine if changed
-		oldState = state.clone();
 	}
 
 	public boolean isChanged() {
-		return !oldState.equals(state);
+		// the state tracks its own changes since it was last saved
+		return state.isChanged();
 	}
 
 	public ProjectState getState() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.core.JavaCore;
@@ -51,11 +53,24 @@ public class ProjectState implements Serializable, Cloneable {
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
+	// CUs whose mappings changed since the state was last saved
+	private transient Set<String> changedCompilationUnits;
+
+	// whether the settings changed since the state was last saved
+	private transient boolean settingsChanged;
+
+	// whether the whole state must be saved, rather than just its changes
+	private transient boolean fullSaveRequired;
+
+	// number of changes saved since the whole state was last saved
+	private transient int journalRecords;
+
 	public int getFormatVersion() {
 		return formatVersion;
 	}
 
 	public void setFormatVersion(int formatVersion) {
+		settingsChanged |= this.formatVersion != formatVersion;
 		this.formatVersion = formatVersion;
 	}
 
@@ -70,7 +85,12 @@ public class ProjectState implements Serializable, Cloneable {
 	public Collection<String> removeMappings(String cuKey) {
 		if (types == null) {
 			// fall back to (deprecated) mappings
-			return mappings.remove(toLegacyCUKey(cuKey));
+			Collection<String> oldDSKeys = mappings.remove(toLegacyCUKey(cuKey));
+			if (oldDSKeys != null) {
+				fullSaveRequired = true;
+			}
+
+			return oldDSKeys;
 		}
 
 		Collection<String> cuTypes = types.remove(cuKey);
@@ -78,6 +98,8 @@ public class ProjectState implements Serializable, Cloneable {
 			return null;
 		}
 
+		getChangedCompilationUnits().add(cuKey);
+
 		Collection<String> oldDSKeys = null;
 		if (files != null) {
 			oldDSKeys = new HashSet<>(cuTypes.size());
@@ -124,20 +146,154 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public Collection<String> updateMappings(String cuKey, HashMap<String, String> dsKeys) {
+		boolean legacy = types == null;
+		boolean wasChanged = changedCompilationUnits != null && changedCompilationUnits.contains(cuKey);
+		Map<String, String> oldMappings = getMappings(cuKey);
 		Collection<String> oldDSKeys = removeMappings(cuKey);
 		if (!dsKeys.isEmpty()) {
 			getTypes().put(cuKey, new HashSet<>(dsKeys.keySet()));
 			getFiles().putAll(dsKeys);
 		}
 
+		if (legacy && types != null) {
+			fullSaveRequired = true;
+		} else if (!wasChanged && (oldMappings == null ? dsKeys.isEmpty() : oldMappings.equals(dsKeys))) {
+			// nothing changed since the state was saved
+			getChangedCompilationUnits().remove(cuKey);
+		} else {
+			getChangedCompilationUnits().add(cuKey);
+		}
+
 		return oldDSKeys;
 	}
 
+	/**
+	 * Returns the component types contained in the given CU, mapped to the
+	 * paths of their generated DS files, or <code>null</code> if the CU
+	 * contains no components.
+	 */
+	Map<String, String> getMappings(String cuKey) {
+		Collection<String> cuTypes = types == null ? null : types.get(cuKey);
+		if (cuTypes == null) {
+			return null;
+		}
+
+		HashMap<String, String> cuMappings = new HashMap<>(cuTypes.size());
+		for (String type : cuTypes) {
+			cuMappings.put(type, files == null ? null : files.get(type));
+		}
+
+		return cuMappings;
+	}
+
+	/**
+	 * Replaces the mappings of the given CU without tracking the change; used
+	 * when the state is loaded.
+	 */
+	void setMappings(String cuKey, Map<String, String> cuMappings) {
+		Collection<String> cuTypes = getTypes().remove(cuKey);
+		if (cuTypes != null && files != null) {
+			files.keySet().removeAll(cuTypes);
+		}
+
+		if (cuMappings != null && !cuMappings.isEmpty()) {
+			getTypes().put(cuKey, new HashSet<>(cuMappings.keySet()));
+			for (Map.Entry<String, String> entry : cuMappings.entrySet()) {
+				if (entry.getValue() != null) {
+					getFiles().put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+	}
+
+	Map<String, Collection<String>> getLegacyMappings() {
+		return mappings;
+	}
+
+	boolean hasTypes() {
+		return types != null;
+	}
+
+	Map<String, String> getFileMappings() {
+		return files;
+	}
+
+	/**
+	 * Returns whether the state changed since it was last loaded or saved.
+	 */
+	public boolean isChanged() {
+		return settingsChanged || fullSaveRequired || (changedCompilationUnits != null && !changedCompilationUnits.isEmpty());
+	}
+
+	Set<String> getChangedCompilationUnits() {
+		if (changedCompilationUnits == null) {
+			changedCompilationUnits = new HashSet<>();
+		}
+
+		return changedCompilationUnits;
+	}
+
+	boolean isSettingsChanged() {
+		return settingsChanged;
+	}
+
+	boolean isFullSaveRequired() {
+		return fullSaveRequired;
+	}
+
+	void setFullSaveRequired(boolean fullSaveRequired) {
+		this.fullSaveRequired = fullSaveRequired;
+	}
+
+	/**
+	 * Returns the path, spec version, error level and missing unbind method
+	 * level settings as stored, <code>null</code> if not set.
+	 */
+	String[] getSettings() {
+		return new String[] { path, specVersion == null ? null : specVersion.name(), errorLevel == null ? null : errorLevel.name(),
+				missingUnbindMethodLevel == null ? null : missingUnbindMethodLevel.name() };
+	}
+
+	void setSettings(String[] settings) {
+		setPath(settings.length > 0 ? settings[0] : null);
+		setSpecVersion(settings.length > 1 ? toEnum(DSAnnotationVersion.class, settings[1]) : null);
+		setErrorLevel(settings.length > 2 ? toEnum(ValidationErrorLevel.class, settings[2]) : null);
+		setMissingUnbindMethodLevel(settings.length > 3 ? toEnum(ValidationErrorLevel.class, settings[3]) : null);
+	}
+
+	private static <E extends Enum<E>> E toEnum(Class<E> enumType, String name) {
+		if (name == null) {
+			return null;
+		}
+
+		try {
+			return Enum.valueOf(enumType, name);
+		} catch (IllegalArgumentException e) {
+			// written by a newer version
+			return null;
+		}
+	}
+
+	int getJournalRecords() {
+		return journalRecords;
+	}
+
+	void setJournalRecords(int journalRecords) {
+		this.journalRecords = journalRecords;
+	}
+
+	void clearChanges() {
+		changedCompilationUnits = null;
+		settingsChanged = false;
+		fullSaveRequired = false;
+	}
+
 	public String getPath() {
 		return path;
 	}
 
 	public void setPath(String path) {
+		settingsChanged |= !Objects.equals(this.path, path);
 		this.path = path;
 	}
 
@@ -146,6 +302,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public void setSpecVersion(DSAnnotationVersion specVersion) {
+		settingsChanged |= !Objects.equals(this.specVersion, specVersion);
 		this.specVersion = specVersion;
 	}
 
@@ -154,6 +311,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public void setErrorLevel(ValidationErrorLevel errorLevel) {
+		settingsChanged |= !Objects.equals(this.errorLevel, errorLevel);
 		this.errorLevel = errorLevel;
 	}
 
@@ -162,6 +320,7 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public void setMissingUnbindMethodLevel(ValidationErrorLevel missingUnbindMethodLevel) {
+		settingsChanged |= !Objects.equals(this.missingUnbindMethodLevel, missingUnbindMethodLevel);
 		this.missingUnbindMethodLevel = missingUnbindMethodLevel;
 	}
 
@@ -206,6 +365,10 @@ public class ProjectState implements Serializable, Cloneable {
 			clone.files = new HashMap<>(files);
 		}
 
+		if (changedCompilationUnits != null) {
+			clone.changedCompilationUnits = new HashSet<>(changedCompilationUnits);
+		}
+
 		return clone;
 	}
 
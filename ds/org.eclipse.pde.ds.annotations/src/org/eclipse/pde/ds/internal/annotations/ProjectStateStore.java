@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Ecliptical Software Inc. and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Ecliptical Software Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ds.internal.annotations;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persists {@link ProjectState} in a compact, versioned binary format. The
+ * state is stored as a snapshot, followed by a journal of the CU mappings and
+ * settings that changed since the snapshot was written. Saving the state only
+ * appends its changes to the journal, until the journal grows larger than the
+ * state itself and a new snapshot is written.
+ */
+public final class ProjectStateStore {
+
+	static final String STATE_FILENAME = "state.bin"; //$NON-NLS-1$
+
+	static final String JOURNAL_FILENAME = "state.journal"; //$NON-NLS-1$
+
+	// state serialized with Java serialization by previous versions
+	static final String LEGACY_STATE_FILENAME = "state.dat"; //$NON-NLS-1$
+
+	private static final int STATE_MAGIC = 0x44535354; // DSST
+
+	private static final int JOURNAL_MAGIC = 0x44534a4c; // DSJL
+
+	// binary store format version
+	private static final int STORE_VERSION = 1;
+
+	private static final byte RECORD_SETTINGS = 1;
+
+	private static final byte RECORD_MAPPINGS = 2;
+
+	// minimum number of journal records before a new snapshot is written
+	private static final int MIN_COMPACTION_RECORDS = 256;
+
+	private static final Debug debug = Debug.getDebug("ds-annotation-builder/state"); //$NON-NLS-1$
+
+	private record Settings(int formatVersion, String[] values) {
+
+		void applyTo(ProjectState state) {
+			state.setFormatVersion(formatVersion);
+			state.setSettings(values);
+		}
+	}
+
+	private ProjectStateStore() {
+		// static only
+	}
+
+	public static boolean exists(File dir) {
+		return new File(dir, STATE_FILENAME).canRead() || new File(dir, LEGACY_STATE_FILENAME).canRead();
+	}
+
+	/**
+	 * Loads the state stored in the given directory.
+	 *
+	 * @return the loaded state, or <code>null</code> if no usable state is
+	 *         stored
+	 */
+	public static ProjectState load(File dir) throws IOException {
+		File stateFile = new File(dir, STATE_FILENAME);
+		if (!stateFile.canRead()) {
+			return loadLegacy(new File(dir, LEGACY_STATE_FILENAME));
+		}
+
+		ProjectState state;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(stateFile)))) {
+			if (in.readInt() != STATE_MAGIC || in.readInt() != STORE_VERSION) {
+				if (debug.isDebugging()) {
+					debug.trace(String.format("Unsupported project state file: %s", stateFile)); //$NON-NLS-1$
+				}
+
+				return null;
+			}
+
+			state = new ProjectState();
+			readSettings(in).applyTo(state);
+
+			int count = in.readInt();
+			Map<String, Collection<String>> legacyMappings = state.getLegacyMappings();
+			for (int i = 0; i < count; ++i) {
+				String key = in.readUTF();
+				int size = in.readInt();
+				ArrayList<String> values = new ArrayList<>(size);
+				for (int j = 0; j < size; ++j) {
+					values.add(in.readUTF());
+				}
+
+				legacyMappings.put(key, values);
+			}
+
+			if (in.readBoolean()) {
+				count = in.readInt();
+				for (int i = 0; i < count; ++i) {
+					String cuKey = in.readUTF();
+					state.setMappings(cuKey, readMappings(in));
+				}
+			}
+		} catch (EOFException e) {
+			// truncated snapshot; start over
+			return null;
+		}
+
+		state.clearChanges();
+		state.setJournalRecords(replayJournal(new File(dir, JOURNAL_FILENAME), state));
+		return state;
+	}
+
+	private static ProjectState loadLegacy(File stateFile) throws IOException {
+		if (!stateFile.canRead()) {
+			return null;
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
+			ProjectState state = (ProjectState) in.readObject();
+			state.clearChanges();
+			// migrate to the current format on next save
+			state.setFullSaveRequired(true);
+			return state;
+		} catch (ClassNotFoundException e) {
+			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
+			ex.initCause(e);
+			throw ex;
+		}
+	}
+
+	private static int replayJournal(File journalFile, ProjectState state) throws IOException {
+		if (!journalFile.canRead()) {
+			return 0;
+		}
+
+		int records = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+			if (in.readInt() != JOURNAL_MAGIC || in.readInt() != STORE_VERSION) {
+				state.setFullSaveRequired(true);
+				return 0;
+			}
+
+			while (true) {
+				int kind = in.read();
+				if (kind == -1) {
+					break;
+				}
+
+				// read each record completely before applying it
+				if (kind == RECORD_SETTINGS) {
+					readSettings(in).applyTo(state);
+				} else if (kind == RECORD_MAPPINGS) {
+					String cuKey = in.readUTF();
+					Map<String, String> mappings = readMappings(in);
+					state.setMappings(cuKey, mappings);
+				} else {
+					// unknown record; discard the rest of the journal
+					state.setFullSaveRequired(true);
+					break;
+				}
+
+				++records;
+			}
+		} catch (EOFException e) {
+			// incomplete last record, e.g. after a crash; keep what was read
+			state.setFullSaveRequired(true);
+		}
+
+		boolean fullSaveRequired = state.isFullSaveRequired();
+		state.clearChanges();
+		state.setFullSaveRequired(fullSaveRequired);
+		return records;
+	}
+
+	/**
+	 * Saves the changes of the given state in the given directory, either by
+	 * appending them to the journal or by writing a new snapshot.
+	 */
+	public static void save(File dir, ProjectState state) throws IOException {
+		Collection<String> changed = state.getChangedCompilationUnits();
+		int records = state.getJournalRecords() + changed.size() + (state.isSettingsChanged() ? 1 : 0);
+		if (state.isFullSaveRequired() || !new File(dir, STATE_FILENAME).exists()
+				|| records > Math.max(MIN_COMPACTION_RECORDS, state.getCompilationUnits().size())) {
+			writeSnapshot(dir, state);
+			state.clearChanges();
+			state.setJournalRecords(0);
+			return;
+		}
+
+		File journalFile = new File(dir, JOURNAL_FILENAME);
+		boolean append = journalFile.exists();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalFile, append)))) {
+			if (!append) {
+				out.writeInt(JOURNAL_MAGIC);
+				out.writeInt(STORE_VERSION);
+			}
+
+			if (state.isSettingsChanged()) {
+				out.writeByte(RECORD_SETTINGS);
+				writeSettings(out, state);
+			}
+
+			for (String cuKey : changed) {
+				out.writeByte(RECORD_MAPPINGS);
+				out.writeUTF(cuKey);
+				writeMappings(out, state.getMappings(cuKey));
+			}
+		}
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Appended %d changes to %s", Integer.valueOf(changed.size()), journalFile)); //$NON-NLS-1$
+		}
+
+		state.clearChanges();
+		state.setJournalRecords(records);
+	}
+
+	private static void writeSnapshot(File dir, ProjectState state) throws IOException {
+		File stateFile = new File(dir, STATE_FILENAME);
+		File tempFile = new File(dir, STATE_FILENAME + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(STATE_MAGIC);
+			out.writeInt(STORE_VERSION);
+			writeSettings(out, state);
+
+			Map<String, Collection<String>> legacyMappings = state.getLegacyMappings();
+			out.writeInt(legacyMappings.size());
+			for (Map.Entry<String, Collection<String>> entry : legacyMappings.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().size());
+				for (String value : entry.getValue()) {
+					out.writeUTF(value);
+				}
+			}
+
+			out.writeBoolean(state.hasTypes());
+			if (state.hasTypes()) {
+				Collection<String> cuKeys = state.getCompilationUnits();
+				out.writeInt(cuKeys.size());
+				for (String cuKey : cuKeys) {
+					out.writeUTF(cuKey);
+					writeMappings(out, state.getMappings(cuKey));
+				}
+			}
+		}
+
+		Files.move(tempFile.toPath(), stateFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		Files.deleteIfExists(new File(dir, JOURNAL_FILENAME).toPath());
+		Files.deleteIfExists(new File(dir, LEGACY_STATE_FILENAME).toPath());
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Wrote project state snapshot %s", stateFile)); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeSettings(DataOutputStream out, ProjectState state) throws IOException {
+		out.writeInt(state.getFormatVersion());
+		String[] settings = state.getSettings();
+		out.writeInt(settings.length);
+		for (String setting : settings) {
+			writeString(out, setting);
+		}
+	}
+
+	private static Settings readSettings(DataInputStream in) throws IOException {
+		int formatVersion = in.readInt();
+		String[] values = new String[in.readInt()];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = readString(in);
+		}
+
+		return new Settings(formatVersion, values);
+	}
+
+	private static void writeMappings(DataOutputStream out, Map<String, String> mappings) throws IOException {
+		if (mappings == null) {
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(mappings.size());
+		for (Map.Entry<String, String> entry : mappings.entrySet()) {
+			out.writeUTF(entry.getKey());
+			writeString(out, entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readMappings(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		HashMap<String, String> mappings = new HashMap<>(size);
+		for (int i = 0; i < size; ++i) {
+			String type = in.readUTF();
+			mappings.put(type, readString(in));
+		}
+
+		return mappings;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+
+/**
+ * An immutable index of the resources found by a
+ * {@link TargetPlatformContributionCollector}. The names of the resources are
+ * indexed by their case insensitive trigrams, so that a name pattern only has
+ * to be matched against the entries containing all the trigrams of its literal
+ * parts.
+ */
+public final class ContributionIndex {
+
+	public static final ContributionIndex EMPTY = new ContributionIndex(Collections.emptyList());
+
+	private static final int STORE_MAGIC = 0x45344349; // E4CI
+
+	private static final int STORE_VERSION = 2;
+
+	/**
+	 * The resources found in one bundle, along with the stamp of the bundle
+	 * they were found in.
+	 */
+	public record BundleEntries(String installLocation, long stamp, List<Entry> entries) {
+	}
+
+	private final Entry[] entries;
+	private final Map<Long, int[]> trigrams;
+	private final Set<String> bundleIds = new HashSet<>();
+	private final Set<String> packages = new HashSet<>();
+	private final Set<String> locations = new HashSet<>();
+
+	public ContributionIndex(Collection<BundleEntries> bundles) {
+		final List<Entry> all = new ArrayList<>();
+		for (final BundleEntries bundle : bundles) {
+			all.addAll(bundle.entries());
+		}
+		entries = all.toArray(new Entry[all.size()]);
+
+		// collect the postings of all entries first, then trim them once
+		final Map<Long, int[]> postings = new HashMap<>();
+		for (int id = 0; id < entries.length; id++) {
+			final Entry e = entries[id];
+			locations.add(e.installLocation);
+			packages.add(e.pakage);
+			if (e.bundleSymName != null) {
+				bundleIds.add(e.bundleSymName);
+			}
+			final String name = e.name;
+			for (int i = 0; i + 3 <= name.length(); i++) {
+				final Long key = Long.valueOf(trigram(name, i));
+				int[] posting = postings.get(key);
+				if (posting == null) {
+					// first slot holds the number of ids
+					posting = new int[4];
+					postings.put(key, posting);
+				}
+				final int size = posting[0];
+				if (size > 0 && posting[size] == id) {
+					continue;
+				}
+				if (size + 1 == posting.length) {
+					posting = Arrays.copyOf(posting, posting.length * 2);
+					postings.put(key, posting);
+				}
+				posting[size + 1] = id;
+				posting[0] = size + 1;
+			}
+		}
+		trigrams = new HashMap<>(postings.size());
+		for (final Map.Entry<Long, int[]> posting : postings.entrySet()) {
+			final int[] ids = posting.getValue();
+			trigrams.put(posting.getKey(), Arrays.copyOfRange(ids, 1, ids[0] + 1));
+		}
+	}
+
+	public int size() {
+		return entries.length;
+	}
+
+	public Entry getEntry(int id) {
+		return entries[id];
+	}
+
+	public Set<String> getBundleIds() {
+		return bundleIds;
+	}
+
+	public Set<String> getPackages() {
+		return packages;
+	}
+
+	public Set<String> getLocations() {
+		return locations;
+	}
+
+	/**
+	 * Returns the ids, in ascending order, of the entries whose name may match
+	 * the given name pattern, in which <code>*</code> and <code>?</code> are
+	 * wildcards. The candidates still have to be matched against the pattern.
+	 *
+	 * @return the ids of the candidates, or <code>null</code> if all entries
+	 *         are candidates
+	 */
+	public int[] getCandidates(String namePattern) {
+		if (namePattern == null) {
+			return null;
+		}
+		int[] result = null;
+		for (final String literal : namePattern.split("[*?]")) { //$NON-NLS-1$
+			for (int i = 0; i + 3 <= literal.length(); i++) {
+				final int[] ids = trigrams.get(Long.valueOf(trigram(literal, i)));
+				if (ids == null) {
+					return new int[0];
+				}
+				result = result == null ? ids : intersect(result, ids);
+				if (result.length == 0) {
+					return result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static long trigram(String s, int start) {
+		return (long) fold(s.charAt(start)) << 32 | (long) fold(s.charAt(start + 1)) << 16 | fold(s.charAt(start + 2));
+	}
+
+	private static char fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		final int[] result = new int[Math.min(a.length, b.length)];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				result[size++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Reads the bundle entries stored in the given file.
+	 *
+	 * @return the bundle entries by install location, empty if the file does
+	 *         not exist or cannot be read
+	 */
+	public static Map<String, BundleEntries> read(File file) {
+		final Map<String, BundleEntries> bundles = new LinkedHashMap<>();
+		if (!file.isFile()) {
+			return bundles;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != STORE_MAGIC || in.readInt() != STORE_VERSION) {
+				return bundles;
+			}
+			final int bundleCount = in.readInt();
+			for (int i = 0; i < bundleCount; i++) {
+				final String installLocation = in.readUTF();
+				final long stamp = in.readLong();
+				final String bundleSymName = readString(in);
+				final int entryCount = in.readInt();
+				final List<Entry> entries = new ArrayList<>(entryCount);
+				for (int j = 0; j < entryCount; j++) {
+					final Entry e = new Entry();
+					e.installLocation = installLocation;
+					e.bundleSymName = bundleSymName;
+					e.name = in.readUTF();
+					e.path = in.readUTF();
+					e.pakage = in.readUTF();
+					e.relativePath = readString(in);
+					entries.add(e);
+				}
+				bundles.put(installLocation, new BundleEntries(installLocation, stamp, entries));
+			}
+		} catch (final IOException e) {
+			// start over with an empty index
+			bundles.clear();
+		}
+		return bundles;
+	}
+
+	/**
+	 * Writes the given bundle entries to the given file.
+	 */
+	public static void write(File file, Collection<BundleEntries> bundles) throws IOException {
+		file.getParentFile().mkdirs();
+		final File tempFile = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(STORE_MAGIC);
+			out.writeInt(STORE_VERSION);
+			out.writeInt(bundles.size());
+			for (final BundleEntries bundle : bundles) {
+				out.writeUTF(bundle.installLocation());
+				out.writeLong(bundle.stamp());
+				writeString(out, bundle.entries().isEmpty() ? null : bundle.entries().get(0).bundleSymName);
+				out.writeInt(bundle.entries().size());
+				for (final Entry e : bundle.entries()) {
+					out.writeUTF(e.name);
+					out.writeUTF(e.path);
+					out.writeUTF(e.pakage);
+					writeString(out, e.relativePath);
+				}
+			}
+		}
+		Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Returns a stamp of the bundle at the given install location. The stamp
+	 * of a jar changes whenever the jar is replaced, the stamp of a directory
+	 * whenever a file below it is added, removed or modified.
+	 */
+	public static long getStamp(File installLocation) {
+		if (installLocation.isFile()) {
+			return installLocation.lastModified() * 31 + installLocation.length();
+		}
+		final long[] stamp = { 0 };
+		addStamp(installLocation, stamp);
+		return stamp[0];
+	}
+
+	private static void addStamp(File file, long[] stamp) {
+		stamp[0] = stamp[0] * 31 + file.lastModified();
+		final File[] children = file.listFiles();
+		if (children == null) {
+			stamp[0] = stamp[0] * 31 + file.length();
+			return;
+		}
+		Arrays.sort(children);
+		for (final File child : children) {
+			addStamp(child, stamp);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+}
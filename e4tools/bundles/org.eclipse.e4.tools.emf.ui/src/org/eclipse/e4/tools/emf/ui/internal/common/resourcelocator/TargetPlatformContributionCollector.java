@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,14 +23,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Hashtable;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -43,9 +45,11 @@ import javax.xml.xpath.XPathFactory;
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -57,10 +61,13 @@ import org.eclipse.e4.tools.emf.ui.common.ResourceSearchScope;
 import org.eclipse.e4.tools.emf.ui.internal.common.ClassContributionCollector;
 import org.eclipse.e4.tools.emf.ui.internal.common.component.dialogs.FilteredContributionDialog;
 import org.eclipse.e4.tools.emf.ui.internal.common.component.tabs.empty.E;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.ContributionIndex.BundleEntries;
 import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.target.TargetEvents;
+import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
@@ -73,6 +80,10 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -80,28 +91,32 @@ import org.w3c.dom.NodeList;
  * A contribution collector encompassing the current target platform.<br />
  * Uses filter for bundle, package, and location filtering.<br />
  * This implementation finds resources based on file names, not by parsing file
- * contents.
+ * contents. The resources of the target bundles are indexed once and the index
+ * is persisted, so that only the bundles that changed since are visited again.
  *
  * @author Steven Spungin
  */
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	/** The published index, or <code>null</code> if it has to be (re)built */
+	private volatile ContributionIndex index;
+	/**
+	 * Incremented whenever the index is invalidated, so that a build started
+	 * before does not publish its stale index
+	 */
+	private int generation;
 	private final Pattern patternFile;
 	protected String cacheName;
 	protected boolean stopFiltering;
 
-	static class Entry {
-		String name;
-		String path;
-		String installLocation;
-		String relativePath;
-		String bundleSymName;
-		String pakage;
+	public static class Entry {
+		public String name;
+		public String path;
+		public String installLocation;
+		public String relativePath;
+		public String bundleSymName;
+		public String pakage;
 	}
 
 	protected TargetPlatformContributionCollector(String cacheName) {
@@ -109,6 +124,16 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		this.cacheName = cacheName;
 		patternFile = getFilePattern();
 
+		// rebuild the index when the target changes; unchanged bundles are
+		// taken from the stored index
+		final BundleContext context = FrameworkUtil.getBundle(TargetPlatformContributionCollector.class)
+				.getBundleContext();
+		if (context != null) {
+			final Hashtable<String, Object> properties = new Hashtable<>();
+			properties.put(EventConstants.EVENT_TOPIC, TargetEvents.TOPIC_WORKSPACE_TARGET_CHANGED);
+			context.registerService(EventHandler.class, event -> invalidate(), properties);
+		}
+
 		addContributor(new IClassContributionProvider() {
 
 			@Override
@@ -126,8 +151,16 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				int found = 0;
 				boolean more = false;
 
+				// only the entries having all the trigrams of the name pattern can match
+				final ContributionIndex current = getIndex();
+				final int[] candidates = current.getCandidates(filter.namePattern);
+				final int count = candidates == null ? current.size() : candidates.length;
+				Set<String> projectNames = null;
+				String lastLocation = null;
+
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				for (int i = 0; i < count; i++) {
+					final Entry e = current.getEntry(candidates == null ? i : candidates[i]);
 					if (stopFiltering) {
 						break;
 					}
@@ -137,8 +170,11 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							stopFiltering = true;
 							break;
 						}
-						monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
-								+ " " + e.installLocation); //$NON-NLS-1$
+						if (!e.installLocation.equals(lastLocation)) {
+							lastLocation = e.installLocation;
+							monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
+									+ " " + e.installLocation); //$NON-NLS-1$
+						}
 					}
 
 					if (E.notEmpty(filter.getBundles())) {
@@ -170,12 +206,17 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					}
 					if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE)) {
 						if (filter.project != null) {
-							final IWorkspace workspace = filter.project.getWorkspace();
+							if (projectNames == null) {
+								projectNames = new HashSet<>();
+								final IWorkspace workspace = filter.project.getWorkspace();
+								for (final IProject project : workspace.getRoot().getProjects()) {
+									// String path =
+									// project.getLocationURI().getPath();
+									projectNames.add(project.getName());
+								}
+							}
 							boolean fnd = false;
-							for (final IProject project : workspace.getRoot().getProjects()) {
-								// String path =
-								// project.getLocationURI().getPath();
-								final String path = project.getName();
+							for (final String path : projectNames) {
 								if (e.installLocation.contains(path)) {
 									fnd = true;
 									break;
@@ -220,11 +261,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
-				cacheEntry.clear();
-				cacheBundleId.clear();
-				cachePackage.clear();
-				cacheLocation.clear();
-				outputDirectories.clear();
+				invalidate();
 			}
 		});
 	}
@@ -249,7 +286,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getBundleIds() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheBundleId);
+		return new ArrayList<>(getIndex().getBundleIds());
 	}
 
 	/**
@@ -258,7 +295,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getPackages() {
 		reloadCache(false, null);
-		return new ArrayList<>(cachePackage);
+		return new ArrayList<>(getIndex().getPackages());
 	}
 
 	/**
@@ -267,7 +304,47 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getLocations() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheLocation);
+		return new ArrayList<>(getIndex().getLocations());
+	}
+
+	/**
+	 * Drops the published index, the next access builds it again.
+	 */
+	private synchronized void invalidate() {
+		generation++;
+		index = null;
+		outputDirectories.clear();
+	}
+
+	/**
+	 * Starts a new build of the index, the empty index is published until the
+	 * build completes.
+	 *
+	 * @return the generation of the build
+	 */
+	private synchronized int startBuild() {
+		index = ContributionIndex.EMPTY;
+		outputDirectories.clear();
+		return ++generation;
+	}
+
+	/**
+	 * Publishes the given index, unless the index has been invalidated since
+	 * its build started.
+	 *
+	 * @return <code>true</code> if the index has been published
+	 */
+	private synchronized boolean publish(int buildGeneration, ContributionIndex newIndex) {
+		if (generation != buildGeneration) {
+			return false;
+		}
+		index = newIndex;
+		return true;
+	}
+
+	private ContributionIndex getIndex() {
+		final ContributionIndex current = index;
+		return current == null ? ContributionIndex.EMPTY : current;
 	}
 
 	/**
@@ -278,15 +355,12 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 *            true to force reload the cache
 	 */
 	private void reloadCache(boolean force, final IProviderStatusCallback providerStatusCallback) {
-		if (cacheEntry.isEmpty() || force) {
+		if (index == null || force) {
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
-			cacheEntry.clear();
-			cacheBundleId.clear();
-			cachePackage.clear();
-			cacheLocation.clear();
-			outputDirectories.clear();
+			// the index is published once complete
+			final int buildGeneration = startBuild();
 
 			final Job job = new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
 
@@ -299,6 +373,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
 							+ cacheName + ")", total); //$NON-NLS-1$
 
+					final List<BundleEntries> bundles = new ArrayList<>(total);
 					for (final IProject pj : projects) {
 						if (monitor.isCanceled()) {
 							break;
@@ -306,12 +381,20 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						final String rootDirectory = pj.getLocation().toOSString();
 						monitor.subTask(rootDirectory);
 						monitor.worked(1);
+						// workspace projects change too often to be kept in the index store
+						final List<Entry> entries = new ArrayList<>();
 						TargetPlatformContributionCollector.this
 						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
-								new File(rootDirectory));
+								new File(rootDirectory), entries);
+						bundles.add(new BundleEntries(rootDirectory, 0, entries));
 					}
 
-					// load target platform bundles
+					// load target platform bundles, visiting only the ones that
+					// changed since the index was stored
+					final File storeFile = getIndexFile();
+					final Map<String, BundleEntries> stored = ContributionIndex.read(storeFile);
+					final List<BundleEntries> targetBundles = new ArrayList<>(models.length);
+					boolean changed = false;
 					for (final IPluginModelBase pluginModelBase : models) {
 						monitor.subTask(pluginModelBase.getPluginBase().getId());
 						monitor.worked(1);
@@ -324,72 +407,52 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							// bundle = getBundle(new File())
 							continue;
 						}
-						URL url;
-						try {
-							final String installLocation = pluginModelBase.getInstallLocation();
-							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
-										}
+						final String installLocation = pluginModelBase.getInstallLocation();
+						final long stamp = ContributionIndex.getStamp(new File(installLocation));
+						BundleEntries bundle = stored.get(installLocation);
+						if (bundle == null || bundle.stamp() != stamp || (!bundle.entries().isEmpty()
+								&& !Objects.equals(bundle.entries().get(0).bundleSymName, pluginBase.getId()))) {
+							final List<Entry> entries = new ArrayList<>();
+							try {
+								if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
+									visitJar(pluginBase.getId(), installLocation, entries);
+								} else {
+									// not a jar file
+									final String bundleName = getBundle(new File(installLocation));
+									if (bundleName != null) {
+										visit(monitor, bundleName, installLocation, new File(installLocation), entries);
 									}
 								}
-							} else {
-								// not a jar file
-								final String bundle = getBundle(new File(installLocation));
-								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
-								}
+							} catch (final IOException e) {
+								ILog.get().error("Failed to index bundle: " + installLocation, e); //$NON-NLS-1$
 							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						} catch (final IOException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
+							bundle = new BundleEntries(installLocation, stamp, entries);
+							changed = true;
 						}
+						bundles.add(bundle);
+						targetBundles.add(bundle);
 					}
+					// bundles removed from the target are dropped from the store
+					changed |= stored.size() != targetBundles.size();
 					monitor.done();
 					if (monitor.isCanceled()) {
+						publish(buildGeneration, null);
 						if (providerStatusCallback != null) {
 							providerStatusCallback.onStatusChanged(ProviderStatus.CANCELLED);
 						}
 						return Status.CANCEL_STATUS;
 					}
+					if (!publish(buildGeneration, new ContributionIndex(bundles))) {
+						// the target changed meanwhile, the next access builds the index again
+						return Status.CANCEL_STATUS;
+					}
+					if (changed) {
+						try {
+							ContributionIndex.write(storeFile, targetBundles);
+						} catch (final IOException e) {
+							ILog.get().warn("Failed to store target platform index: " + storeFile, e); //$NON-NLS-1$
+						}
+					}
 					if (providerStatusCallback != null) {
 						providerStatusCallback.onStatusChanged(ProviderStatus.READY);
 					}
@@ -501,13 +564,53 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
+	private void visitJar(String bundleName, String installLocation, List<Entry> entries) throws IOException {
+		final URL url = new URL("file:///" + installLocation); //$NON-NLS-1$
+		try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
+			while (true) {
+				final ZipEntry entry = zis.getNextEntry();
+				if (entry == null) {
+					break;
+				}
+				final String name2 = entry.getName();
+				if (shouldIgnore(name2)) {
+					continue;
+				}
+				final Matcher m = patternFile.matcher(name2);
+				if (m.matches()) {
+					final Entry e = new Entry();
+					e.installLocation = installLocation;
+					e.name = m.group(2);
+					e.path = m.group(1);
+					if (e.path != null) {
+						e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+						if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+							e.pakage = e.pakage.substring(1);
+						}
+						if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+							e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
+						}
+					} else {
+						e.pakage = ""; //$NON-NLS-1$
+					}
+
+					e.bundleSymName = bundleName;
+					if (e.path == null) {
+						e.path = ""; //$NON-NLS-1$
+					}
+					entries.add(e);
+				}
+			}
+		}
+	}
+
+	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file, List<Entry> entries) {
 		for (final File fChild : file.listFiles()) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, bundleName, installLocation, fChild, entries);
 			} else {
 				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
 				name2 = stripOutputDirectory(name2, installLocation);
@@ -518,7 +621,6 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				if (m.matches()) {
 					final Entry e = new Entry();
 					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
 					e.name = m.group(2);
 					if (e.name.contains("$")) { //$NON-NLS-1$
 						continue;
@@ -544,11 +646,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					e.bundleSymName = bundleName;
 					// TODO we need project to strip source paths.
 					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
-					}
+					entries.add(e);
 				}
 			}
 		}
@@ -598,6 +696,22 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return ret;
 	}
 
+	/**
+	 * Returns the file in which the index of the bundles of the current target
+	 * is stored. Each target has its own file, so that switching back to a
+	 * target reuses its index.
+	 */
+	private File getIndexFile() {
+		String target = PDECore.getDefault().getPreferencesManager().getString(ICoreConstants.WORKSPACE_TARGET_HANDLE);
+		if (target == null || target.isEmpty()) {
+			target = "default"; //$NON-NLS-1$
+		} else {
+			target = Integer.toHexString(target.hashCode());
+		}
+		return Platform.getStateLocation(FrameworkUtil.getBundle(TargetPlatformContributionCollector.class))
+				.append(getClass().getSimpleName() + '-' + target + ".index").toFile(); //$NON-NLS-1$
+	}
+
 	protected boolean shouldIgnore(String name) {
 		return false;
 	}
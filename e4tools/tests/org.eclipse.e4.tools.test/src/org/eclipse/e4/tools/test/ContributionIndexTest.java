@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Eclipse contributors - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.tools.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.ContributionIndex;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.ContributionIndex.BundleEntries;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SuppressWarnings("restriction")
+public class ContributionIndexTest {
+
+	private static final String[] NAMES = { "ModelEditor", "EditorPart", "Handler", "HandlerProcessor", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"Ed", "modeleditor", "MyEditorHandler" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ContributionIndex index;
+
+	@Before
+	public void setUpIndex() {
+		final List<Entry> first = new ArrayList<>();
+		final List<Entry> second = new ArrayList<>();
+		for (int i = 0; i < NAMES.length; i++) {
+			(i % 2 == 0 ? first : second).add(entry(i % 2 == 0 ? "bundle.a" : "bundle.b", NAMES[i])); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		index = new ContributionIndex(List.of(new BundleEntries("/a", 1, first), //$NON-NLS-1$
+				new BundleEntries("/b", 2, second))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCandidatesContainAllMatches() {
+		for (final String namePattern : new String[] { "editor", "EDITOR", "*Edit*Part", "Hand?er", "Processor", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				"unknown", "Ed*" }) { //$NON-NLS-1$ //$NON-NLS-2$
+			final Pattern pattern = PatternConstructor.createPattern(namePattern, false);
+			final int[] candidates = index.getCandidates(namePattern);
+			final List<String> expected = new ArrayList<>();
+			for (int i = 0; i < index.size(); i++) {
+				final String name = index.getEntry(i).name;
+				if (pattern.matcher(name).find()) {
+					expected.add(name);
+				}
+			}
+			final List<String> actual = new ArrayList<>();
+			if (candidates == null) {
+				for (int i = 0; i < index.size(); i++) {
+					addMatch(index.getEntry(i).name, pattern, actual);
+				}
+			} else {
+				for (final int id : candidates) {
+					addMatch(index.getEntry(id).name, pattern, actual);
+				}
+			}
+			assertEquals(namePattern, expected, actual);
+		}
+	}
+
+	@Test
+	public void testCandidatesFiltered() {
+		final List<String> names = new ArrayList<>();
+		for (final int id : index.getCandidates("editor")) { //$NON-NLS-1$
+			names.add(index.getEntry(id).name);
+		}
+		assertEquals(List.of("EditorPart", "ModelEditor", "MyEditorHandler", "modeleditor"), sorted(names)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertEquals(0, index.getCandidates("unknown").length); //$NON-NLS-1$
+		// patterns without trigram do not filter
+		assertNull(index.getCandidates("Ed")); //$NON-NLS-1$
+		assertNull(index.getCandidates(null));
+	}
+
+	@Test
+	public void testBundlesPackagesAndLocations() {
+		assertEquals(7, index.size());
+		assertEquals(2, index.getBundleIds().size());
+		assertTrue(index.getBundleIds().contains("bundle.a")); //$NON-NLS-1$
+		assertTrue(index.getLocations().contains("/b")); //$NON-NLS-1$
+		assertTrue(index.getPackages().contains("org.example")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testStoreRoundTrip() throws IOException {
+		final File file = new File(folder.getRoot(), "test.index"); //$NON-NLS-1$
+		final List<Entry> entries = List.of(entry("bundle.a", "ModelEditor"), entry("bundle.a", "Handler")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		ContributionIndex.write(file, List.of(new BundleEntries("/a", 42, entries))); //$NON-NLS-1$
+
+		final Map<String, BundleEntries> read = ContributionIndex.read(file);
+		assertEquals(1, read.size());
+		final BundleEntries bundle = read.get("/a"); //$NON-NLS-1$
+		assertEquals(42, bundle.stamp());
+		assertEquals(2, bundle.entries().size());
+		final Entry e = bundle.entries().get(0);
+		assertEquals("ModelEditor", e.name); //$NON-NLS-1$
+		assertEquals("org/example/", e.path); //$NON-NLS-1$
+		assertEquals("org.example", e.pakage); //$NON-NLS-1$
+		assertEquals("bundle.a", e.bundleSymName); //$NON-NLS-1$
+		assertEquals("/a", e.installLocation); //$NON-NLS-1$
+		assertNull(e.relativePath);
+
+		Files.writeString(file.toPath(), "corrupted"); //$NON-NLS-1$
+		assertTrue(ContributionIndex.read(file).isEmpty());
+	}
+
+	@Test
+	public void testStampOfDirectoryBundle() throws IOException {
+		final File bundle = folder.newFolder("bundle"); //$NON-NLS-1$
+		final File classFile = new File(bundle, "org/example/ModelEditor.class"); //$NON-NLS-1$
+		classFile.getParentFile().mkdirs();
+		Files.write(classFile.toPath(), new byte[] { 1 });
+		classFile.setLastModified(1000000L);
+		final long stamp = ContributionIndex.getStamp(bundle);
+		assertEquals(stamp, ContributionIndex.getStamp(bundle));
+
+		// a changed class deep in the bundle changes the stamp
+		classFile.setLastModified(2000000L);
+		assertNotEquals(stamp, ContributionIndex.getStamp(bundle));
+	}
+
+	@Test
+	public void testStampOfJarBundle() throws IOException {
+		final File jar = folder.newFile("bundle.jar"); //$NON-NLS-1$
+		jar.setLastModified(1000000L);
+		final long stamp = ContributionIndex.getStamp(jar);
+		Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+		jar.setLastModified(1000000L);
+		assertNotEquals(stamp, ContributionIndex.getStamp(jar));
+	}
+
+	private static void addMatch(String name, Pattern pattern, List<String> matches) {
+		if (pattern.matcher(name).find()) {
+			matches.add(name);
+		}
+	}
+
+	private static List<String> sorted(List<String> names) {
+		final List<String> result = new ArrayList<>(names);
+		result.sort(null);
+		return result;
+	}
+
+	private static Entry entry(String bundle, String name) {
+		final Entry e = new Entry();
+		e.bundleSymName = bundle;
+		e.installLocation = bundle.equals("bundle.a") ? "/a" : "/b"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		e.name = name;
+		e.path = "org/example/"; //$NON-NLS-1$
+		e.pakage = "org.example"; //$NON-NLS-1$
+		return e;
+	}
+}
@@ -352,6 +352,11 @@ public interface ICoreConstants {
 	 * build as background job
 	 */
 	String RUN_API_ANALYSIS_AS_JOB = "Preferences.MainPage.runAPIAnalysisAsJob";//$NON-NLS-1$
+	/**
+	 * Boolean preference whether the schemas of extension points used in the
+	 * workspace are parsed in the background after the target is loaded
+	 */
+	String PRELOAD_EXTENSION_POINT_SCHEMAS = "preload_extension_point_schemas"; //$NON-NLS-1$
 
 	/**
 	 * Explicit preference value for {@link #WORKSPACE_TARGET_HANDLE} when the user chooses no
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.BundleContext;
@@ -90,17 +91,20 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static boolean DEBUG_TARGET_PROFILE = false;
 	public static boolean DEBUG_VALIDATION = false;
 	public static boolean DEBUG_STATE = false;
+	public static boolean DEBUG_BND = false;
 	public static DebugTrace TRACE;
 	private static final String DEBUG = "/debug"; //$NON-NLS-1$
 
 	public static final String KEY_DEBUG_STATE = DEBUG + "/state"; //$NON-NLS-1$
 	public static final String KEY_DEBUG_VALIDATION = DEBUG + "/validation"; //$NON-NLS-1$
+	public static final String KEY_DEBUG_BND = DEBUG + "/bnd"; //$NON-NLS-1$
 	private static final String DEBUG_FLAG = PLUGIN_ID + DEBUG;
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + KEY_DEBUG_VALIDATION;
 	private static final String STATE_DEBUG = PLUGIN_ID + KEY_DEBUG_STATE;
+	private static final String BND_DEBUG = PLUGIN_ID + KEY_DEBUG_BND;
 
 	// Shared instance
 	private static PDECore inst;
@@ -193,6 +197,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private SourceLocationManager fSourceLocationManager;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
+	private PluginSearchIndex fPluginSearchIndex;
 	private ClasspathContainerResolverManager fClasspathContainerResolverManager;
 
 	// Tracing options manager
@@ -354,6 +359,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fSearchablePluginsManager;
 	}
 
+	public synchronized PluginSearchIndex getPluginSearchIndex() {
+		if (fPluginSearchIndex == null) {
+			fPluginSearchIndex = new PluginSearchIndex();
+		}
+		return fPluginSearchIndex;
+	}
+
 	public boolean areModelsInitialized() {
 		return getModelManager().isInitialized();
 	}
@@ -438,6 +450,10 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSearchablePluginsManager.shutdown();
 			fSearchablePluginsManager = null;
 		}
+		if (fPluginSearchIndex != null) {
+			fPluginSearchIndex.shutdown();
+			fPluginSearchIndex = null;
+		}
 		if (fFeatureModelManager != null) {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
@@ -498,6 +514,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
 		DEBUG_STATE = DEBUG & options.getBooleanOption(STATE_DEBUG, false);
+		DEBUG_BND = DEBUG && options.getBooleanOption(BND_DEBUG, false);
 	}
 
 	/**
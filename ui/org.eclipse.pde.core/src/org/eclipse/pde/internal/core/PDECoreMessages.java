@@ -334,6 +334,8 @@ public class PDECoreMessages extends NLS {
 
 	public static String SearchablePluginsManager_createProjectTaskName;
 
+	public static String SchemaRegistry_preloadingSchemas;
+
 	public static String SourceEntryErrorReporter_0;
 	public static String SourceEntryErrorReporter_1;
 	public static String SourceEntryErrorReporter_2;
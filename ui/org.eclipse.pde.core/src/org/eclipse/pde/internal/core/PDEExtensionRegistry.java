@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.ListIterator;
 
@@ -50,6 +52,20 @@ public class PDEExtensionRegistry {
 
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
+	/**
+	 * Registry caches of previous targets are kept in sibling directories named
+	 * after the contributions timestamp, so that switching back to a target
+	 * does not parse its <code>plugin.xml</code> files again.
+	 */
+	private static final String SAVED_EXTENSION_DIR_PREFIX = EXTENSION_DIR + '-';
+	private static final int MAX_SAVED_REGISTRIES = 3;
+
+	/**
+	 * Contributions timestamp of the models the current registry was created
+	 * from
+	 */
+	private long fRegistryKey;
+
 	public PDEExtensionRegistry() {
 		if (fStrategy == null) {
 			File extensionsDir = new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR);
@@ -101,19 +117,76 @@ public class PDEExtensionRegistry {
 	}
 
 	private IExtensionRegistry createRegistry() {
+		fRegistryKey = fStrategy.getContributionsTimestamp();
+		restoreSavedRegistry(fRegistryKey);
 		return RegistryFactory.createRegistry(fStrategy, fMasterKey, fUserKey);
 	}
 
-	public void targetReloaded() {
-		// stop old registry (which will write contents to FS) and delete the cache it creates
-		// might see if we can dispose of a registry without writing to file system.  NOTE: Don't call stop() because we want to still reuse fStrategy
+	public synchronized void targetReloaded() {
+		// stop old registry (which will write contents to FS) and keep the cache it creates for the old target
+		// NOTE: Don't call stop() because we want to still reuse fStrategy
 		if (fRegistry != null) {
 			fRegistry.stop(fMasterKey);
+			saveRegistry(fRegistryKey);
 		}
-		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
+		CoreUtility.deleteContent(getExtensionsDirectory());
 		fRegistry = null;
 	}
 
+	private static File getExtensionsDirectory() {
+		return new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR);
+	}
+
+	private static File getSavedRegistryDirectory(long key) {
+		return new File(PDECore.getDefault().getStateLocation().toFile(),
+				SAVED_EXTENSION_DIR_PREFIX + Long.toHexString(key));
+	}
+
+	/**
+	 * Moves the cache written by the stopped registry aside and deletes the
+	 * oldest saved caches.
+	 */
+	private void saveRegistry(long key) {
+		File extensionsDir = getExtensionsDirectory();
+		if (!extensionsDir.isDirectory()) {
+			return;
+		}
+		File savedDir = getSavedRegistryDirectory(key);
+		CoreUtility.deleteContent(savedDir);
+		if (extensionsDir.renameTo(savedDir)) {
+			savedDir.setLastModified(System.currentTimeMillis());
+		} else {
+			// do not leave a partially moved cache behind
+			CoreUtility.deleteContent(savedDir);
+		}
+		File[] saved = PDECore.getDefault().getStateLocation().toFile()
+				.listFiles((dir, name) -> name.startsWith(SAVED_EXTENSION_DIR_PREFIX));
+		if (saved != null && saved.length > MAX_SAVED_REGISTRIES) {
+			Arrays.sort(saved, Comparator.comparingLong(File::lastModified).reversed());
+			for (int i = MAX_SAVED_REGISTRIES; i < saved.length; i++) {
+				CoreUtility.deleteContent(saved[i]);
+			}
+		}
+	}
+
+	/**
+	 * Moves a cache saved for the same contributions in place, the registry
+	 * still validates it against the contributions timestamp.
+	 */
+	private void restoreSavedRegistry(long key) {
+		File savedDir = getSavedRegistryDirectory(key);
+		if (!savedDir.isDirectory()) {
+			return;
+		}
+		File extensionsDir = getExtensionsDirectory();
+		CoreUtility.deleteContent(extensionsDir);
+		if (!savedDir.renameTo(extensionsDir)) {
+			// the registry is then built from the contributions, drop both partial copies
+			CoreUtility.deleteContent(savedDir);
+			CoreUtility.deleteContent(extensionsDir);
+		}
+	}
+
 	// dispose of registry without writing contents.
 	public void dispose() {
 		fStrategy.dispose();
@@ -123,7 +196,7 @@ public class PDEExtensionRegistry {
 	// Methods to access data in Extension Registry
 
 	public IPluginModelBase[] findExtensionPlugins(String pointId, boolean activeOnly) {
-		IExtensionPoint point = getExtensionPoint(pointId);
+		IExtensionPoint point = getExtensionPointWithExtensions(pointId);
 		if (point == null) {
 			// if extension point for extension does not exist, search all plug-ins manually
 			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
@@ -151,8 +224,38 @@ public class PDEExtensionRegistry {
 		return getPlugin(contributor, true);
 	}
 
+	/**
+	 * Returns the extension point for its declaration only. Only the target
+	 * contributions declaring it are added on demand.
+	 */
 	private IExtensionPoint getExtensionPoint(String pointId) {
-		return getRegistry().getExtensionPoint(pointId);
+		IExtensionRegistry registry = getRegistry();
+		fStrategy.addPendingDeclarations(registry, pointId);
+		return registry.getExtensionPoint(pointId);
+	}
+
+	/**
+	 * Returns the extension point after the target contributions declaring or
+	 * extending it have been added, so that
+	 * {@link IExtensionPoint#getExtensions()} is complete.
+	 */
+	private IExtensionPoint getExtensionPointWithExtensions(String pointId) {
+		IExtensionRegistry registry = getRegistry();
+		fStrategy.addPendingExtensions(registry, pointId);
+		return registry.getExtensionPoint(pointId);
+	}
+
+	/**
+	 * Returns whether the contribution of the given target model has not been
+	 * added to the registry yet, because no query has needed it.
+	 *
+	 * @param base a model of this registry
+	 * @return <code>true</code> if the <code>plugin.xml</code> of the model has
+	 *         not been parsed into the registry yet
+	 */
+	public boolean isContributionPending(IPluginModelBase base) {
+		getRegistry();
+		return fStrategy.isPending(base);
 	}
 
 	/*
@@ -189,7 +292,9 @@ public class PDEExtensionRegistry {
 		if (contributor == null) {
 			return new IPluginExtension[0];
 		}
-		IExtension[] extensions = getRegistry().getExtensions(fStrategy.createContributor(base));
+		IExtensionRegistry registry = getRegistry();
+		fStrategy.addPendingContribution(registry, base);
+		IExtension[] extensions = registry.getExtensions(contributor);
 		ArrayList<PluginExtension> list = new ArrayList<>();
 		for (IExtension ext : extensions) {
 			PluginExtension extension = new PluginExtension(ext);
@@ -205,7 +310,9 @@ public class PDEExtensionRegistry {
 		if (contributor == null) {
 			return new IPluginExtensionPoint[0];
 		}
-		IExtensionPoint[] extensions = getRegistry().getExtensionPoints(fStrategy.createContributor(base));
+		IExtensionRegistry registry = getRegistry();
+		fStrategy.addPendingContribution(registry, base);
+		IExtensionPoint[] extensions = registry.getExtensionPoints(contributor);
 		ArrayList<PluginExtensionPoint> list = new ArrayList<>();
 		for (IExtensionPoint extension : extensions) {
 			PluginExtensionPoint point = new PluginExtensionPoint(extension);
@@ -225,7 +332,7 @@ public class PDEExtensionRegistry {
 
 	public IExtension[] findExtensions(String extensionPointId, boolean activeOnly) {
 		ArrayList<IExtension> list = new ArrayList<>();
-		IExtensionPoint point = getExtensionPoint(extensionPointId);
+		IExtensionPoint point = getExtensionPointWithExtensions(extensionPointId);
 		if (point != null) {
 			IExtension[] extensions = point.getExtensions();
 			if (!activeOnly) {
@@ -238,6 +345,7 @@ public class PDEExtensionRegistry {
 				}
 			}
 		} else {
+			// undeclared point, its indexed extenders have been added all the same
 			IPluginModelBase[] bases = activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
 			for (IPluginModelBase base : bases) {
 				IContributor contributor = fStrategy.createContributor(base);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,9 +18,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.eclipse.core.runtime.IContributor;
@@ -35,6 +43,9 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.osgi.util.tracker.ServiceTracker;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 public class PDERegistryStrategy extends RegistryStrategy {
 
@@ -49,6 +60,93 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	private ExtensionListener fExtensionListener = null;
 	private PDEExtensionRegistry fPDERegistry = null;
 
+	/**
+	 * Target models whose contribution has not been added to the registry
+	 * yet, by contributor id. They are parsed on demand when a query needs
+	 * them.
+	 */
+	private final Map<String, IPluginModelBase> fPendingContributions = new LinkedHashMap<>();
+
+	/**
+	 * Held while pending contributions are added on demand, so that a
+	 * concurrent query waits until the contributions it needs are complete
+	 * instead of finding them neither pending nor in the registry. Registry
+	 * change events of the thread holding it are suppressed, since a query
+	 * does not change the contents of the target.
+	 */
+	private final Object fDemandLoadLock = new Object();
+
+	/**
+	 * The ids of the pending contributions declaring each extension point, by
+	 * full extension point id. Built once from the <code>plugin.xml</code> files
+	 * of the pending contributions when first needed, and guarded by
+	 * {@link #fDemandLoadLock}.
+	 */
+	private Map<String, Set<String>> fPendingDeclarations = null;
+
+	/**
+	 * The ids of the pending contributions extending each extension point, by
+	 * full extension point id
+	 */
+	private Map<String, Set<String>> fPendingExtensions = null;
+
+	/**
+	 * The ids of the pending contributions that could not be indexed, they are
+	 * added for any extension point
+	 */
+	private final Set<String> fUnindexedContributions = new HashSet<>();
+
+	/**
+	 * Reads the <code>plugin.xml</code> or <code>fragment.xml</code> of a model
+	 */
+	@FunctionalInterface
+	private interface ContributionReader {
+		void read(InputStream is, File input) throws IOException;
+	}
+
+	/**
+	 * Collects the extension points declared and extended by a
+	 * <code>plugin.xml</code> or <code>fragment.xml</code>, qualified with the
+	 * namespace of its contributor the way the registry does.
+	 */
+	private static final class ExtensionPointCollector extends DefaultHandler {
+		private final String fNamespace;
+		private final List<String> fDeclared = new ArrayList<>();
+		private final List<String> fExtended = new ArrayList<>();
+		private int fDepth = 0;
+
+		ExtensionPointCollector(String namespace) {
+			fNamespace = namespace;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			fDepth++;
+			if (fDepth != 2) {
+				return;
+			}
+			if ("extension-point".equals(qName)) { //$NON-NLS-1$
+				addQualified(attributes.getValue("id"), fDeclared); //$NON-NLS-1$
+			} else if ("extension".equals(qName)) { //$NON-NLS-1$
+				addQualified(attributes.getValue("point"), fExtended); //$NON-NLS-1$
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			fDepth--;
+		}
+
+		private void addQualified(String id, List<String> ids) {
+			if (id == null || id.isBlank()) {
+				return;
+			}
+			id = id.trim();
+			// simple ids are relative to the namespace of the contributor
+			ids.add(id.indexOf('.') == -1 ? fNamespace + '.' + id : id);
+		}
+	}
+
 	class RegistryListener {
 		IExtensionRegistry fRegistry;
 
@@ -92,6 +190,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			ModelEntry[] removedEntries = delta.getRemovedEntries();
 			if (removedEntries.length == entries.length && fRegistry instanceof IDynamicExtensionRegistry) {
 				for (ModelEntry entry : removedEntries) {
+					removePendingContributions(entry.getId());
 					if (entry.getId() != null) {
 						IDynamicExtensionRegistry registry = (IDynamicExtensionRegistry) fRegistry;
 						IContributor[] contributors = registry.getAllContributors();
@@ -172,9 +271,9 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	public void onStart(IExtensionRegistry registry, boolean loadedFromCache) {
 		super.onStart(registry, loadedFromCache);
 		setListenerRegistry(registry);
-		if (!loadedFromCache) {
-			processBundles(registry);
-		}
+		// contributions restored from the cache are skipped, the cache may
+		// contain only those that were demanded in a previous session
+		processBundles(registry);
 	}
 
 	@Override
@@ -183,6 +282,15 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		setListenerRegistry(null);
 	}
 
+	@Override
+	public void scheduleChangeEvent(Object[] listeners, Map<String, ?> deltas, Object registry) {
+		if (Thread.holdsLock(fDemandLoadLock)) {
+			// contributions added on demand by a query are not changes
+			return;
+		}
+		super.scheduleChangeEvent(listeners, deltas, registry);
+	}
+
 	@Override
 	public SAXParserFactory getXMLParser() {
 		if (xmlTracker == null) {
@@ -193,7 +301,175 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	}
 
 	private void processBundles(IExtensionRegistry registry) {
-		addBundles(registry, fPDERegistry.getModels());
+		// Workspace models are contributed right away so they take precedence
+		// over target models, target models are only parsed when demanded
+		for (IPluginModelBase base : fPDERegistry.getModels()) {
+			if (base.getUnderlyingResource() != null) {
+				addBundle(registry, base);
+			} else {
+				deferBundle(registry, base);
+			}
+		}
+		synchronized (fDemandLoadLock) {
+			// index the pending contributions again on the next demand
+			fPendingDeclarations = null;
+			fPendingExtensions = null;
+			fUnindexedContributions.clear();
+		}
+	}
+
+	private void deferBundle(IExtensionRegistry registry, IPluginModelBase base) {
+		IContributor contributor = createContributor(base);
+		if (contributor == null || ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
+			return;
+		}
+		synchronized (fPendingContributions) {
+			fPendingContributions.putIfAbsent(((RegistryContributor) contributor).getActualId(), base);
+		}
+	}
+
+	/**
+	 * Adds the contribution of the given model if it has not been added yet.
+	 *
+	 * @param registry registry to contribute to
+	 * @param base the model whose extensions and extension points are queried
+	 */
+	void addPendingContribution(IExtensionRegistry registry, IPluginModelBase base) {
+		IContributor contributor = createContributor(base);
+		if (contributor == null) {
+			return;
+		}
+		synchronized (fDemandLoadLock) {
+			IPluginModelBase pending;
+			synchronized (fPendingContributions) {
+				pending = fPendingContributions.get(((RegistryContributor) contributor).getActualId());
+			}
+			if (pending != null) {
+				// removes the pending marker once the contribution has been added
+				addBundle(registry, pending);
+			}
+		}
+	}
+
+	/**
+	 * Adds the pending contributions declaring the given extension point.
+	 *
+	 * @param registry registry to contribute to
+	 * @param pointId the full id of a queried extension point
+	 */
+	void addPendingDeclarations(IExtensionRegistry registry, String pointId) {
+		synchronized (fDemandLoadLock) {
+			ensurePendingIndex();
+			Set<String> ids = new HashSet<>(fUnindexedContributions);
+			ids.addAll(fPendingDeclarations.getOrDefault(pointId, Set.of()));
+			addPendingBundles(registry, ids);
+		}
+	}
+
+	/**
+	 * Adds the pending contributions declaring or extending the given
+	 * extension point, required for queries over its extensions.
+	 *
+	 * @param registry registry to contribute to
+	 * @param pointId the full id of a queried extension point
+	 */
+	void addPendingExtensions(IExtensionRegistry registry, String pointId) {
+		synchronized (fDemandLoadLock) {
+			ensurePendingIndex();
+			Set<String> ids = new HashSet<>(fUnindexedContributions);
+			ids.addAll(fPendingDeclarations.getOrDefault(pointId, Set.of()));
+			ids.addAll(fPendingExtensions.getOrDefault(pointId, Set.of()));
+			addPendingBundles(registry, ids);
+		}
+	}
+
+	/**
+	 * Returns whether the contribution of the given model has been deferred and
+	 * not been added to the registry yet.
+	 *
+	 * @param base a model of the registry
+	 * @return <code>true</code> if its contribution is pending
+	 */
+	boolean isPending(IPluginModelBase base) {
+		IContributor contributor = createContributor(base);
+		if (contributor == null) {
+			return false;
+		}
+		synchronized (fPendingContributions) {
+			return fPendingContributions.containsKey(((RegistryContributor) contributor).getActualId());
+		}
+	}
+
+	private void addPendingBundles(IExtensionRegistry registry, Set<String> ids) {
+		List<IPluginModelBase> bases = new ArrayList<>();
+		synchronized (fPendingContributions) {
+			for (String id : ids) {
+				IPluginModelBase base = fPendingContributions.get(id);
+				if (base != null) {
+					bases.add(base);
+				}
+			}
+		}
+		addBundles(registry, bases.toArray(new IPluginModelBase[bases.size()]));
+	}
+
+	/**
+	 * Indexes the pending contributions by the extension points they declare
+	 * and extend, if they have not been indexed yet. Must be called holding
+	 * {@link #fDemandLoadLock}.
+	 */
+	private void ensurePendingIndex() {
+		if (fPendingDeclarations != null) {
+			return;
+		}
+		Map<String, IPluginModelBase> pending;
+		synchronized (fPendingContributions) {
+			pending = new LinkedHashMap<>(fPendingContributions);
+		}
+		Map<String, Set<String>> declarations = new HashMap<>();
+		Map<String, Set<String>> extensions = new HashMap<>();
+		for (Map.Entry<String, IPluginModelBase> entry : pending.entrySet()) {
+			String id = entry.getKey();
+			IPluginModelBase base = entry.getValue();
+			IContributor contributor = createContributor(base);
+			if (contributor == null) {
+				continue;
+			}
+			// the namespace of a fragment is the one of its host
+			ExtensionPointCollector collector = new ExtensionPointCollector(contributor.getName());
+			try {
+				readContribution(base, (is, input) -> {
+					try {
+						getXMLParser().newSAXParser().parse(is, collector);
+					} catch (SAXException | ParserConfigurationException e) {
+						throw new IOException(e);
+					}
+				});
+			} catch (IOException | RuntimeException e) {
+				fUnindexedContributions.add(id);
+				continue;
+			}
+			for (String pointId : collector.fDeclared) {
+				declarations.computeIfAbsent(pointId, k -> new HashSet<>()).add(id);
+			}
+			for (String pointId : collector.fExtended) {
+				extensions.computeIfAbsent(pointId, k -> new HashSet<>()).add(id);
+			}
+		}
+		fPendingDeclarations = declarations;
+		fPendingExtensions = extensions;
+	}
+
+	private void removePendingContributions(String symbolicName) {
+		if (symbolicName == null) {
+			return;
+		}
+		synchronized (fPendingContributions) {
+			fPendingContributions.values().removeIf(base -> {
+				BundleDescription desc = base.getBundleDescription();
+				return desc != null && symbolicName.equals(desc.getSymbolicName());
+			});
+		}
 	}
 
 	private void addBundles(IExtensionRegistry registry, IPluginModelBase[] bases) {
@@ -207,43 +483,62 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		if (contributor == null) {
 			return;
 		}
+		try {
+			addContribution(registry, base, contributor);
+		} finally {
+			synchronized (fPendingContributions) {
+				fPendingContributions.remove(((RegistryContributor) contributor).getActualId());
+			}
+		}
+	}
+
+	private void addContribution(IExtensionRegistry registry, IPluginModelBase base, IContributor contributor) {
 		if (((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
 			return;
 		}
 
+		try {
+			readContribution(base,
+					(is, input) -> registry.addContribution(is, contributor, true, input.getPath(), null, fKey));
+		} catch (IOException ignored) {
+		}
+	}
+
+	private void readContribution(IPluginModelBase base, ContributionReader reader) throws IOException {
 		File input = getFile(base);
 		if (input == null) {
 			return;
 		}
-		try {
-			if (new File(base.getInstallLocation()).isDirectory()) {
-				// Directory bundle, access the extensions file directly
-				try (InputStream is = new BufferedInputStream(new FileInputStream(input))) {
-					registry.addContribution(is, contributor, true, input.getPath(), null, fKey);
-				}
-			} else {
-				// Archived bundle, need to extract the file
-				try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
-					String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
-							: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
-					ZipEntry entry = jfile.getEntry(fileName);
-					if (entry != null) {
-						try (InputStream is = jfile.getInputStream(entry)) {
-							if (is != null) {
-								registry.addContribution(new BufferedInputStream(is), contributor, true,
-										input.getPath(), null, fKey);
-							}
+		if (new File(base.getInstallLocation()).isDirectory()) {
+			// Directory bundle, access the extensions file directly
+			try (InputStream is = new BufferedInputStream(new FileInputStream(input))) {
+				reader.read(is, input);
+			}
+		} else {
+			// Archived bundle, need to extract the file
+			try (ZipFile jfile = new ZipFile(input, ZipFile.OPEN_READ)) {
+				String fileName = (base.isFragmentModel()) ? ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR
+						: ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR;
+				ZipEntry entry = jfile.getEntry(fileName);
+				if (entry != null) {
+					try (InputStream is = jfile.getInputStream(entry)) {
+						if (is != null) {
+							reader.read(new BufferedInputStream(is), input);
 						}
 					}
 				}
 			}
-		} catch (IOException ignored) {
 		}
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
 		if (registry instanceof IDynamicExtensionRegistry) {
 			IContributor contributor = createContributor(base);
+			if (contributor != null) {
+				synchronized (fPendingContributions) {
+					fPendingContributions.remove(((RegistryContributor) contributor).getActualId());
+				}
+			}
 			if (contributor != null && ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
 				((IDynamicExtensionRegistry) registry).removeContributor(createContributor(base), fKey);
 			}
@@ -309,6 +604,14 @@ public class PDERegistryStrategy extends RegistryStrategy {
 	}
 
 	public void dispose() {
+		synchronized (fPendingContributions) {
+			fPendingContributions.clear();
+		}
+		synchronized (fDemandLoadLock) {
+			fPendingDeclarations = null;
+			fPendingExtensions = null;
+			fUnindexedContributions.clear();
+		}
 		PluginModelManager manager = PDECore.getDefault().getModelManager();
 		manager.removePluginModelListener(fModelListener);
 		manager.removeExtensionDeltaListener(fExtensionListener);
@@ -322,7 +625,8 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		fPDERegistry.getRegistry();
 	}
 
-	// Same timestamp calculations as PDEState.computeTimestamp(URL[] urls, long timestamp)
+	// Same timestamp calculations as PDEState.computeTimestamp(URL[] urls, long timestamp),
+	// combined with the bundle ids since they identify the contributors
 	@Override
 	public long getContributionsTimestamp() {
 		IPluginModelBase[] bases = fPDERegistry.getModels();
@@ -352,6 +656,11 @@ public class PDERegistryStrategy extends RegistryStrategy {
 					}
 				}
 				timeStamp ^= location.getAbsolutePath().hashCode();
+				// contributors are identified by bundle id, which depends on the state
+				BundleDescription desc = base.getBundleDescription();
+				if (desc != null) {
+					timeStamp ^= (desc.getBundleId() + 1) * 31 + location.getAbsolutePath().hashCode();
+				}
 			}
 		}
 		return timeStamp;
@@ -529,6 +529,7 @@ public class PluginModelManager implements IModelProviderListener {
 		fEntries = entries;
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		PDECore.getDefault().getSchemaRegistry().schedulePreload();
 		if (oldState != null) {
 			// Need to update classpath entries
 			updateAffectedEntries(null);
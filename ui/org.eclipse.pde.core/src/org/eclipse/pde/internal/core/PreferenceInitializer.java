@@ -77,6 +77,7 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		corePrefs.setDefault(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET, true);
 		corePrefs.setDefault(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
 		corePrefs.setDefault(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+		corePrefs.setDefault(ICoreConstants.PRELOAD_EXTENSION_POINT_SCHEMAS, false);
 		corePrefs.setDefault(ICoreConstants.TEST_PLUGIN_PATTERN, ICoreConstants.TEST_PLUGIN_PATTERN_DEFAULTVALUE);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2022 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -65,6 +68,31 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private BundleManifestSourceLocationManager fBundleManifestLocator = null;
 
+	/**
+	 * Sources found in the user specified locations, by path relative to the
+	 * source location, valid for the preference value in
+	 * {@link #fUserLocationsPreference}
+	 */
+	private final Map<IPath, IPath> fUserLocationResults = new ConcurrentHashMap<>();
+	private volatile String fUserLocationsPreference;
+
+	/**
+	 * Sources found in the locations added via extension point, by path
+	 * relative to the source location
+	 */
+	private final Map<IPath, IPath> fExtensionLocationResults = new ConcurrentHashMap<>();
+
+	/**
+	 * Existing source bundles specified by a bundle manifest entry, by plug-in
+	 * id and version
+	 */
+	private final Map<SourceLocationKey, IPath> fBundleManifestResults = new ConcurrentHashMap<>();
+
+	/**
+	 * Sources found by the dynamic source locators, by plug-in id and version
+	 */
+	private final Map<SourceLocationKey, IPath> fLocatorResults = new ConcurrentHashMap<>();
+
 	/**
 	 * Searches source locations for one that provides source for the given pluginBase.
 	 * Will search user specified locations, then bundle manifest specified locations, then
@@ -197,11 +225,16 @@ public class SourceLocationManager implements ICoreConstants {
 	}
 
 	/**
-	 * Clears the cache of all known extension and bundle manifest locations.
+	 * Clears the cache of all known extension and bundle manifest locations
+	 * and of the source lookups done so far.
 	 */
 	public void reset() {
 		fExtensionLocations = null;
 		fBundleManifestLocator = null;
+		fUserLocationResults.clear();
+		fExtensionLocationResults.clear();
+		fBundleManifestResults.clear();
+		fLocatorResults.clear();
 	}
 
 	/**
@@ -291,16 +324,29 @@ public class SourceLocationManager implements ICoreConstants {
 	 * @param relativePath location of source file within the source location
 	 * @return path to the source file or <code>null</code> if one could not be found or if the file does not exist
 	 */
+	@SuppressWarnings("deprecation")
 	private IPath searchUserSpecifiedLocations(IPath relativePath) {
-		List<IPath> userLocations = getUserLocations();
-		for (IPath location : userLocations) {
-			IPath fullPath = location.append(relativePath);
-			File file = fullPath.toFile();
-			if (file.exists()) {
-				return fullPath;
-			}
+		if (relativePath == null) {
+			return null;
 		}
-		return null;
+		String pref = PDECore.getDefault().getPreferencesManager().getString(P_SOURCE_LOCATIONS);
+		if (pref.isEmpty()) {
+			return null;
+		}
+		if (!pref.equals(fUserLocationsPreference)) {
+			fUserLocationResults.clear();
+			fUserLocationsPreference = pref;
+		}
+		return findSource(fUserLocationResults, relativePath, path -> {
+			for (IPath location : getUserLocations()) {
+				IPath fullPath = location.append(path);
+				File file = fullPath.toFile();
+				if (file.exists()) {
+					return fullPath;
+				}
+			}
+			return null;
+		});
 	}
 
 	/**
@@ -313,13 +359,32 @@ public class SourceLocationManager implements ICoreConstants {
 	 *         found or if the file does not exist
 	 */
 	private IPath searchExtensionLocations(IPath relativePath, IPluginBase plugin) {
-		for (IPath location : getExtensionLocations()) {
-			IPath fullPath = location.append(relativePath);
-			File file = fullPath.toFile();
-			if (file.exists()) {
-				return fullPath;
+		if (relativePath != null) {
+			IPath result = findSource(fExtensionLocationResults, relativePath, path -> {
+				for (IPath location : getExtensionLocations()) {
+					IPath fullPath = location.append(path);
+					File file = fullPath.toFile();
+					if (file.exists()) {
+						return fullPath;
+					}
+				}
+				return null;
+			});
+			if (result != null) {
+				return result;
 			}
 		}
+		SourceLocationKey key;
+		try {
+			key = new SourceLocationKey(plugin.getId(), new Version(plugin.getVersion()));
+		} catch (IllegalArgumentException e) {
+			// the locators are still asked, but their result is not remembered
+			return locateSource(plugin);
+		}
+		return findSource(fLocatorResults, key, k -> locateSource(plugin));
+	}
+
+	private IPath locateSource(IPluginBase plugin) {
 		return getExtensions().locators.stream().map(locator -> {
 			try {
 				return locator.locator.locateSource(plugin);
@@ -329,6 +394,25 @@ public class SourceLocationManager implements ICoreConstants {
 		}).filter(Objects::nonNull).findFirst().orElse(null);
 	}
 
+	/**
+	 * Returns the source remembered in the given results if it still exists,
+	 * otherwise searches it again. Only found sources are remembered, a miss
+	 * is searched again on the next lookup.
+	 */
+	private static <K> IPath findSource(Map<K, IPath> results, K key, Function<K, IPath> search) {
+		IPath located = results.get(key);
+		if (located != null && located.toFile().exists()) {
+			return located;
+		}
+		located = search.apply(key);
+		if (located != null) {
+			results.put(key, located);
+		} else {
+			results.remove(key);
+		}
+		return located;
+	}
+
 	/**
 	 * Searches through all known source locations specified by bundle manifest entries.
 	 * Checks for a source location with a bundle entry that specifies that it provides
@@ -337,11 +421,14 @@ public class SourceLocationManager implements ICoreConstants {
 	 * @return path to the source file or <code>null</code> if one could not be found or if the file does not exist
 	 */
 	private IPath searchBundleManifestLocations(IPluginBase pluginBase) {
-		IPath location = getBundleManifestLocation(pluginBase.getId(), new Version(pluginBase.getVersion()));
-		if (location != null && location.toFile().exists()) {
-			return location;
-		}
-		return null;
+		Version version = new Version(pluginBase.getVersion());
+		return findSource(fBundleManifestResults, new SourceLocationKey(pluginBase.getId(), version), key -> {
+			IPath location = getBundleManifestLocation(key.fBundleName(), key.fVersion());
+			if (location != null && location.toFile().exists()) {
+				return location;
+			}
+			return null;
+		});
 	}
 
 	/**
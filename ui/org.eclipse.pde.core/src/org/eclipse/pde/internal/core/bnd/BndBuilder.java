@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023, 2024 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,19 +14,20 @@
 package org.eclipse.pde.internal.core.bnd;
 
 import java.io.File;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
-import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ICoreRunnable;
@@ -51,6 +52,8 @@ public class BndBuilder extends IncrementalProjectBuilder {
 
 	private static final String CLASS_EXTENSION = ".class"; //$NON-NLS-1$
 
+	private static final String BND_EXTENSION = ".bnd"; //$NON-NLS-1$
+
 	// This is currently disabled as it sometimes lead to jar not generated as
 	// JDT is clearing the outputfolder while the build is running, need to
 	// investigate if we can avoid this and it actually has benefits to build
@@ -66,16 +69,27 @@ public class BndBuilder extends IncrementalProjectBuilder {
 
 	private final Map<IProject, Job> buildJobMap = new ConcurrentHashMap<>();
 
+	/**
+	 * The directories of the sub-bundle jars written by previous builds, by
+	 * output file
+	 */
+	private final Map<File, Set<String>> subBundleDirectories = new ConcurrentHashMap<>();
+
 	public static final String BUILDER_ID = "org.eclipse.pde.BndBuilder";//$NON-NLS-1$
 
 	@Override
 	protected IProject[] build(int kind, Map<String, String> args, IProgressMonitor monitor) throws CoreException {
 		IProject project = getProject();
-		if (BndProject.isBndProject(project) && (requireBuild(project) || hasRelevantDelta(getDelta(project)))) {
+		if (!BndProject.isBndProject(project)) {
+			return new IProject[] { project };
+		}
+		JarDelta jarDelta = kind == FULL_BUILD || requireBuild(project) ? JarDelta.full()
+				: JarDelta.compute(getDelta(project));
+		if (jarDelta.isRelevant()) {
 			if (USE_JOB) {
 				Job buildJob = buildJobMap.compute(project, (p, oldJob) -> {
 					Job job = Job.create(NLS.bind(PDECoreMessages.BundleBuilder_building, project.getName()),
-							new BndBuild(p, oldJob));
+							new BndBuild(p, oldJob, jarDelta, subBundleDirectories));
 					job.addJobChangeListener(new JobChangeAdapter() {
 						@Override
 						public void done(IJobChangeEvent event) {
@@ -86,7 +100,7 @@ public class BndBuilder extends IncrementalProjectBuilder {
 				});
 				buildJob.schedule();
 			} else {
-				buildProjectJar(project, monitor);
+				buildProjectJar(project, jarDelta, subBundleDirectories, monitor);
 			}
 		}
 		return new IProject[] { project };
@@ -94,6 +108,7 @@ public class BndBuilder extends IncrementalProjectBuilder {
 
 	@Override
 	protected void clean(IProgressMonitor monitor) throws CoreException {
+		subBundleDirectories.clear();
 		IFile file = getProject().getFile(BndProject.INSTRUCTIONS_FILE);
 		if (file.exists()) {
 			file.deleteMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_ZERO);
@@ -104,10 +119,15 @@ public class BndBuilder extends IncrementalProjectBuilder {
 
 		private final IProject project;
 		private final Job oldJob;
+		private final JarDelta jarDelta;
+		private final Map<File, Set<String>> subBundleDirectories;
 
-		public BndBuild(IProject project, Job oldJob) {
+		public BndBuild(IProject project, Job oldJob, JarDelta jarDelta,
+				Map<File, Set<String>> subBundleDirectories) {
 			this.project = project;
 			this.oldJob = oldJob;
+			this.jarDelta = jarDelta;
+			this.subBundleDirectories = subBundleDirectories;
 		}
 
 		@Override
@@ -122,12 +142,15 @@ public class BndBuilder extends IncrementalProjectBuilder {
 					return;
 				}
 			}
-			buildProjectJar(project, monitor);
+			// the old job might not have built the changes it was scheduled for
+			buildProjectJar(project, oldJob != null ? JarDelta.full() : jarDelta, subBundleDirectories, monitor);
 		}
 
 	}
 
-	private static void buildProjectJar(IProject project, IProgressMonitor monitor) {
+	private static void buildProjectJar(IProject project, JarDelta jarDelta,
+			Map<File, Set<String>> subBundleDirectories, IProgressMonitor monitor) {
+		BuildTimer timer = new BuildTimer();
 		try {
 			Optional<Project> bndProject = BndProjectManager.getBndProject(project);
 			if (bndProject.isEmpty()) {
@@ -161,11 +184,15 @@ public class BndBuilder extends IncrementalProjectBuilder {
 				builder.setBase(bnd.getBase());
 				ProjectJar jar = new ProjectJar(project, CLASS_FILTER);
 				builder.setJar(jar);
-				// build the main jar
+				// build the main jar, it is assembled in place in the output
+				// folder while building
+				long start = System.nanoTime();
 				builder.build();
+				start = timer.jar(start);
 				new BndErrorReporter(project, bnd, project.getFile(BndProject.INSTRUCTIONS_FILE))
 						.validateContent(monitor);
-				// now build sub jars
+				timer.validation(start);
+				// now build sub jars whose inputs have changed
 				List<Builder> subBuilders = builder.getSubBuilders();
 				for (Builder subBuilder : subBuilders) {
 					if (subBuilder == builder) {
@@ -173,22 +200,36 @@ public class BndBuilder extends IncrementalProjectBuilder {
 					}
 					File outputFile = subBuilder.getOutputFile(null);
 					if (outputFile != null) {
+						File propertiesFile = subBuilder.getPropertiesFile();
+						if (!jarDelta.affects(propertiesFile, outputFile, subBundleDirectories.get(outputFile))) {
+							timer.skipped++;
+							continue;
+						}
+						subBundleDirectories.remove(outputFile);
+						start = System.nanoTime();
 						Jar subJar = subBuilder.build();
+						start = timer.analysis(start);
 						subJar.write(outputFile);
+						subBundleDirectories.put(outputFile, Set.copyOf(subJar.getDirectories().keySet()));
 						for (IFile file : project.getWorkspace().getRoot()
 								.findFilesForLocationURI(outputFile.toURI())) {
 							file.refreshLocal(IResource.DEPTH_ZERO, monitor);
 						}
-						File propertiesFile = subBuilder.getPropertiesFile();
+						start = timer.jar(start);
 						if (propertiesFile != null) {
 							for (IFile file : project.getWorkspace().getRoot()
 									.findFilesForLocationURI(propertiesFile.toURI())) {
 								new BndErrorReporter(project, subBuilder, file).validateContent(monitor);
 							}
 						}
+						timer.validation(start);
+						timer.built++;
 					}
 				}
 			}
+			if (PDECore.DEBUG_BND) {
+				PDECore.TRACE.trace(PDECore.KEY_DEBUG_BND, "Built " + project.getName() + ": " + timer); //$NON-NLS-1$ //$NON-NLS-2$
+			}
 			if (monitor.isCanceled()) {
 				return;
 			}
@@ -202,27 +243,127 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		return !PDEProject.getManifest(project).exists();
 	}
 
-	private static boolean hasRelevantDelta(IResourceDelta delta) throws CoreException {
-		if (delta != null) {
-			AtomicBoolean result = new AtomicBoolean();
-			delta.accept(new IResourceDeltaVisitor() {
+	/**
+	 * The changes of a build that are relevant for the jars of a bnd project
+	 */
+	private static final class JarDelta {
 
-				@Override
-				public boolean visit(IResourceDelta delta) throws CoreException {
-					IResource resource = delta.getResource();
-					if (resource instanceof IFile file) {
-						String name = file.getName();
-						if (name.endsWith(CLASS_EXTENSION) || file.getName().equals(BndProject.INSTRUCTIONS_FILE)
-								|| name.equals(ICoreConstants.MANIFEST_FILENAME)) {
-							result.set(true);
-							return false;
+		private boolean full;
+		private boolean relevant;
+		private final Set<String> changedFolders = new HashSet<>();
+		private final Set<File> changedFiles = new HashSet<>();
+
+		private JarDelta(boolean full) {
+			this.full = full;
+			this.relevant = full;
+		}
+
+		static JarDelta full() {
+			return new JarDelta(true);
+		}
+
+		static JarDelta compute(IResourceDelta delta) throws CoreException {
+			if (delta == null) {
+				return full();
+			}
+			JarDelta jarDelta = new JarDelta(false);
+			delta.accept(d -> {
+				if (d.getResource() instanceof IFile file) {
+					String name = file.getName();
+					if (name.endsWith(CLASS_EXTENSION)) {
+						jarDelta.relevant = true;
+						if (d.getKind() == IResourceDelta.CHANGED) {
+							jarDelta.changedFolders.add(file.getParent().getFullPath().toString());
+						} else {
+							// added or removed classes might be selected by
+							// any sub bundle
+							jarDelta.full = true;
 						}
+					} else if (name.equals(BndProject.INSTRUCTIONS_FILE)
+							|| name.equals(ICoreConstants.MANIFEST_FILENAME)) {
+						jarDelta.relevant = true;
+						jarDelta.full = true;
+					} else if (name.endsWith(BND_EXTENSION) && file.getLocation() != null) {
+						jarDelta.relevant = true;
+						jarDelta.changedFiles.add(file.getLocation().toFile());
 					}
-					return true;
+					return false;
 				}
+				return !jarDelta.full;
 			});
-			return result.get();
+			return jarDelta;
+		}
+
+		boolean isRelevant() {
+			return relevant;
+		}
+
+		/**
+		 * @param propertiesFile
+		 *            the properties file of the sub bundle, might be
+		 *            <code>null</code>
+		 * @param outputFile
+		 *            the output file of the sub bundle
+		 * @param directories
+		 *            the directories of the jar of the sub bundle written by
+		 *            the previous build or <code>null</code> if unknown
+		 * @return <code>true</code> if the sub bundle has to be built again
+		 */
+		boolean affects(File propertiesFile, File outputFile, Set<String> directories) {
+			if (full || directories == null || !outputFile.isFile()) {
+				return true;
+			}
+			if (propertiesFile != null && changedFiles.contains(propertiesFile)) {
+				return true;
+			}
+			for (String folder : changedFolders) {
+				// the folder is an output folder followed by the package
+				int index = folder.length();
+				while ((index = folder.lastIndexOf('/', index - 1)) > 0) {
+					if (directories.contains(folder.substring(index + 1))) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Accumulates the time taken by the phases of a build
+	 */
+	private static final class BuildTimer {
+
+		private long jar;
+		private long analysis;
+		private long validation;
+		int built;
+		int skipped;
+
+		long jar(long start) {
+			long now = System.nanoTime();
+			jar += now - start;
+			return now;
+		}
+
+		long analysis(long start) {
+			long now = System.nanoTime();
+			analysis += now - start;
+			return now;
+		}
+
+		long validation(long start) {
+			long now = System.nanoTime();
+			validation += now - start;
+			return now;
+		}
+
+		@Override
+		public String toString() {
+			return "jar " + TimeUnit.NANOSECONDS.toMillis(jar) + " ms, analysis " //$NON-NLS-1$ //$NON-NLS-2$
+					+ TimeUnit.NANOSECONDS.toMillis(analysis) + " ms, validation " //$NON-NLS-1$
+					+ TimeUnit.NANOSECONDS.toMillis(validation) + " ms, sub bundles built " + built + ", skipped " //$NON-NLS-1$ //$NON-NLS-2$
+					+ skipped;
 		}
-		return true;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Christoph Läubrich and others.
+ * Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.bnd;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -99,8 +102,8 @@ public class ProjectJar extends Jar {
 		if (!file.getFullPath().equals(manifestFile.getFullPath())) {
 			// bundle root is currently not where we store it...
 			if (manifestFile.exists()) {
-				try (InputStream stream = resource.openInputStream()) {
-					manifestFile.setContents(stream, true, false, null);
+				try {
+					setContents(manifestFile, resource);
 				} catch (RuntimeException e) {
 					throw e;
 				} catch (Exception e) {
@@ -138,9 +141,7 @@ public class ProjectJar extends Jar {
 		try {
 			if (file.exists()) {
 				if (overwrite) {
-					try (InputStream stream = resource.openInputStream()) {
-						file.setContents(stream, true, false, null);
-					}
+					setContents(file, resource);
 				}
 			} else {
 				mkdirs(file);
@@ -158,6 +159,26 @@ public class ProjectJar extends Jar {
 		return super.putResource(path, new FileResource(file), overwrite);
 	}
 
+	/**
+	 * Writes the content of the resource to the file unless the file already
+	 * has this content, so unchanged outputs of a previous build are kept and
+	 * do not trigger further builds.
+	 */
+	private static void setContents(IFile file, Resource resource) throws Exception {
+		byte[] content;
+		try (InputStream stream = resource.openInputStream()) {
+			content = stream.readAllBytes();
+		}
+		try (InputStream stream = file.getContents(true)) {
+			if (Arrays.equals(stream.readAllBytes(), content)) {
+				return;
+			}
+		} catch (CoreException | IOException e) {
+			// can't compare, so simply write it...
+		}
+		file.setContents(new ByteArrayInputStream(content), true, false, null);
+	}
+
 	private void mkdirs(IResource resource) throws CoreException {
 		if (resource == null) {
 			return;
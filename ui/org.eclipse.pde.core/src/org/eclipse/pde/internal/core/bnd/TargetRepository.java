@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,11 @@ import java.nio.file.Path;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.HexFormat;
 import java.util.List;
@@ -35,6 +37,7 @@ import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.jar.Attributes;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
@@ -49,7 +52,9 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
+import org.osgi.framework.Constants;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -64,16 +69,20 @@ import aQute.bnd.service.RepositoryPlugin;
 
 public class TargetRepository extends BaseRepository implements RepositoryPlugin {
 
-	private static final TargetRepository instance = new TargetRepository();
+	private static final TargetRepository instance = new TargetRepository(TargetRepository::getTargetPlatformState);
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
-	private TargetRepository() {
+	private final Supplier<Optional<State>> stateSupplier;
+	private CapabilityIndex index;
+
+	private TargetRepository(Supplier<Optional<State>> stateSupplier) {
+		this.stateSupplier = stateSupplier;
 	}
 
 	@Override
 	public File get(String bsn, aQute.bnd.version.Version version, Map<String, String> properties,
 			DownloadListener... listeners) throws Exception {
-		Optional<BundleDescription> description = getTargetPlatformState()
+		Optional<BundleDescription> description = stateSupplier.get()
 				.map(state -> state.getBundle(bsn, convert(version)));
 		if (description.isEmpty()) {
 			// not found!
@@ -119,7 +128,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	@Override
 	public PutResult put(InputStream stream, PutOptions options) throws Exception {
-		State state = getTargetPlatformState().get();
+		State state = stateSupplier.get().get();
 		Dictionary<String, String> headers = new Hashtable<>();
 		try (JarInputStream jar = new JarInputStream(stream)) {
 			Manifest manifest = jar.getManifest();
@@ -170,13 +179,31 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	}
 
 	public List<Capability> findProvider(Requirement requirement) {
-		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
-				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
+		CapabilityIndex capabilityIndex = getIndex();
+		Stream<Capability> candidates = capabilityIndex == null ? Stream.empty()
+				: capabilityIndex.getCandidates(requirement);
+		return candidates.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
 	}
 
+	/**
+	 * Aquires the index of the capabilities of the bundles in the current
+	 * state, the index is rebuilt whenever the state or its timestamp changes
+	 *
+	 * @return the index of the current state or <code>null</code> if no state
+	 *         is currently aviable
+	 */
+	private synchronized CapabilityIndex getIndex() {
+		Optional<State> state = stateSupplier.get();
+		if (state.isEmpty()) {
+			return null;
+		}
+		if (index == null || !index.isCurrent(state.get())) {
+			index = new CapabilityIndex(this, state.get());
+		}
+		return index;
+	}
+
 	/**
 	 * Aquires a stream of bundles from the current state
 	 *
@@ -186,8 +213,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	 * @return A stream of bundles from the current PDE state that match the
 	 *         given bsn
 	 */
-	private static Stream<BundleDescription> bundles(String bsn) {
-		Optional<State> state = getTargetPlatformState();
+	private Stream<BundleDescription> bundles(String bsn) {
+		Optional<State> state = stateSupplier.get();
 		if (state.isEmpty()) {
 			return Stream.empty();
 		}
@@ -236,10 +263,163 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		return instance;
 	}
 
+	/**
+	 * Creates a repository that provides the bundles of the given state
+	 * instead of the bundles of the PDE target platform state
+	 *
+	 * @param state
+	 *            the state to provide the bundles of
+	 * @return a new repository for the given state
+	 */
+	public static TargetRepository createTargetRepository(State state) {
+		Optional<State> optional = Optional.of(state);
+		return new TargetRepository(() -> optional);
+	}
+
+	/**
+	 * An index of the capabilities of all bundles of one generation of a
+	 * state. The capabilities are indexed by namespace and, for namespaces
+	 * that have one, by the value of their primary attribute, so that a
+	 * requirement only has to be matched against the capabilities having the
+	 * value its filter requires for that attribute.
+	 */
+	private static final class CapabilityIndex {
+
+		private static final String SERVICE_NAMESPACE = "osgi.service"; //$NON-NLS-1$
+
+		private final State state;
+		private final long timeStamp;
+		private final List<BundleDescriptionRepositoryResource> resources;
+		private final Map<String, List<Capability>> byNamespace = new HashMap<>();
+		private final Map<String, Map<String, List<Capability>>> byPrimaryAttribute = new HashMap<>();
+		private final Map<String, List<Capability>> unindexed = new HashMap<>();
+
+		CapabilityIndex(Repository repository, State state) {
+			this.state = state;
+			this.timeStamp = state.getTimeStamp();
+			BundleDescription[] bundles = state.getBundles();
+			resources = new ArrayList<>(bundles.length);
+			for (BundleDescription bundle : bundles) {
+				BundleDescriptionRepositoryResource resource = new BundleDescriptionRepositoryResource(repository,
+						bundle);
+				resources.add(resource);
+				for (Capability capability : resource.bundleCapabilities()) {
+					String namespace = capability.getNamespace();
+					byNamespace.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+					Object value = capability.getAttributes().get(getPrimaryAttribute(namespace));
+					if (value instanceof String string) {
+						addPrimaryValue(namespace, string, capability);
+					} else if (value instanceof Collection<?> values
+							&& values.stream().allMatch(String.class::isInstance)) {
+						for (Object string : values) {
+							addPrimaryValue(namespace, (String) string, capability);
+						}
+					} else {
+						// a filter might still match this capability
+						unindexed.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+					}
+				}
+			}
+		}
+
+		private void addPrimaryValue(String namespace, String value, Capability capability) {
+			List<Capability> capabilities = byPrimaryAttribute.computeIfAbsent(namespace, n -> new HashMap<>())
+					.computeIfAbsent(value, v -> new ArrayList<>());
+			if (capabilities.isEmpty() || capabilities.get(capabilities.size() - 1) != capability) {
+				capabilities.add(capability);
+			}
+		}
+
+		boolean isCurrent(State currentState) {
+			return state == currentState && timeStamp == currentState.getTimeStamp();
+		}
+
+		/**
+		 * @return the capabilities that might match the given requirement, they
+		 *         still have to be matched against its filter
+		 */
+		Stream<Capability> getCandidates(Requirement requirement) {
+			String namespace = requirement.getNamespace();
+			if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+				// content capabilities are computed on demand
+				return resources.stream().flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace));
+			}
+			String value = getPrimaryValue(requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE),
+					getPrimaryAttribute(namespace));
+			if (value == null) {
+				return byNamespace.getOrDefault(namespace, List.of()).stream();
+			}
+			List<Capability> indexed = byPrimaryAttribute.getOrDefault(namespace, Map.of()).getOrDefault(value,
+					List.of());
+			return Stream.concat(indexed.stream(), unindexed.getOrDefault(namespace, List.of()).stream());
+		}
+
+		/**
+		 * @return the attribute that identifies the capabilities of the given
+		 *         namespace, e.g. the package name or the bsn
+		 */
+		private static String getPrimaryAttribute(String namespace) {
+			if (SERVICE_NAMESPACE.equals(namespace)) {
+				return Constants.OBJECTCLASS;
+			}
+			return namespace;
+		}
+
+		/**
+		 * Extracts the value the given filter requires for the given attribute,
+		 * i.e. the value of an equality on that attribute that is the filter
+		 * itself or a term of its top level conjunction.
+		 *
+		 * @return the value or <code>null</code> if the filter does not require
+		 *         a single value without wildcards for that attribute
+		 */
+		static String getPrimaryValue(String filter, String attribute) {
+			if (filter == null) {
+				return null;
+			}
+			if (!filter.startsWith("(&")) { //$NON-NLS-1$
+				return getEqualityValue(filter, attribute);
+			}
+			int depth = 0;
+			int start = -1;
+			for (int i = 2; i < filter.length() - 1; i++) {
+				char c = filter.charAt(i);
+				if (c == '\\') {
+					i++;
+				} else if (c == '(') {
+					if (depth++ == 0) {
+						start = i;
+					}
+				} else if (c == ')' && --depth == 0) {
+					String value = getEqualityValue(filter.substring(start, i + 1), attribute);
+					if (value != null) {
+						return value;
+					}
+				}
+			}
+			return null;
+		}
+
+		private static String getEqualityValue(String term, String attribute) {
+			int length = attribute.length();
+			if (term.length() < length + 4 || term.charAt(0) != '(' || term.charAt(term.length() - 1) != ')'
+					|| !term.regionMatches(true, 1, attribute, 0, length) || term.charAt(length + 1) != '=') {
+				return null;
+			}
+			String value = term.substring(length + 2, term.length() - 1);
+			if (value.isBlank() || !value.equals(value.strip()) || value.indexOf('*') >= 0
+					|| value.indexOf('\\') >= 0 || value.indexOf('(') >= 0 || value.indexOf(')') >= 0) {
+				return null;
+			}
+			return value;
+		}
+	}
+
 	private static final class BundleDescriptionRepositoryResource implements RepositoryContent, Resource, IAdaptable {
 
 		private final BundleDescription bundle;
 		private final Repository repository;
+		private volatile List<Capability> capabilities;
 
 		public BundleDescriptionRepositoryResource(Repository repository, BundleDescription bundle) {
 			this.repository = repository;
@@ -262,7 +442,28 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		}
 
 		private Stream<Capability> bundleRequirements(String namespace) {
-			return bundle.getCapabilities(namespace).stream().map(original -> new Capability() {
+			Stream<Capability> stream = bundleCapabilities().stream();
+			if (namespace == null) {
+				return stream;
+			}
+			return stream.filter(capability -> namespace.equals(capability.getNamespace()));
+		}
+
+		/**
+		 * @return the capabilities of the bundle of all namespaces, wrapped
+		 *         once so that they are the same each time they are requested
+		 */
+		List<Capability> bundleCapabilities() {
+			List<Capability> result = capabilities;
+			if (result == null) {
+				result = bundle.getCapabilities(null).stream().map(this::wrap).toList();
+				capabilities = result;
+			}
+			return result;
+		}
+
+		private Capability wrap(Capability original) {
+			return new Capability() {
 
 				@Override
 				public Resource getResource() {
@@ -288,7 +489,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				public String toString() {
 					return original.toString();
 				}
-			});
+			};
 		}
 
 		@Override
@@ -111,4 +111,12 @@ public abstract class ErrorReporter {
 	}
 
 	protected abstract void validate(IProgressMonitor monitor);
+
+	/**
+	 * Writes the markers collected by {@link #validate(IProgressMonitor)} to
+	 * the file, so that validation can run apart from the marker update.
+	 */
+	final void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,9 +18,12 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -34,8 +37,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.ICoreConstants;
@@ -281,6 +288,9 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
 
+		// the manifest, plug-in xml and build.properties reporters are
+		// independent of each other, collect and run them concurrently
+		List<Function<IProgressMonitor, Runnable>> validations = new ArrayList<>(3);
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
 			IProject project = getProject();
 			IFile file = PDEProject.getPluginXml(project);
@@ -289,17 +299,20 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				addFileValidations(file, type, validations);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					addManifestValidation(manifestFile, validations);
 				}
 			}
 		}
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			addBuildPropertiesValidation(validations);
 		}
+		subMonitor.setWorkRemaining(validations.size());
+		subMonitor.subTask(NLS.bind(PDECoreMessages.Builders_verifying, getProject().getFullPath().toString()));
+		runValidations(validations, subMonitor);
 	}
 
 	private int getWorkAmount(int type) {
@@ -313,6 +326,78 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		return work;
 	}
 
+	/**
+	 * Runs the given validations in parallel and applies the markers each of
+	 * them returns on the builder thread, in the order of the list, so that
+	 * the resulting markers do not depend on scheduling. The validations run
+	 * in a job group bounded by the number of processors and are canceled
+	 * with the given monitor. A validation that fails does not cancel the
+	 * others and contributes no markers.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	private void runValidations(List<Function<IProgressMonitor, Runnable>> validations, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, validations.size());
+		if (subMonitor.isCanceled() || validations.isEmpty()) {
+			return;
+		}
+		Runnable[] results = new Runnable[validations.size()];
+		if (validations.size() == 1) {
+			results[0] = validations.get(0).apply(subMonitor);
+		} else {
+			String name = NLS.bind(PDECoreMessages.Builders_verifying, getProject().getFullPath().toString());
+			int maxThreads = Math.min(validations.size(), Runtime.getRuntime().availableProcessors());
+			JobGroup group = new JobGroup(name, maxThreads, validations.size()) {
+				@Override
+				protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs,
+						int numberOfCanceledJobs) {
+					// a failing validation must not cancel the others
+					return false;
+				}
+			};
+			List<Job> jobs = new ArrayList<>(validations.size());
+			for (int i = 0; i < results.length; i++) {
+				int index = i;
+				Function<IProgressMonitor, Runnable> validation = validations.get(i);
+				Job job = Job.create(name, jobMonitor -> {
+					results[index] = validation.apply(jobMonitor);
+				});
+				job.setSystem(true);
+				job.setJobGroup(group);
+				jobs.add(job);
+			}
+			jobs.forEach(Job::schedule);
+			try {
+				group.join(0, subMonitor);
+			} catch (InterruptedException e) {
+				group.cancel();
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (OperationCanceledException e) {
+				group.cancel();
+				throw e;
+			}
+			if (subMonitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			for (int i = 0; i < results.length; i++) {
+				IStatus result = jobs.get(i).getResult();
+				if (result == null || !result.isOK()) {
+					// a validation that failed has been logged by the job
+					// manager, one that was canceled may be incomplete
+					results[i] = null;
+				}
+			}
+		}
+		subMonitor.subTask(PDECoreMessages.Builders_updating);
+		for (Runnable applyMarkers : results) {
+			if (applyMarkers != null && !subMonitor.isCanceled()) {
+				applyMarkers.run();
+			}
+			subMonitor.worked(1);
+		}
+	}
+
 	private void validateProjectStructure(int type, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
@@ -331,35 +416,23 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
-		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
+	private void addManifestValidation(IFile file, List<Function<IProgressMonitor, Runnable>> validations) {
+		validations.add(monitor -> {
+			BundleErrorReporter reporter = new BundleErrorReporter(file);
+			reporter.validate(monitor);
+			return reporter::applyMarkers;
+		});
 	}
 
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
-		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
-		monitor.subTask(message);
-
+	private void addFileValidations(IFile file, int type, List<Function<IProgressMonitor, Runnable>> validations) {
 		IFile bundleManifest = PDEProject.getManifest(getProject());
 		XMLErrorReporter reporter = null;
-		BundleErrorReporter bundleReporter = null;
 		if (bundleManifest.exists()) {
 			if ((type & EXTENSIONS) != 0) {
 				reporter = new ExtensionsErrorReporter(file);
 			}
 			if ((type & MANIFEST) != 0) {
-				bundleReporter = new BundleErrorReporter(bundleManifest);
+				addManifestValidation(bundleManifest, validations);
 			}
 		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
 			if (file.equals(PDEProject.getPluginXml(getProject()))) {
@@ -369,27 +442,24 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			}
 		}
 		if (reporter != null) {
-			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
-		}
-		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			XMLErrorReporter xmlReporter = reporter;
+			validations.add(0, monitor -> {
+				DefaultSAXParser.parse(file, xmlReporter);
+				xmlReporter.validate(monitor);
+				return xmlReporter::applyMarkers;
+			});
 		}
-		monitor.done();
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
-		if (monitor.isCanceled()) {
-			return;
-		}
+	private void addBuildPropertiesValidation(List<Function<IProgressMonitor, Runnable>> validations) {
 		IProject project = getProject();
 		IFile file = PDEProject.getBuildProperties(project);
 		if (file.exists()) {
-			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
-			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+			validations.add(monitor -> {
+				BuildErrorReporter ber = new BuildErrorReporter(file);
+				ber.validate(monitor);
+				return ber::applyMarkers;
+			});
 		}
 	}
 
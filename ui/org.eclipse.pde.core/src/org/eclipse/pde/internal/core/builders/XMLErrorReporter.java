@@ -382,6 +382,14 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	protected abstract void validate(IProgressMonitor monitor);
 
+	/**
+	 * Writes the markers collected by {@link #validate(IProgressMonitor)} to
+	 * the file, so that validation can run apart from the marker update.
+	 */
+	final void applyMarkers() {
+		fErrorReporter.applyMarkers();
+	}
+
 	public Element getDocumentRoot() {
 		if (fRootElement != null) {
 			fRootElement.normalize();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,17 +16,27 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.plugin.IFragment;
 import org.eclipse.pde.core.plugin.IFragmentModel;
 import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.SourceLocationManager;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
@@ -35,15 +45,29 @@ import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Maximum number of schema descriptors, and therefore parsed schemas, kept
+	 * by the registry. The least recently used descriptor is evicted first.
+	 */
+	private static final int MAX_CACHED_SCHEMAS = 500;
+
+	private final Map<String, ISchemaDescriptor> fRegistry = Collections
+			.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, ISchemaDescriptor> eldest) {
+					return size() > MAX_CACHED_SCHEMAS;
+				}
+			});
+
+	private Job fPreloadJob;
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,12 +76,15 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
+		ISchemaDescriptor desc;
+		synchronized (fRegistry) {
+			desc = getExistingDescriptor(extPointID, url);
+			if (desc == null) {
+				desc = new SchemaDescriptor(extPointID, url);
+				fRegistry.put(extPointID, desc);
+			}
 		}
-
+		// parse outside of the registry lock, included schemas call back into the registry
 		return desc.getSchema(true);
 	}
 
@@ -68,10 +95,13 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
+			ISchemaDescriptor desc;
+			synchronized (fRegistry) {
+				desc = getExistingDescriptor(url.toString(), url);
+				if (desc == null) {
+					desc = new IncludedSchemaDescriptor(url);
+					fRegistry.put(url.toString(), desc);
+				}
 			}
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
@@ -79,17 +109,66 @@ public class SchemaRegistry {
 		return null;
 	}
 
+	/**
+	 * Returns the descriptor kept by the registry for the given extension
+	 * point id or included schema URL, without loading it.
+	 *
+	 * @return the descriptor or <code>null</code> if none is kept
+	 */
+	public ISchemaDescriptor getCachedDescriptor(String key) {
+		return fRegistry.get(key);
+	}
+
+	/** Has to be called synchronized on fRegistry **/
 	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+		ISchemaDescriptor desc = fRegistry.get(key);
+		if (desc != null && hasSchemaChanged(desc, url)) {
+			desc = null;
 		}
 		return desc;
 	}
 
+	/**
+	 * Schedules a background job that parses the schemas of all extension
+	 * points extended by workspace plug-ins, so that the first validation of
+	 * their <code>plugin.xml</code> does not wait for schema parsing. Does
+	 * nothing unless {@link ICoreConstants#PRELOAD_EXTENSION_POINT_SCHEMAS}
+	 * is enabled. A preload that is still running is cancelled.
+	 */
+	public synchronized void schedulePreload() {
+		if (fPreloadJob != null) {
+			fPreloadJob.cancel();
+			fPreloadJob = null;
+		}
+		if (!PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.PRELOAD_EXTENSION_POINT_SCHEMAS)) {
+			return;
+		}
+		fPreloadJob = Job.create(PDECoreMessages.SchemaRegistry_preloadingSchemas, this::preloadSchemas);
+		fPreloadJob.setSystem(true);
+		fPreloadJob.setPriority(Job.DECORATE);
+		fPreloadJob.schedule();
+	}
+
+	private void preloadSchemas(IProgressMonitor monitor) {
+		Set<String> points = new TreeSet<>();
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			IPluginBase pluginBase = model.getPluginBase();
+			if (pluginBase == null) {
+				continue;
+			}
+			for (IPluginExtension extension : pluginBase.getExtensions()) {
+				if (extension.getPoint() != null) {
+					points.add(extension.getPoint());
+				}
+			}
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, points.size());
+		for (String point : points) {
+			subMonitor.split(1);
+			getSchema(point);
+		}
+	}
+
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
 		URL url = getSchemaURL(point);
 		if (url != null) {
@@ -183,6 +262,12 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
+		synchronized (this) {
+			if (fPreloadJob != null) {
+				fPreloadJob.cancel();
+				fPreloadJob = null;
+			}
+		}
 		fRegistry.clear();
 	}
 
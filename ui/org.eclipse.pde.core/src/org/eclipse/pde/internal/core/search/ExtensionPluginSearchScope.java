@@ -51,4 +51,10 @@ public class ExtensionPluginSearchScope extends PluginSearchScope {
 		return addRelevantModels(models);
 	}
 
+	@Override
+	public IPluginModelBase[] getMatchingModels(PluginSearchInput input) {
+		// already answered by the extension registry
+		return getMatchingModels();
+	}
+
 }
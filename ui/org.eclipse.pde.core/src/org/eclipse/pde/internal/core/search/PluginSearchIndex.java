@@ -0,0 +1,449 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPlugin;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IExtensionDeltaEvent;
+import org.eclipse.pde.internal.core.IExtensionDeltaListener;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+
+/**
+ * Inverted index from plug-in identifiers to the models declaring or
+ * referencing them. The index is used by {@link PluginSearchScope} to answer
+ * exact and prefix searches without visiting every model.
+ * <p>
+ * The index is built lazily on the first query and is then kept up to date
+ * through plug-in model, extension and feature model deltas. Keys are stored
+ * in lower case so that a lookup yields a superset of the models matching a
+ * case sensitive or insensitive search. {@link PluginSearchOperation} still
+ * applies the search pattern to each candidate.
+ * </p>
+ */
+public class PluginSearchIndex implements IPluginModelListener, IExtensionDeltaListener, IFeatureModelListener {
+
+	/**
+	 * Sorted multimap from a lower case key to the elements indexed under it,
+	 * with the reverse mapping needed to drop an element again.
+	 */
+	private static class KeyIndex<T> {
+		private final TreeMap<String, Set<T>> fKeys = new TreeMap<>();
+		private final Map<T, List<String>> fElements = new HashMap<>();
+
+		void add(String key, T element) {
+			if (key == null) {
+				return;
+			}
+			String normalized = normalize(key);
+			fKeys.computeIfAbsent(normalized, k -> new LinkedHashSet<>()).add(element);
+			fElements.computeIfAbsent(element, e -> new ArrayList<>(2)).add(normalized);
+		}
+
+		void remove(T element) {
+			List<String> keys = fElements.remove(element);
+			if (keys == null) {
+				return;
+			}
+			for (String key : keys) {
+				Set<T> elements = fKeys.get(key);
+				if (elements != null) {
+					elements.remove(element);
+					if (elements.isEmpty()) {
+						fKeys.remove(key);
+					}
+				}
+			}
+		}
+
+		void clear() {
+			fKeys.clear();
+			fElements.clear();
+		}
+
+		void collect(String key, boolean prefix, Set<T> result) {
+			if (prefix) {
+				for (Set<T> elements : fKeys.subMap(key, key + Character.MAX_VALUE).values()) {
+					result.addAll(elements);
+				}
+			} else {
+				Set<T> elements = fKeys.get(key);
+				if (elements != null) {
+					result.addAll(elements);
+				}
+			}
+		}
+	}
+
+	private final KeyIndex<IPluginModelBase> fPluginDeclarations = new KeyIndex<>();
+	private final KeyIndex<IPluginModelBase> fFragmentDeclarations = new KeyIndex<>();
+	private final KeyIndex<IPluginModelBase> fPluginReferences = new KeyIndex<>();
+	private final KeyIndex<IPluginModelBase> fExtensionPointDeclarations = new KeyIndex<>();
+	private final KeyIndex<IPluginModelBase> fExtensionPointReferences = new KeyIndex<>();
+	private final KeyIndex<IFeatureModel> fFeaturePluginReferences = new KeyIndex<>();
+
+	/**
+	 * Models currently indexed, by the id of their {@link ModelEntry}
+	 */
+	private final Map<String, IPluginModelBase[]> fIndexedEntries = new HashMap<>();
+
+	/**
+	 * Ids of the entries changed since they were last indexed. Deltas are
+	 * delivered while the model managers hold their locks, so the listeners
+	 * only record what changed and the queries look the models up in the
+	 * registry before taking the lock of the index.
+	 */
+	private final Set<String> fChangedIds = new HashSet<>();
+
+	private boolean fPluginsIndexed = false;
+	private boolean fFeaturesIndexed = false;
+
+	/**
+	 * Incremented on each feature model delta, so that a snapshot of the
+	 * feature models taken before a delta is not indexed after it
+	 */
+	private int fFeatureGeneration = 0;
+
+	public PluginSearchIndex() {
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		manager.addPluginModelListener(this);
+		manager.addExtensionDeltaListener(this);
+		PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(this);
+	}
+
+	public void shutdown() {
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		manager.removePluginModelListener(this);
+		manager.removeExtensionDeltaListener(this);
+		FeatureModelManager featureManager = PDECore.getDefault().getFeatureModelManager();
+		featureManager.removeFeatureModelListener(this);
+		synchronized (this) {
+			clearPlugins();
+			fFeaturePluginReferences.clear();
+			fFeaturesIndexed = false;
+			fFeatureGeneration++;
+		}
+	}
+
+	/**
+	 * Returns the plug-in models that may contain a match for the given
+	 * search input, or <code>null</code> if the search string is not an exact
+	 * or prefix pattern and all models have to be visited.
+	 *
+	 * @param input the search input
+	 * @return candidate models or <code>null</code>
+	 */
+	public IPluginModelBase[] findCandidateModels(PluginSearchInput input) {
+		String key = getIndexKey(input.getSearchString());
+		if (key == null) {
+			return null;
+		}
+		boolean prefix = isPrefixPattern(input.getSearchString());
+		int limit = input.getSearchLimit();
+		updatePluginIndex();
+		Set<IPluginModelBase> result = new LinkedHashSet<>();
+		synchronized (this) {
+			switch (input.getSearchElement()) {
+				case PluginSearchInput.ELEMENT_PLUGIN :
+					if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+						fPluginDeclarations.collect(key, prefix, result);
+					}
+					if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+						fPluginReferences.collect(key, prefix, result);
+					}
+					break;
+				case PluginSearchInput.ELEMENT_FRAGMENT :
+					fFragmentDeclarations.collect(key, prefix, result);
+					break;
+				case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+					if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+						fExtensionPointDeclarations.collect(key, prefix, result);
+					}
+					if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+						fExtensionPointReferences.collect(key, prefix, result);
+					}
+					break;
+			}
+		}
+		return result.toArray(new IPluginModelBase[result.size()]);
+	}
+
+	/**
+	 * Returns the feature models that may contain a match for the given search
+	 * input, or <code>null</code> if all feature models have to be visited.
+	 *
+	 * @param input the search input
+	 * @return candidate feature models or <code>null</code>
+	 */
+	public IFeatureModel[] findCandidateFeatureModels(PluginSearchInput input) {
+		String key = getIndexKey(input.getSearchString());
+		if (key == null) {
+			return null;
+		}
+		if (input.getSearchElement() != PluginSearchInput.ELEMENT_PLUGIN
+				|| input.getSearchLimit() == PluginSearchInput.LIMIT_DECLARATIONS) {
+			return new IFeatureModel[0];
+		}
+		updateFeatureIndex();
+		Set<IFeatureModel> result = new LinkedHashSet<>();
+		synchronized (this) {
+			fFeaturePluginReferences.collect(key, isPrefixPattern(input.getSearchString()), result);
+		}
+		return result.toArray(new IFeatureModel[result.size()]);
+	}
+
+	@Override
+	public synchronized void modelsChanged(PluginModelDelta delta) {
+		for (ModelEntry entry : delta.getRemovedEntries()) {
+			fChangedIds.add(entry.getId());
+		}
+		for (ModelEntry entry : delta.getAddedEntries()) {
+			fChangedIds.add(entry.getId());
+		}
+		for (ModelEntry entry : delta.getChangedEntries()) {
+			fChangedIds.add(entry.getId());
+		}
+	}
+
+	@Override
+	public synchronized void extensionsChanged(IExtensionDeltaEvent event) {
+		addChangedModels(event.getRemovedModels());
+		addChangedModels(event.getAddedModels());
+		addChangedModels(event.getChangedModels());
+	}
+
+	@Override
+	public synchronized void modelsChanged(IFeatureModelDelta delta) {
+		// feature models are few, rebuild on next query
+		fFeaturePluginReferences.clear();
+		fFeaturesIndexed = false;
+		fFeatureGeneration++;
+	}
+
+	private void addChangedModels(IPluginModelBase[] models) {
+		for (IPluginModelBase model : models) {
+			IPluginBase pluginBase = model.getPluginBase();
+			if (pluginBase != null && pluginBase.getId() != null) {
+				fChangedIds.add(pluginBase.getId());
+			}
+		}
+	}
+
+	/**
+	 * Builds the plug-in index or updates the changed entries. The registry
+	 * is queried without holding the lock of the index, see
+	 * {@link #fChangedIds}.
+	 */
+	private void updatePluginIndex() {
+		boolean indexed;
+		String[] changedIds;
+		synchronized (this) {
+			indexed = fPluginsIndexed;
+			changedIds = fChangedIds.toArray(new String[fChangedIds.size()]);
+			fChangedIds.clear();
+		}
+		if (!indexed) {
+			// entries changed from now on are recorded again and updated on the next query
+			IPluginModelBase[] models = PluginRegistry.getAllModels();
+			synchronized (this) {
+				if (!fPluginsIndexed) {
+					indexModels(models);
+				}
+			}
+			return;
+		}
+		if (changedIds.length == 0) {
+			return;
+		}
+		Map<String, IPluginModelBase[]> changedEntries = new HashMap<>();
+		for (String id : changedIds) {
+			ModelEntry entry = PluginRegistry.findEntry(id);
+			if (entry == null) {
+				changedEntries.put(id, new IPluginModelBase[0]);
+			} else {
+				// workspace models hide target models of the same id, as in PluginRegistry.getAllModels()
+				changedEntries.put(id, entry.hasWorkspaceModels() ? entry.getWorkspaceModels() : entry.getExternalModels());
+			}
+		}
+		synchronized (this) {
+			if (fPluginsIndexed) {
+				changedEntries.forEach(this::reindexEntry);
+			}
+		}
+	}
+
+	private void indexModels(IPluginModelBase[] models) {
+		for (IPluginModelBase model : models) {
+			IPluginBase pluginBase = model.getPluginBase();
+			if (pluginBase == null || pluginBase.getId() == null) {
+				continue;
+			}
+			fIndexedEntries.merge(pluginBase.getId(), new IPluginModelBase[] {model}, PluginSearchIndex::concat);
+			addModel(model);
+		}
+		fPluginsIndexed = true;
+	}
+
+	/**
+	 * Builds the feature index if needed, querying the feature model manager
+	 * without holding the lock of the index.
+	 */
+	private void updateFeatureIndex() {
+		int generation;
+		synchronized (this) {
+			if (fFeaturesIndexed) {
+				return;
+			}
+			generation = fFeatureGeneration;
+		}
+		IFeatureModel[] models = PDECore.getDefault().getFeatureModelManager().getModels();
+		synchronized (this) {
+			if (fFeaturesIndexed || generation != fFeatureGeneration) {
+				// indexed concurrently, or the snapshot is outdated and the next query indexes again
+				return;
+			}
+			for (IFeatureModel model : models) {
+				IFeature feature = model.getFeature();
+				if (feature == null) {
+					continue;
+				}
+				for (IFeaturePlugin plugin : feature.getPlugins()) {
+					fFeaturePluginReferences.add(plugin.getId(), model);
+				}
+			}
+			fFeaturesIndexed = true;
+		}
+	}
+
+	private void clearPlugins() {
+		fPluginDeclarations.clear();
+		fFragmentDeclarations.clear();
+		fPluginReferences.clear();
+		fExtensionPointDeclarations.clear();
+		fExtensionPointReferences.clear();
+		fIndexedEntries.clear();
+		fChangedIds.clear();
+		fPluginsIndexed = false;
+	}
+
+	/**
+	 * Replaces the indexed models of the entry with the given id by the given
+	 * models.
+	 */
+	private void reindexEntry(String id, IPluginModelBase[] models) {
+		IPluginModelBase[] previous = fIndexedEntries.remove(id);
+		if (previous != null) {
+			for (IPluginModelBase model : previous) {
+				removeModel(model);
+			}
+		}
+		if (models.length > 0) {
+			fIndexedEntries.put(id, models);
+			for (IPluginModelBase model : models) {
+				addModel(model);
+			}
+		}
+	}
+
+	private void addModel(IPluginModelBase model) {
+		IPluginBase pluginBase = model.getPluginBase();
+		if (pluginBase instanceof IPlugin) {
+			fPluginDeclarations.add(pluginBase.getId(), model);
+		} else if (pluginBase instanceof IFragment fragment) {
+			fFragmentDeclarations.add(fragment.getId(), model);
+			fPluginReferences.add(fragment.getPluginId(), model);
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			fPluginReferences.add(pluginImport.getId(), model);
+		}
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			fExtensionPointDeclarations.add(extensionPoint.getFullId(), model);
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			fExtensionPointReferences.add(extension.getPoint(), model);
+		}
+	}
+
+	private void removeModel(IPluginModelBase model) {
+		fPluginDeclarations.remove(model);
+		fFragmentDeclarations.remove(model);
+		fPluginReferences.remove(model);
+		fExtensionPointDeclarations.remove(model);
+		fExtensionPointReferences.remove(model);
+	}
+
+	private static IPluginModelBase[] concat(IPluginModelBase[] first, IPluginModelBase[] second) {
+		List<IPluginModelBase> result = new ArrayList<>(first.length + second.length);
+		result.addAll(List.of(first));
+		result.addAll(List.of(second));
+		return result.toArray(new IPluginModelBase[result.size()]);
+	}
+
+	/**
+	 * Returns the index key for a search string if it is an exact id or an id
+	 * prefix followed by a single trailing <code>*</code>, otherwise
+	 * <code>null</code>. Non-ASCII strings are not indexed since lower casing
+	 * them does not reliably reproduce case insensitive regular expression
+	 * matching.
+	 */
+	static String getIndexKey(String searchString) {
+		if (searchString == null || searchString.isEmpty()) {
+			return null;
+		}
+		String key = isPrefixPattern(searchString) ? searchString.substring(0, searchString.length() - 1) : searchString;
+		if (key.isEmpty()) {
+			return null;
+		}
+		for (int i = 0; i < key.length(); i++) {
+			char c = key.charAt(i);
+			if (c == '*' || c == '?' || c == '\\' || c > 127) {
+				return null;
+			}
+		}
+		return normalize(key);
+	}
+
+	static boolean isPrefixPattern(String searchString) {
+		return searchString.endsWith("*"); //$NON-NLS-1$
+	}
+
+	private static String normalize(String key) {
+		return key.toLowerCase(Locale.ENGLISH);
+	}
+}
@@ -44,8 +44,8 @@ public class PluginSearchOperation {
 	}
 
 	public void execute(IProgressMonitor monitor) {
-		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels();
-		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
+		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels(fInput);
+		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels(fInput);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
 		for (IPluginModelBase candidate : plugins) {
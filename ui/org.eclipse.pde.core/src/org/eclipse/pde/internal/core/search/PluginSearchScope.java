@@ -97,6 +97,23 @@ public class PluginSearchScope {
 		return addRelevantModels(PluginRegistry.getAllModels());
 	}
 
+	/**
+	 * Returns the models in this scope that may contain a match for the given
+	 * search input. Exact and prefix searches are answered from the
+	 * {@link PluginSearchIndex}, other searches return all models of the
+	 * scope.
+	 *
+	 * @param input  the search input
+	 * @return models to visit for the search
+	 */
+	public IPluginModelBase[] getMatchingModels(PluginSearchInput input) {
+		IPluginModelBase[] candidates = PDECore.getDefault().getPluginSearchIndex().findCandidateModels(input);
+		if (candidates == null) {
+			return getMatchingModels();
+		}
+		return addRelevantModels(candidates);
+	}
+
 	protected final IPluginModelBase[] addRelevantModels(IPluginModelBase[] models) {
 		ArrayList<IPluginModelBase> result = new ArrayList<>();
 		for (IPluginModelBase model : models) {
@@ -113,6 +130,22 @@ public class PluginSearchScope {
 		return addRelevantModels(PDECore.getDefault().getFeatureModelManager().getModels());
 	}
 
+	/**
+	 * Returns the feature models in this scope that may contain a match for
+	 * the given search input.
+	 *
+	 * @param input  the search input
+	 * @return feature models to visit for the search
+	 * @see #getMatchingModels(PluginSearchInput)
+	 */
+	public IFeatureModel[] getMatchingFeatureModels(PluginSearchInput input) {
+		IFeatureModel[] candidates = PDECore.getDefault().getPluginSearchIndex().findCandidateFeatureModels(input);
+		if (candidates == null) {
+			return getMatchingFeatureModels();
+		}
+		return addRelevantModels(candidates);
+	}
+
 	protected final IFeatureModel[] addRelevantModels(IFeatureModel[] models) {
 		final List<IFeatureModel> result = new ArrayList<>();
 		for (IFeatureModel model : models) {
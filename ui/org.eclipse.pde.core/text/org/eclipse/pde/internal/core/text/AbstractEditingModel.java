@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,7 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 	private IResource fUnderlyingResource;
 	private String fInstallLocation;
 	private volatile boolean fStale;
+	private boolean fChangedSinceLoad;
 
 	public AbstractEditingModel(IDocument document, boolean isReconciling) {
 		fDocument = document;
@@ -119,11 +120,13 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 	@Override
 	public final void load() throws CoreException {
 		load(getInputStream(getDocument()), false);
+		fChangedSinceLoad = false;
 	}
 
 	@Override
 	public final void reload(InputStream source, boolean outOfSync) throws CoreException {
 		load(source, outOfSync);
+		fChangedSinceLoad = false;
 		fireModelChanged(new ModelChangedEvent(this, IModelChangedEvent.WORLD_CHANGED, new Object[] {this}, null));
 
 	}
@@ -145,7 +148,7 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 				if (isStale()) {
 					adjustOffsets(document);
 					setStale(false);
-				} else {
+				} else if (fChangedSinceLoad || !reconcileIncrementally(document)) {
 					reload(getInputStream(document), false);
 				}
 			} catch (CoreException e) {
@@ -158,6 +161,25 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 
 	public abstract void adjustOffsets(IDocument document) throws CoreException;
 
+	/**
+	 * Updates the model with the changes made to the document since it was
+	 * last loaded or reconciled, without loading the whole document again.
+	 * Implementations fire the resulting events with
+	 * {@link #fireReconciledModelChanged(IModelChangedEvent[])}.
+	 * <p>
+	 * This is only called if the model has not been changed through its API
+	 * since it was last loaded.
+	 * </p>
+	 *
+	 * @param document
+	 *            the reconciled document
+	 * @return <code>true</code> if the model has been reconciled,
+	 *         <code>false</code> if the document has to be loaded again
+	 */
+	protected boolean reconcileIncrementally(IDocument document) {
+		return false;
+	}
+
 	protected InputStream getInputStream(IDocument document) {
 		return new ByteArrayInputStream(document.get().getBytes(getCharset()));
 	}
@@ -200,11 +222,41 @@ public abstract class AbstractEditingModel extends PlatformObject implements IEd
 			return;
 		}
 		setDirty(event.getChangeType() != IModelChangedEvent.WORLD_CHANGED);
+		if (event.getChangeType() != IModelChangedEvent.WORLD_CHANGED) {
+			fChangedSinceLoad = true;
+		}
 		for (int i = 0; i < fListeners.size(); i++) {
 			fListeners.get(i).modelChanged(event);
 		}
 	}
 
+	/**
+	 * Notifies the listeners of the changes found by an incremental reconcile.
+	 * Listeners implementing {@link IReconcileModelChangedListener} receive the
+	 * given events, all others receive a single <code>WORLD_CHANGED</code>
+	 * event as if the document had been loaded again. The dirty state of the
+	 * model is left unchanged as the changes are already in the document.
+	 *
+	 * @param events
+	 *            the changes, in the order they have to be processed
+	 */
+	protected void fireReconciledModelChanged(IModelChangedEvent[] events) {
+		IModelChangedEvent worldChanged = null;
+		for (int i = 0; i < fListeners.size(); i++) {
+			IModelChangedListener listener = fListeners.get(i);
+			if (listener instanceof IReconcileModelChangedListener) {
+				for (IModelChangedEvent event : events) {
+					listener.modelChanged(event);
+				}
+			} else {
+				if (worldChanged == null) {
+					worldChanged = new ModelChangedEvent(this, IModelChangedEvent.WORLD_CHANGED, new Object[] {this}, null);
+				}
+				listener.modelChanged(worldChanged);
+			}
+		}
+	}
+
 	@Override
 	public void fireModelObjectChanged(Object object, String property, Object oldValue, Object newValue) {
 		fireModelChanged(new ModelChangedEvent(this, object, property, oldValue, newValue));
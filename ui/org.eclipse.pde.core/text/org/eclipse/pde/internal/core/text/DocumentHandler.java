@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2017 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,8 @@ public abstract class DocumentHandler extends DefaultHandler {
 	private Locator fLocator;
 	private IDocumentElementNode fLastError;
 	private final boolean fReconciling;
+	private IDocumentElementNode fFragmentParent;
+	private int fFragmentOffset;
 
 	public DocumentHandler(boolean reconciling) {
 		fReconciling = reconciling;
@@ -48,6 +50,32 @@ public abstract class DocumentHandler extends DefaultHandler {
 		fDocumentNodeStack.clear();
 		fHighestOffset = 0;
 		fLastError = null;
+		if (fFragmentParent != null) {
+			fDocumentNodeStack.push(fFragmentParent);
+			fHighestOffset = fFragmentOffset - 1;
+		}
+	}
+
+	/**
+	 * Sets the element under which the next parsed element is placed. This is
+	 * used to parse a single element of the document instead of the whole
+	 * document. The parsed text has to be padded with line delimiters and
+	 * spaces, so that the line numbers of the parser match the lines of the
+	 * document.
+	 *
+	 * @param parent
+	 *            the parent of the parsed element, or <code>null</code> to
+	 *            parse whole documents again
+	 * @param offset
+	 *            the offset of the parsed element in the document
+	 */
+	public void setFragmentParent(IDocumentElementNode parent, int offset) {
+		fFragmentParent = parent;
+		fFragmentOffset = offset;
+	}
+
+	protected boolean isParsingFragment() {
+		return fFragmentParent != null;
 	}
 
 	protected IDocumentElementNode getLastParsedDocumentNode() {
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.text;
+
+import org.eclipse.pde.core.IModelChangedListener;
+
+/**
+ * A model changed listener that is able to handle the fine-grained
+ * <code>CHANGE</code>, <code>INSERT</code> and <code>REMOVE</code> events fired
+ * when an editing model is reconciled incrementally with its document.
+ * <p>
+ * These events describe changes that are already reflected in the document, so
+ * they must not be turned into text edits. Listeners that do not implement
+ * this interface receive a single <code>WORLD_CHANGED</code> event instead.
+ * </p>
+ */
+public interface IReconcileModelChangedListener extends IModelChangedListener {
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.text.bundle;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentSkipListMap;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.pde.core.IModelChangedEvent;
+import org.eclipse.pde.core.ModelChangedEvent;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
 import org.eclipse.pde.internal.core.ibundle.IBundleModel;
 import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
@@ -31,6 +37,8 @@ public class Bundle implements IBundle {
 	private final BundleModel fModel;
 	private final Map<String, IManifestHeader> fDocumentHeaders = new ConcurrentSkipListMap<>(
 			String::compareToIgnoreCase);
+	// the header values of the document, as last loaded or reconciled
+	private final Map<String, String> fLoadedValues = new HashMap<>();
 
 	public Bundle(BundleModel model) {
 		fModel = model;
@@ -45,6 +53,7 @@ public class Bundle implements IBundle {
 	 */
 	public void load(Map<String, String> headers) {
 		fDocumentHeaders.clear();
+		fLoadedValues.clear();
 		Iterator<String> iter = headers.keySet().iterator();
 		while (iter.hasNext()) {
 			String key = iter.next();
@@ -66,7 +75,57 @@ public class Bundle implements IBundle {
 			IManifestHeader header = fModel.getFactory().createHeader(key, value);
 			fDocumentHeaders.put(key, header);
 		}
+		for (Map.Entry<String, String> entry : headers.entrySet()) {
+			fLoadedValues.put(entry.getKey(), entry.getValue());
+		}
+		adjustOffsets(fModel.getDocument());
+	}
+
+	/**
+	 * Updates the headers of this model with the given headers. Only the headers
+	 * whose value has changed since the headers were last loaded are created
+	 * again, the other header objects are kept. A changed header is reported as
+	 * the removal of its old object and the insertion of its new object.
+	 *
+	 * @param headers the headers of the reconciled document
+	 * @return the events describing the changed headers, or <code>null</code> if
+	 * the headers have to be loaded again
+	 */
+	public IModelChangedEvent[] reconcile(Map<String, String> headers) {
+		// the manifest version determines how the other headers are parsed
+		if (!Objects.equals(headers.get(Constants.BUNDLE_MANIFESTVERSION), fLoadedValues.get(Constants.BUNDLE_MANIFESTVERSION))) {
+			return null;
+		}
+		List<IModelChangedEvent> events = new ArrayList<>();
+		Iterator<Map.Entry<String, String>> iter = fLoadedValues.entrySet().iterator();
+		while (iter.hasNext()) {
+			Map.Entry<String, String> entry = iter.next();
+			String key = entry.getKey();
+			// a key whose case has changed is removed and added again
+			if (!headers.containsKey(key)) {
+				IManifestHeader header = fDocumentHeaders.remove(key);
+				iter.remove();
+				if (header != null) {
+					events.add(new ModelChangedEvent(fModel, IModelChangedEvent.REMOVE, new Object[] {header}, null));
+				}
+			}
+		}
+		for (Map.Entry<String, String> entry : headers.entrySet()) {
+			String key = entry.getKey();
+			String value = entry.getValue();
+			String old = fLoadedValues.put(key, value);
+			if (!value.equals(old)) {
+				IManifestHeader header = fModel.getFactory().createHeader(key, value);
+				IManifestHeader oldHeader = fDocumentHeaders.put(key, header);
+				if (oldHeader != null) {
+					events.add(new ModelChangedEvent(fModel, IModelChangedEvent.REMOVE, new Object[] {oldHeader}, null));
+				}
+				events.add(new ModelChangedEvent(fModel, IModelChangedEvent.INSERT, new Object[] {header}, null));
+			}
+		}
+		clearOffsets();
 		adjustOffsets(fModel.getDocument());
+		return events.toArray(new IModelChangedEvent[events.size()]);
 	}
 
 	public void clearOffsets() {
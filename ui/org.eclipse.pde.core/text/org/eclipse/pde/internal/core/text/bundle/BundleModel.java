@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.InputStream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.osgi.util.ManifestElement;
+import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
 import org.eclipse.pde.internal.core.ibundle.IBundleModel;
@@ -57,6 +58,24 @@ public class BundleModel extends AbstractEditingModel implements IBundleModel {
 		}
 	}
 
+	@Override
+	protected boolean reconcileIncrementally(IDocument document) {
+		if (!fLoaded) {
+			return false;
+		}
+		IModelChangedEvent[] events = null;
+		try {
+			events = ((Bundle) getBundle()).reconcile(ManifestElement.parseBundleManifest(getInputStream(document), null));
+		} catch (BundleException | IOException e) {
+			// the full reload reports the error
+		}
+		if (events == null) {
+			return false;
+		}
+		fireReconciledModelChanged(events);
+		return true;
+	}
+
 	@Override
 	public synchronized void adjustOffsets(IDocument document) {
 		((Bundle) getBundle()).clearOffsets();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2011 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,10 @@ public class PluginDocumentHandler extends DocumentHandler {
 
 	@Override
 	public void endDocument() throws SAXException {
+		if (isParsingFragment()) {
+			// the processing instruction is not part of the fragment
+			return;
+		}
 		IPluginBase pluginBase = fModel.getPluginBase(false);
 		try {
 			if (pluginBase != null) {
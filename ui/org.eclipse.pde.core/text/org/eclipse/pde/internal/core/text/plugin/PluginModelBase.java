@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2014 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,25 +13,47 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.text.plugin;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.parsers.FactoryConfigurationError;
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.pde.core.IModel;
+import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.IWritable;
+import org.eclipse.pde.core.ModelChangedEvent;
 import org.eclipse.pde.core.build.IBuildModel;
 import org.eclipse.pde.core.plugin.IExtensions;
 import org.eclipse.pde.core.plugin.IExtensionsModelFactory;
 import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginElement;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.IPluginModelFactory;
 import org.eclipse.pde.internal.core.NLResourceHelper;
 import org.eclipse.pde.internal.core.PDEManager;
+import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
 import org.eclipse.pde.internal.core.text.IDocumentElementNode;
+import org.eclipse.pde.internal.core.text.IDocumentTextNode;
 import org.eclipse.pde.internal.core.text.XMLEditingModel;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 public abstract class PluginModelBase extends XMLEditingModel implements IPluginModelBase, IDocumentListener {
@@ -42,6 +64,11 @@ public abstract class PluginModelBase extends XMLEditingModel implements IPlugin
 	private final IPluginModelFactory fFactory;
 	private String fLocalization;
 	private boolean fHasTriedToCreateModel;
+	// the region changed since the document was last parsed, in the
+	// coordinates of the current document, and the change of its length
+	private int fDirtyStart = -1;
+	private int fDirtyEnd;
+	private int fDirtyDelta;
 
 	public PluginModelBase(IDocument document, boolean isReconciling) {
 		super(document, isReconciling);
@@ -156,6 +183,199 @@ public abstract class PluginModelBase extends XMLEditingModel implements IPlugin
 		return fHandler;
 	}
 
+	@Override
+	public void load(InputStream source, boolean outOfSync) {
+		clearDirtyRegion();
+		super.load(source, outOfSync);
+	}
+
+	@Override
+	public void adjustOffsets(IDocument document) {
+		clearDirtyRegion();
+		super.adjustOffsets(document);
+	}
+
+	/*
+	 * Parses again only the innermost element containing all the changes made
+	 * to the document since it was last parsed, and shifts the offsets of the
+	 * nodes following that element.
+	 */
+	@Override
+	@SuppressWarnings("restriction")
+	protected boolean reconcileIncrementally(IDocument document) {
+		int start = fDirtyStart;
+		int delta = fDirtyDelta;
+		int oldEnd = fDirtyEnd - delta;
+		clearDirtyRegion();
+		if (start == -1 || fPluginBase == null || fHandler == null || getStatus() == null || !getStatus().isOK()
+				|| fHandler.getLastErrorNode() != null) {
+			return false;
+		}
+		IDocumentElementNode parent = null;
+		IDocumentElementNode element = fPluginBase;
+		for (IDocumentElementNode child = element; child != null; child = getChildContaining(element, start, oldEnd)) {
+			parent = element;
+			element = child;
+		}
+		if (element == fPluginBase) {
+			return false;
+		}
+
+		Map<IDocumentElementNode, IDocumentElementNode> oldParents = new IdentityHashMap<>();
+		Map<IDocumentElementNode, Map<String, String>> oldAttributes = new IdentityHashMap<>();
+		Map<IDocumentElementNode, String> oldTexts = new IdentityHashMap<>();
+		List<IDocumentElementNode> oldNodes = new ArrayList<>();
+		collectElements(element, oldNodes);
+		for (IDocumentElementNode node : oldNodes) {
+			oldParents.put(node, node.getParentNode());
+			oldAttributes.put(node, getAttributeValues(node));
+			oldTexts.put(node, getText(node));
+		}
+
+		int offset = element.getOffset();
+		int length = element.getLength() + delta;
+		int siblingCount = parent.getChildCount();
+		try {
+			String text = document.get(offset, length);
+			if (!text.startsWith("<" + element.getXMLTagName()) || !text.endsWith(">")) { //$NON-NLS-1$ //$NON-NLS-2$
+				return false;
+			}
+			// pad the element so that the parser reports the lines of the document
+			int line = document.getLineOfOffset(offset);
+			int column = offset - document.getLineOffset(line);
+			String source = "\n".repeat(line) + " ".repeat(column) + text; //$NON-NLS-1$ //$NON-NLS-2$
+			element.setOffset(-1);
+			element.setLength(-1);
+			fHandler.setFragmentParent(parent, offset);
+			try {
+				org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE()
+						.parse(new InputSource(new StringReader(source)), fHandler);
+			} finally {
+				fHandler.setFragmentParent(null, 0);
+			}
+		} catch (BadLocationException | SAXException | IOException | ParserConfigurationException
+				| FactoryConfigurationError e) {
+			return false;
+		}
+		if (fHandler.getLastErrorNode() != null || element.getOffset() != offset || element.getLength() != length
+				|| element.getParentNode() != parent || parent.getChildCount() != siblingCount) {
+			return false;
+		}
+		for (IDocumentElementNode ancestor = parent; ancestor != null; ancestor = ancestor.getParentNode()) {
+			ancestor.setLength(ancestor.getLength() + delta);
+			for (IDocumentElementNode sibling : ancestor.getChildNodes()) {
+				if (sibling.getOffset() > offset) {
+					shiftOffsets(sibling, delta);
+				}
+			}
+			IDocumentTextNode textNode = ancestor.getTextNode();
+			if (textNode != null && textNode.getOffset() > offset) {
+				textNode.setOffset(textNode.getOffset() + delta);
+			} else if (textNode != null && textNode.getOffset() + textNode.getLength() > offset) {
+				textNode.setLength(textNode.getLength() + delta);
+			}
+		}
+		fLoaded = true;
+
+		List<IDocumentElementNode> newNodes = new ArrayList<>();
+		collectElements(element, newNodes);
+		Set<IDocumentElementNode> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+		retained.addAll(newNodes);
+		retained.retainAll(oldNodes);
+		List<IModelChangedEvent> events = new ArrayList<>();
+		for (IDocumentElementNode node : oldNodes) {
+			if (!retained.contains(node) && retained.contains(oldParents.get(node))) {
+				events.add(new ModelChangedEvent(this, IModelChangedEvent.REMOVE, new Object[] {node}, null));
+			}
+		}
+		for (IDocumentElementNode node : newNodes) {
+			if (!retained.contains(node) && retained.contains(node.getParentNode())) {
+				events.add(new ModelChangedEvent(this, IModelChangedEvent.INSERT, new Object[] {node}, null));
+			}
+		}
+		for (IDocumentElementNode node : newNodes) {
+			if (retained.contains(node)) {
+				Map<String, String> oldValues = oldAttributes.get(node);
+				Map<String, String> newValues = getAttributeValues(node);
+				for (Map.Entry<String, String> entry : oldValues.entrySet()) {
+					String newValue = newValues.remove(entry.getKey());
+					if (!entry.getValue().equals(newValue)) {
+						events.add(new ModelChangedEvent(this, node, entry.getKey(), entry.getValue(), newValue));
+					}
+				}
+				for (Map.Entry<String, String> entry : newValues.entrySet()) {
+					events.add(new ModelChangedEvent(this, node, entry.getKey(), null, entry.getValue()));
+				}
+				String oldText = oldTexts.get(node);
+				String newText = getText(node);
+				if (!Objects.equals(oldText, newText)) {
+					events.add(new ModelChangedEvent(this, node, IPluginElement.P_TEXT, oldText, newText));
+				}
+			}
+		}
+		fireReconciledModelChanged(events.toArray(new IModelChangedEvent[events.size()]));
+		return true;
+	}
+
+	private void clearDirtyRegion() {
+		fDirtyStart = -1;
+		fDirtyEnd = 0;
+		fDirtyDelta = 0;
+	}
+
+	/*
+	 * Returns the child element whose content contains the given range of the
+	 * last parsed document. A change in that range cannot change the tag name
+	 * of the child or its end.
+	 */
+	private static IDocumentElementNode getChildContaining(IDocumentElementNode node, int start, int end) {
+		for (IDocumentElementNode child : node.getChildNodes()) {
+			int offset = child.getOffset();
+			if (offset >= 0 && start > offset + child.getXMLTagName().length() + 1
+					&& end < offset + child.getLength()) {
+				return child;
+			}
+		}
+		return null;
+	}
+
+	private static void collectElements(IDocumentElementNode node, List<IDocumentElementNode> nodes) {
+		nodes.add(node);
+		for (IDocumentElementNode child : node.getChildNodes()) {
+			collectElements(child, nodes);
+		}
+	}
+
+	private static Map<String, String> getAttributeValues(IDocumentElementNode node) {
+		Map<String, String> values = new HashMap<>();
+		for (IDocumentAttributeNode attribute : node.getNodeAttributes()) {
+			values.put(attribute.getAttributeName(), attribute.getAttributeValue());
+		}
+		return values;
+	}
+
+	private static String getText(IDocumentElementNode node) {
+		IDocumentTextNode textNode = node.getTextNode();
+		return textNode != null ? textNode.getText() : null;
+	}
+
+	private static void shiftOffsets(IDocumentElementNode node, int delta) {
+		node.setOffset(node.getOffset() + delta);
+		for (IDocumentAttributeNode attribute : node.getNodeAttributes()) {
+			if (attribute.getNameOffset() >= 0) {
+				attribute.setNameOffset(attribute.getNameOffset() + delta);
+				attribute.setValueOffset(attribute.getValueOffset() + delta);
+			}
+		}
+		IDocumentTextNode textNode = node.getTextNode();
+		if (textNode != null && textNode.getOffset() >= 0) {
+			textNode.setOffset(textNode.getOffset() + delta);
+		}
+		for (IDocumentElementNode child : node.getChildNodes()) {
+			shiftOffsets(child, delta);
+		}
+	}
+
 	public IDocumentElementNode getLastErrorNode() {
 		if (fHandler != null) {
 			return fHandler.getLastErrorNode();
@@ -185,6 +405,17 @@ public abstract class PluginModelBase extends XMLEditingModel implements IPlugin
 	public void documentChanged(DocumentEvent event) {
 		fHasTriedToCreateModel = false;
 		fLoaded = false;
+		int offset = event.getOffset();
+		int delta = (event.getText() != null ? event.getText().length() : 0) - event.getLength();
+		if (fDirtyStart == -1) {
+			fDirtyStart = offset;
+			fDirtyEnd = offset + event.getLength();
+		} else {
+			fDirtyStart = Math.min(fDirtyStart, offset);
+			fDirtyEnd = Math.max(fDirtyEnd, offset + event.getLength());
+		}
+		fDirtyEnd += delta;
+		fDirtyDelta += delta;
 	}
 
 	/*
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.equinox.p2.core.IProvisioningAgent;
+import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceReference;
+
+public class RepositoryCacheTests {
+
+	private Path repositoryDir;
+
+	@Before
+	public void setUp() throws Exception {
+		RepositoryCache.flush();
+		repositoryDir = Files.createTempDirectory("repositoryCache");
+		try (InputStream content = FrameworkUtil.getBundle(getClass())
+				.getEntry("testing-files/testing-sites/MultipleUnitsConfirmSorting/content.jar").openStream()) {
+			Files.copy(content, repositoryDir.resolve("content.jar"));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RepositoryCache.flush();
+		try (Stream<Path> files = Files.walk(repositoryDir)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	@Test
+	public void testUnitsAvailableWhenRepositoryIsNot() throws Exception {
+		List<String> repositories = List.of(repositoryDir.toUri().toString());
+		Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(repositories);
+		assertFalse(units.isEmpty());
+		Job.getJobManager().join(RepositoryCache.JOB_FAMILY, null);
+
+		// neither the memory cache nor p2 know the repository any more
+		RepositoryCache.flushMemoryCache();
+		removeFromP2Cache(repositoryDir.toUri());
+		Files.delete(repositoryDir.resolve("content.jar"));
+
+		assertEquals(units, RepositoryCache.fetchP2UnitsFromRepos(repositories));
+		// the refresh fails and keeps the stored metadata
+		Job.getJobManager().join(RepositoryCache.JOB_FAMILY, null);
+		assertEquals(units, RepositoryCache.fetchP2UnitsFromRepos(repositories));
+
+		RepositoryCache.flushMemoryCache();
+		assertEquals(units, RepositoryCache.fetchP2UnitsFromRepos(repositories));
+		Job.getJobManager().join(RepositoryCache.JOB_FAMILY, null);
+	}
+
+	private static void removeFromP2Cache(URI location) throws Exception {
+		BundleContext context = FrameworkUtil.getBundle(RepositoryCacheTests.class).getBundleContext();
+		ServiceReference<IProvisioningAgentProvider> reference = context
+				.getServiceReference(IProvisioningAgentProvider.class);
+		try {
+			IProvisioningAgent agent = context.getService(reference).createAgent(null);
+			agent.getService(IMetadataRepositoryManager.class).removeRepository(location);
+		} finally {
+			context.ungetService(reference);
+		}
+	}
+
+	@Test
+	public void testUnitIndexIsShared() throws Exception {
+		List<String> repositories = List.of(repositoryDir.toUri().toString());
+		UnitIndex index = RepositoryCache.getUnitIndex(repositories);
+		assertSame(index, RepositoryCache.getUnitIndex(repositories));
+		assertEquals(index.getUnits(), RepositoryCache.fetchP2UnitsFromRepos(repositories));
+	}
+
+	@Test
+	public void testUnitIndexLookups() throws Exception {
+		UnitIndex index = RepositoryCache.getUnitIndex(List.of(repositoryDir.toUri().toString()));
+		assertFalse(index.getUnits().isEmpty());
+		for (String id : index.getUnits().keySet()) {
+			assertTrue(id, index.getIdsByPrefix(id).contains(id));
+			assertTrue(id, index.getIdsByPrefix(id.substring(0, id.length() / 2)).contains(id));
+			assertTrue(id, index.getCandidateIds(id.substring(id.length() / 2).toUpperCase()).contains(id));
+			assertEquals(index.getUnits().get(id), index.getVersions(id));
+		}
+		assertTrue(index.getIdsByPrefix("does.not.exist").isEmpty());
+	}
+}
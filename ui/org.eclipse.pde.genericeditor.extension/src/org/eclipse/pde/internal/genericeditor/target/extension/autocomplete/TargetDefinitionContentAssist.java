@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -206,6 +206,8 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 		return null;
 	}
 
+	private static final Pattern CAMEL_CASE_PARTS = Pattern.compile("((?=[A-Z])|(?<=[._])|(?=[0-9])(?<![0-9]))"); //$NON-NLS-1$
+
 	private static Styler bold = new BoldStylerProvider(
 			JFaceResources.getFontRegistry().get(JFaceResources.DEFAULT_FONT)).getBoldStyler();
 
@@ -230,8 +232,9 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 		}
 		if (searchTerm.isEmpty()) {
 			return new StyledString(string);
-		} else if (string.toLowerCase().contains(searchTerm.toLowerCase())) {
-			int index = string.toLowerCase().indexOf(searchTerm.toLowerCase());
+		}
+		int index = string.toLowerCase().indexOf(searchTerm.toLowerCase());
+		if (index != -1) {
 			int len = searchTerm.length();
 			StyledString styledString = new StyledString(string.substring(0, index));
 			styledString.append(string.substring(index, index + len), bold);
@@ -239,7 +242,7 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 		}
 		int searchCharIndex = 0;
 		int subStringCharIndex = 0;
-		String[] stringParts = string.split("((?=[A-Z])|(?<=[._])|(?=[0-9])(?<![0-9]))");
+		String[] stringParts = CAMEL_CASE_PARTS.split(string);
 		StyledString styledString = new StyledString();
 		while (searchCharIndex < searchTerm.length()) {
 			for (String subString : stringParts) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,6 @@ package org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.pro
 
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Stream;
 
 import org.eclipse.equinox.p2.metadata.IVersionedId;
@@ -29,6 +28,7 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetCons
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitIndex;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
@@ -90,8 +90,8 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 				if (repoLocations.isEmpty()) {
 					return getErrorCompletion();
 				}
-				Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(repoLocations);
-				return toProposals(units.keySet().stream());
+				UnitIndex units = RepositoryCache.getUnitIndex(repoLocations);
+				return toProposals(units.getCandidateIds(searchTerm).stream());
 			}
 		}
 
@@ -104,8 +104,7 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 				if (repoLocations.isEmpty()) {
 					return getErrorCompletion();
 				}
-				Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(repoLocations);
-				List<IVersionedId> versions = units.get(node.getId());
+				List<IVersionedId> versions = RepositoryCache.getUnitIndex(repoLocations).getVersions(node.getId());
 				if (versions != null) {
 					Stream<String> availableVersions = Stream.concat(
 							versions.stream().map(unit -> unit.getVersion().toString()),
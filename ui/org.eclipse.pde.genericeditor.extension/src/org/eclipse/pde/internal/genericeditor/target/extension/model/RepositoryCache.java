@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
@@ -21,6 +22,7 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -29,6 +31,12 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.p2.metadata.IVersionedId;
 import org.eclipse.equinox.p2.metadata.VersionedId;
@@ -36,14 +44,18 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.Messages;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.RepositoryContent;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is used to cache the p2 repositories completion information order
  * to minimize IO round trips and have instant completion for IUs and their
  * versions.
  *
- * There will be only one cache shared between editors. In the future a function
- * will be added for the user to be able to flush this cache.
+ * There will be only one cache shared between editors. The metadata is also
+ * stored on disk, so that it is available immediately in later sessions and
+ * while a repository cannot be reached. Stored metadata is served at once and
+ * refreshed in the background, unless the size and modification time of the
+ * metadata files of the repository did not change.
  */
 public class RepositoryCache {
 
@@ -51,11 +63,69 @@ public class RepositoryCache {
 		// avoid instantiation
 	}
 
-	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
+	/**
+	 * The metadata of a repository, along with the {@link P2Fetcher#getStamp
+	 * stamp} of the repository files it was read from, which is
+	 * <code>null</code> if unknown.
+	 */
+	static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children, String stamp) {
 	}
 
+	/**
+	 * The family of the jobs fetching the metadata of repositories.
+	 */
+	public static final Object JOB_FAMILY = RepositoryCache.class;
+
 	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = new ConcurrentHashMap<>();
 
+	/**
+	 * The index of a set of repositories along with the metadata it was
+	 * computed from. As metadata is never modified but replaced, the index is
+	 * valid as long as the same metadata instances are cached.
+	 */
+	private static record IndexEntry(List<RepositoryMetadata> sources, UnitIndex index) {
+		boolean isValid(List<RepositoryMetadata> current) {
+			if (current.size() != sources.size()) {
+				return false;
+			}
+			for (int i = 0; i < current.size(); i++) {
+				if (current.get(i) != sources.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final int MAX_INDEX_CACHE_SIZE = 32;
+
+	private static final Map<List<String>, IndexEntry> INDEX_CACHE = new ConcurrentHashMap<>();
+
+	private static final RepositoryCacheStore STORE = new RepositoryCacheStore(Platform
+			.getStateLocation(FrameworkUtil.getBundle(RepositoryCache.class)).append("repositories").toPath()); //$NON-NLS-1$
+
+	/**
+	 * Discards the metadata held in memory, so that it is read again from disk
+	 * or fetched from the repositories on next access.
+	 */
+	public static void flushMemoryCache() {
+		CACHE.clear();
+		INDEX_CACHE.clear();
+	}
+
+	/**
+	 * Discards all metadata, in memory and on disk.
+	 */
+	public static void flush() {
+		CACHE.clear();
+		INDEX_CACHE.clear();
+		try {
+			STORE.clear();
+		} catch (IOException e) {
+			ILog.get().warn(e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Fetches information and caches it.
 	 * <p>
@@ -69,14 +139,41 @@ public class RepositoryCache {
 	 *         mapping all IDs to all available versions.
 	 */
 	public static Map<String, List<IVersionedId>> fetchP2UnitsFromRepos(List<String> repositories) {
-		if (repositories.size() == 1) {
-			return getFutureValue(fetchP2DataOfRepo(repositories.get(0)), RepositoryMetadata::units, Map.of());
-		}
-		var repos = repositories.stream().map(RepositoryCache::fetchP2DataOfRepo).toList();
+		return getUnitIndex(repositories).getUnits();
+	}
+
+	/**
+	 * Fetches information and caches it.
+	 * <p>
+	 * The returned index of all IUs available in the {@code repositories} is
+	 * shared between all callers and only recomputed when the metadata of one
+	 * of the repositories has changed.
+	 * </p>
+	 *
+	 * @return the index of all available units in the specified
+	 *         {@code repositories}
+	 */
+	public static UnitIndex getUnitIndex(List<String> repositories) {
 		// Fetch all repos at once to await pending metadata in parallel
-		return toSortedMap(repos.stream()
-				.map(r -> getFutureValue(r, RepositoryMetadata::units, Map.<String, List<IVersionedId>>of()))
-				.map(Map::values).flatMap(Collection::stream).flatMap(List::stream));
+		var repos = repositories.stream().map(RepositoryCache::fetchP2DataOfRepo).toList();
+		List<RepositoryMetadata> sources = repos.stream().map(r -> getFutureValue(r, m -> m, null)).toList();
+		IndexEntry entry = INDEX_CACHE.get(repositories);
+		if (entry != null && entry.isValid(sources)) {
+			return entry.index();
+		}
+		UnitIndex index;
+		if (sources.size() == 1) {
+			index = sources.get(0) == null ? UnitIndex.EMPTY : new UnitIndex(sources.get(0).units());
+		} else {
+			index = new UnitIndex(toSortedMap(sources.stream().filter(Objects::nonNull)
+					.map(RepositoryMetadata::units).map(Map::values).flatMap(Collection::stream)
+					.flatMap(List::stream)));
+		}
+		if (INDEX_CACHE.size() >= MAX_INDEX_CACHE_SIZE) {
+			INDEX_CACHE.clear();
+		}
+		INDEX_CACHE.put(List.copyOf(repositories), new IndexEntry(sources, index));
+		return index;
 	}
 
 	public static List<URI> fetchChildrenOfRepo(String repository) {
@@ -94,31 +191,96 @@ public class RepositoryCache {
 		} catch (URISyntaxException e) {
 			return CompletableFuture.failedFuture(e);
 		}
+		CompletableFuture<RepositoryMetadata> cached = CACHE.get(location);
+		if (isUsable(cached)) {
+			return cached;
+		}
+		// read the store outside of the cache computation, which must not block
+		RepositoryMetadata stored = STORE.read(location);
 		return CACHE.compute(location, (repo, f) -> {
-			if (f != null && (!f.isDone() || !f.isCompletedExceptionally() && !f.isCancelled())) {
-				return f; // computation is running or has succeeded
+			if (isUsable(f)) {
+				return f;
 			}
 			CompletableFuture<RepositoryMetadata> future = new CompletableFuture<>();
+			if (stored != null) {
+				// serve the stored metadata at once and refresh it below
+				future.complete(stored);
+			}
 			// Fetching P2 repository information is a costly operation
 			// time-wise. Thus it is done in a job.
-			Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
-				try {
-					RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
-					Map<String, List<IVersionedId>> units = toSortedMap(
-							content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
-					future.complete(new RepositoryMetadata(units, content.children()));
-				} catch (Throwable e) {
-					future.completeExceptionally(e);
-					// Only log the failure, don't open an error-dialog.
-					ILog.get().warn(e.getMessage(), e);
-				}
-			});
-			job.setUser(true);
+			Job job = new RefreshJob(repo, stored, future);
+			job.setUser(stored == null);
 			job.schedule();
 			return future;
 		});
 	}
 
+	/**
+	 * Fetches the metadata of a repository, unless the stored metadata is
+	 * still up to date, and completes or replaces the cached metadata.
+	 */
+	private static class RefreshJob extends Job {
+		private final URI repo;
+		private final RepositoryMetadata stored;
+		private final CompletableFuture<RepositoryMetadata> future;
+
+		RefreshJob(URI repo, RepositoryMetadata stored, CompletableFuture<RepositoryMetadata> future) {
+			super(NLS.bind(Messages.UpdateJob_P2DataFetch, repo));
+			this.repo = repo;
+			this.stored = stored;
+			this.future = future;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JOB_FAMILY;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor m) {
+			SubMonitor monitor = SubMonitor.convert(m, 10);
+			try {
+				List<URI> children = stored != null ? stored.children() : List.of();
+				String stamp = P2Fetcher.getStamp(repo, children, monitor.split(1));
+				if (stored != null && stamp != null && stamp.equals(stored.stamp())) {
+					return Status.OK_STATUS; // not modified, the metadata is not loaded at all
+				}
+				RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, monitor.split(8));
+				if (stamp != null && !content.children().equals(children)) {
+					stamp = P2Fetcher.getStamp(repo, content.children(), monitor.split(1));
+				}
+				Map<String, List<IVersionedId>> units = toSortedMap(
+						content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
+				RepositoryMetadata metadata = new RepositoryMetadata(units, content.children(), stamp);
+				try {
+					STORE.write(repo, metadata);
+				} catch (IOException e) {
+					ILog.get().warn(e.getMessage(), e);
+				}
+				if (!future.complete(metadata)) {
+					CACHE.replace(repo, future, CompletableFuture.completedFuture(metadata));
+				}
+			} catch (OperationCanceledException e) {
+				future.completeExceptionally(e);
+				return Status.CANCEL_STATUS;
+			} catch (Throwable e) {
+				// keep the stored metadata while the repository is unavailable
+				future.completeExceptionally(e);
+				// Only log the failure, don't open an error-dialog.
+				ILog.get().warn(e.getMessage(), e);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	/**
+	 * Returns whether the given cached metadata is being computed or has been
+	 * computed successfully.
+	 */
+	private static boolean isUsable(CompletableFuture<RepositoryMetadata> future) {
+		return future != null && (!future.isDone() || !future.isCompletedExceptionally() && !future.isCancelled());
+	}
+
 	private static final Comparator<IVersionedId> BY_ID_FIRST_THEN_DESCENDING_VERSION = Comparator
 			.comparing(IVersionedId::getId, String.CASE_INSENSITIVE_ORDER)
 			.thenComparing(IVersionedId::getVersion, Comparator.reverseOrder());
@@ -155,9 +317,8 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public static List<IVersionedId> getUnitsByPrefix(String repo, String prefix) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().startsWith(prefix)).toList();
+		UnitIndex index = getUnitIndex(List.of(repo));
+		return index.getIdsByPrefix(prefix).stream().map(index::getVersions).flatMap(List::stream).toList();
 	}
 
 	/**
@@ -179,8 +340,8 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id contains 'searchTerm'
 	 */
 	public static List<IVersionedId> getUnitsBySearchTerm(String repo, String searchTerm) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().contains(searchTerm)).toList();
+		UnitIndex index = getUnitIndex(List.of(repo));
+		return index.getCandidateIds(searchTerm).stream().filter(id -> id.contains(searchTerm))
+				.map(index::getVersions).flatMap(List::stream).toList();
 	}
 }
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache.RepositoryMetadata;
+
+/**
+ * Stores the metadata of p2 repositories on disk, so that it is available
+ * across sessions and while a repository cannot be reached. Each repository
+ * is stored in its own file. When the files grow larger than
+ * {@link #MAX_SIZE}, the least recently used ones are deleted.
+ */
+final class RepositoryCacheStore {
+
+	private static final int STORE_MAGIC = 0x50324d44; // P2MD
+
+	private static final int STORE_VERSION = 2;
+
+	private static final String FILE_EXTENSION = ".units"; //$NON-NLS-1$
+
+	static final long MAX_SIZE = 64L * 1024 * 1024;
+
+	private final Path directory;
+
+	RepositoryCacheStore(Path directory) {
+		this.directory = directory;
+	}
+
+	private Path getFile(URI repository) {
+		UUID name = UUID.nameUUIDFromBytes(repository.toString().getBytes(StandardCharsets.UTF_8));
+		return directory.resolve(name + FILE_EXTENSION);
+	}
+
+	/**
+	 * Reads the stored metadata of the given repository.
+	 *
+	 * @return the stored metadata, or <code>null</code> if none is stored or it
+	 *         cannot be read
+	 */
+	RepositoryMetadata read(URI repository) {
+		Path file = getFile(repository);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != STORE_MAGIC || in.readInt() != STORE_VERSION
+					|| !repository.toString().equals(in.readUTF())) {
+				return null;
+			}
+			String stamp = in.readBoolean() ? in.readUTF() : null;
+			int childCount = in.readInt();
+			List<URI> children = new ArrayList<>(childCount);
+			for (int i = 0; i < childCount; i++) {
+				children.add(URI.create(in.readUTF()));
+			}
+			int idCount = in.readInt();
+			Map<String, List<IVersionedId>> units = new LinkedHashMap<>(idCount * 4 / 3 + 1);
+			for (int i = 0; i < idCount; i++) {
+				String id = in.readUTF();
+				IVersionedId[] versions = new IVersionedId[in.readInt()];
+				for (int j = 0; j < versions.length; j++) {
+					versions[j] = new VersionedId(id, Version.create(in.readUTF()));
+				}
+				units.put(id, List.of(versions));
+			}
+			// mark as recently used
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return new RepositoryMetadata(units, List.copyOf(children), stamp);
+		} catch (IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the metadata of the given repository, then deletes the least
+	 * recently used files if the store has grown too large.
+	 */
+	void write(URI repository, RepositoryMetadata metadata) throws IOException {
+		Files.createDirectories(directory);
+		Path file = getFile(repository);
+		Path tempFile = Files.createTempFile(directory, null, ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(STORE_MAGIC);
+				out.writeInt(STORE_VERSION);
+				out.writeUTF(repository.toString());
+				out.writeBoolean(metadata.stamp() != null);
+				if (metadata.stamp() != null) {
+					out.writeUTF(metadata.stamp());
+				}
+				out.writeInt(metadata.children().size());
+				for (URI child : metadata.children()) {
+					out.writeUTF(child.toString());
+				}
+				out.writeInt(metadata.units().size());
+				for (Map.Entry<String, List<IVersionedId>> entry : metadata.units().entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue().size());
+					for (IVersionedId unit : entry.getValue()) {
+						out.writeUTF(unit.getVersion().toString());
+					}
+				}
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+		evict(MAX_SIZE);
+	}
+
+	/**
+	 * Deletes the least recently used files until the store is not larger than
+	 * the given size.
+	 */
+	void evict(long maxSize) throws IOException {
+		record StoredFile(Path path, long size, long lastUsed) {
+		}
+		List<StoredFile> files = new ArrayList<>();
+		long size = 0;
+		try (Stream<Path> paths = Files.list(directory)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				if (path.getFileName().toString().endsWith(FILE_EXTENSION)) {
+					StoredFile file = new StoredFile(path, Files.size(path),
+							Files.getLastModifiedTime(path).toMillis());
+					files.add(file);
+					size += file.size();
+				}
+			}
+		}
+		if (size <= maxSize) {
+			return;
+		}
+		files.sort(Comparator.comparingLong(StoredFile::lastUsed));
+		for (StoredFile file : files) {
+			if (size <= maxSize) {
+				break;
+			}
+			Files.deleteIfExists(file.path());
+			size -= file.size();
+		}
+	}
+
+	/**
+	 * Deletes all stored metadata.
+	 */
+	void clear() throws IOException {
+		if (!Files.isDirectory(directory)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.list(directory)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+}
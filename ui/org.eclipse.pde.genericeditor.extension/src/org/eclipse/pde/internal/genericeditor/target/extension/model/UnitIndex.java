@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+
+/**
+ * An immutable index of the IUs available in a set of repositories, used to
+ * compute IU completions without going through all available IUs for each
+ * proposal.
+ * <p>
+ * The IDs are kept in a sorted array, so IDs starting with a prefix are found
+ * with a binary search. For any other search term, the candidates are selected
+ * by comparing a mask of the characters of the search term with a precomputed
+ * mask of the characters of each ID.
+ * </p>
+ */
+public final class UnitIndex {
+
+	static final UnitIndex EMPTY = new UnitIndex(Map.of());
+
+	private final Map<String, List<IVersionedId>> units;
+	private final String[] ids;
+	private final long[] charMasks;
+
+	/**
+	 * @param units
+	 *            the units mapped by ID, with all IDs sorted in case insensitive
+	 *            order
+	 */
+	UnitIndex(Map<String, List<IVersionedId>> units) {
+		this.units = Collections.unmodifiableMap(units);
+		this.ids = units.keySet().toArray(String[]::new);
+		this.charMasks = new long[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			charMasks[i] = charMask(ids[i]);
+		}
+	}
+
+	/**
+	 * @return all available units in a map mapping all IDs, in alphabetical
+	 *         order, to all available versions, in descending order.
+	 */
+	public Map<String, List<IVersionedId>> getUnits() {
+		return units;
+	}
+
+	/**
+	 * @return all available versions of the unit with the given ID in
+	 *         descending order, or <code>null</code> if no unit has that ID
+	 */
+	public List<IVersionedId> getVersions(String id) {
+		return units.get(id);
+	}
+
+	/**
+	 * @return the IDs starting with the given prefix, in alphabetical order
+	 */
+	public List<String> getIdsByPrefix(String prefix) {
+		List<String> result = new ArrayList<>();
+		int index = Arrays.binarySearch(ids, prefix, String.CASE_INSENSITIVE_ORDER);
+		if (index < 0) {
+			index = -index - 1;
+		} else {
+			// ids equal ignoring case may precede the one found
+			while (index > 0 && ids[index - 1].equalsIgnoreCase(prefix)) {
+				index--;
+			}
+		}
+		for (; index < ids.length && ids[index].regionMatches(true, 0, prefix, 0, prefix.length()); index++) {
+			if (ids[index].startsWith(prefix)) {
+				result.add(ids[index]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the IDs that may match the given search term, i.e. the IDs that
+	 * contain all the characters of the search term, ignoring case. The
+	 * candidates still have to be matched against the search term.
+	 *
+	 * @return the candidates, in alphabetical order
+	 */
+	public List<String> getCandidateIds(String searchTerm) {
+		if (searchTerm.isEmpty()) {
+			return Arrays.asList(ids);
+		}
+		long mask = charMask(searchTerm);
+		List<String> result = new ArrayList<>();
+		for (int i = 0; i < ids.length; i++) {
+			if ((charMasks[i] & mask) == mask) {
+				result.add(ids[i]);
+			}
+		}
+		return result;
+	}
+
+	private static long charMask(String string) {
+		long mask = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = Character.toLowerCase(string.charAt(i));
+			int bit;
+			if (c >= 'a' && c <= 'z') {
+				bit = c - 'a';
+			} else if (c >= '0' && c <= '9') {
+				bit = 26 + c - '0';
+			} else {
+				bit = 36 + c % 28;
+			}
+			mask |= 1L << bit;
+		}
+		return mask;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,22 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.p2;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.equinox.internal.p2.repository.AuthenticationFailedException;
+import org.eclipse.equinox.internal.p2.repository.Transport;
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
 import org.eclipse.equinox.p2.core.ProvisionException;
@@ -41,9 +50,32 @@ import org.osgi.framework.ServiceReference;
  */
 public class P2Fetcher {
 
+	/**
+	 * The units and children of a repository.
+	 */
 	public static record RepositoryContent(IQueryResult<IInstallableUnit> units, List<URI> children) {
 	}
 
+	/**
+	 * The files the metadata of a simple or composite repository may be read
+	 * from.
+	 */
+	private static final List<String> METADATA_FILES = List.of("p2.index", "content.jar", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"content.xml", "compositeContent.jar", "compositeContent.xml"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	/**
+	 * The time all lookups of one stamp may take together, in nanoseconds.
+	 */
+	private static final long STAMP_TIME_LIMIT = TimeUnit.SECONDS.toNanos(10);
+
+	/**
+	 * An operation run with the running provisioning agent.
+	 */
+	@FunctionalInterface
+	private interface AgentOperation<T, E extends Exception> {
+		T run(IProvisioningAgent agent) throws CoreException, E;
+	}
+
 	/**
 	 * This methods goes 'online' to make contact with a p2 repo and query it.
 	 *
@@ -54,21 +86,117 @@ public class P2Fetcher {
 	public static RepositoryContent fetchAvailableUnits(URI repositoryLocation, IProgressMonitor monitor)
 			throws CoreException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 31);
+		return withAgent(agent -> {
+			IMetadataRepositoryManager manager = agent.getService(IMetadataRepositoryManager.class);
+			IMetadataRepository repository = manager.loadRepository(repositoryLocation, subMonitor.split(30));
+			IQueryResult<IInstallableUnit> allUnits = repository.query(QueryUtil.ALL_UNITS, subMonitor.split(1));
+			return new RepositoryContent(allUnits, allChildren(repository, manager).toList());
+		});
+	}
+
+	/**
+	 * Returns a stamp of the metadata files of a repository and of the given
+	 * children, made of their modification time and, on disk, their size.
+	 * Unlike the timestamp property of a repository, it is obtained without
+	 * downloading and loading the metadata: files are only looked up on disk,
+	 * or their modification time is requested through the p2 transport, so
+	 * that the proxy and authentication settings apply. All lookups of a stamp
+	 * together are bounded to {@link #STAMP_TIME_LIMIT}. The stamp of a
+	 * composite repository does not change with its children, hence the
+	 * children have to be given.
+	 *
+	 * @return the stamp, or <code>null</code> if it cannot be determined
+	 */
+	public static String getStamp(URI repositoryLocation, List<URI> children, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, (children.size() + 1) * METADATA_FILES.size());
+		long deadline = System.nanoTime() + STAMP_TIME_LIMIT;
+		try {
+			return withAgent(agent -> {
+				Transport transport = agent.getService(Transport.class);
+				StringBuilder stamp = new StringBuilder();
+				for (URI location : Stream.concat(Stream.of(repositoryLocation), children.stream()).toList()) {
+					String base = location.toString().endsWith("/") ? location.toString() : location + "/"; //$NON-NLS-1$ //$NON-NLS-2$
+					boolean found = false;
+					for (String name : METADATA_FILES) {
+						String fileStamp = getFileStamp(URI.create(base + name), transport,
+								new DeadlineMonitor(subMonitor.split(1), deadline));
+						if (fileStamp != null) {
+							stamp.append(base).append(name).append('=').append(fileStamp).append(';');
+							found = true;
+						}
+					}
+					if (!found) {
+						return null;
+					}
+				}
+				return stamp.toString();
+			});
+		} catch (CoreException | IOException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the stamp of a single file, or <code>null</code> if the file does
+	 * not exist.
+	 *
+	 * @throws IOException
+	 *             if it cannot be told whether or when the file changed
+	 */
+	private static String getFileStamp(URI file, Transport transport, DeadlineMonitor monitor) throws IOException {
+		if ("file".equalsIgnoreCase(file.getScheme())) { //$NON-NLS-1$
+			Path path = Path.of(file);
+			if (!Files.isRegularFile(path)) {
+				return null;
+			}
+			return Files.size(path) + "@" + Files.getLastModifiedTime(path).toMillis(); //$NON-NLS-1$
+		}
+		if (transport == null || monitor.isCanceled()) {
+			throw new IOException("Cannot tell whether " + file + " changed"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		try {
+			long lastModified = transport.getLastModified(file, monitor);
+			if (lastModified <= 0) {
+				throw new IOException("Cannot tell whether " + file + " changed"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return Long.toString(lastModified);
+		} catch (FileNotFoundException e) {
+			return null;
+		} catch (CoreException | AuthenticationFailedException | OperationCanceledException e) {
+			throw new IOException("Cannot tell whether " + file + " changed", e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static <T, E extends Exception> T withAgent(AgentOperation<T, E> operation) throws CoreException, E {
 		BundleContext context = FrameworkUtil.getBundle(P2Fetcher.class).getBundleContext();
 		ServiceReference<IProvisioningAgentProvider> sr = context.getServiceReference(IProvisioningAgentProvider.class);
 		try {
 			IProvisioningAgentProvider agentProvider = context.getService(sr);
-			IProvisioningAgent agent = agentProvider.createAgent(null);
-			IMetadataRepositoryManager manager = agent.getService(IMetadataRepositoryManager.class);
-			IMetadataRepository repository = manager.loadRepository(repositoryLocation, subMonitor.split(30));
-			IQueryResult<IInstallableUnit> allUnits = repository.query(QueryUtil.ALL_UNITS, subMonitor.split(1));
-			List<URI> children = allChildren(repository, manager).toList();
-			return new RepositoryContent(allUnits, children);
+			return operation.run(agentProvider.createAgent(null));
 		} finally {
 			context.ungetService(sr);
 		}
 	}
 
+	/**
+	 * A monitor that is canceled once the time for a stamp is over, so that
+	 * the transport also aborts a pending request.
+	 */
+	private static final class DeadlineMonitor extends ProgressMonitorWrapper {
+
+		private final long deadline;
+
+		DeadlineMonitor(IProgressMonitor monitor, long deadline) {
+			super(monitor);
+			this.deadline = deadline;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || System.nanoTime() - deadline > 0;
+		}
+	}
+
 	private static Stream<URI> allChildren(IRepository<?> repository, IMetadataRepositoryManager manager) {
 		if (repository instanceof ICompositeRepository<?> composite) {
 			return composite.getChildren().stream().flatMap(uri -> {
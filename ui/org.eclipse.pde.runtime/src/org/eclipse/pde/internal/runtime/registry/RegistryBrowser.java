@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -637,27 +637,30 @@ public class RegistryBrowser extends ViewPart {
 	}
 
 	protected void add(Object parent, Object object) {
-		if (fTreeViewer.getTree().isDisposed()) {
-			return;
-		}
-
-		if (fDrillDownAdapter.canGoHome()) {
-			return;
-		}
-		fTreeViewer.refresh();
-		updateTitle();
+		refreshAll();
 	}
 
 	public void remove(Object object) {
+		refreshAll();
+	}
+
+	/**
+	 * Refreshes the whole tree, e.g. after top level elements have been added
+	 * or removed. The tree is not refreshed while drilled down into an element.
+	 *
+	 * @return whether the whole tree has been refreshed
+	 */
+	boolean refreshAll() {
 		if (fTreeViewer.getTree().isDisposed()) {
-			return;
+			return false;
 		}
 
 		if (fDrillDownAdapter.canGoHome()) {
-			return;
+			return false;
 		}
 		fTreeViewer.refresh();
 		updateTitle();
+		return true;
 	}
 
 	private boolean filtersEnabled() {
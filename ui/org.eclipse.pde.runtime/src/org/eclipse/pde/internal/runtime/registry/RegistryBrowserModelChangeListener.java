@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2019 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.runtime.registry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.core.runtime.Status;
 import org.eclipse.pde.internal.runtime.registry.model.Bundle;
 import org.eclipse.pde.internal.runtime.registry.model.Extension;
@@ -26,18 +32,41 @@ import org.eclipse.ui.progress.UIJob;
 
 public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 
+	// delay to collect the deltas of a burst of model changes into one update
+	private static final long UPDATE_DELAY = 100;
+
 	private final RegistryBrowser fRegistryBrowser;
 
+	private final List<ModelChangeDelta> fPendingDeltas = new ArrayList<>();
+
+	private boolean fUpdateScheduled;
+
+	private final UIJob fUpdateJob = UIJob.create("Updating Registry", monitor -> { //$NON-NLS-1$
+		ModelChangeDelta[] deltas;
+		synchronized (fPendingDeltas) {
+			deltas = fPendingDeltas.toArray(new ModelChangeDelta[fPendingDeltas.size()]);
+			fPendingDeltas.clear();
+			fUpdateScheduled = false;
+		}
+		update(deltas);
+		return Status.OK_STATUS;
+	});
+
 	public RegistryBrowserModelChangeListener(RegistryBrowser registryBrowser) {
 		fRegistryBrowser = registryBrowser;
+		fUpdateJob.setSystem(true);
 	}
 
 	@Override
 	public void modelChanged(final ModelChangeDelta[] delta) {
-		UIJob.create("Updating Registry", monitor -> { //$NON-NLS-1$
-			update(delta);
-			return Status.OK_STATUS;
-		}).schedule();
+		synchronized (fPendingDeltas) {
+			fPendingDeltas.addAll(Arrays.asList(delta));
+			if (fUpdateScheduled) {
+				return;
+			}
+			fUpdateScheduled = true;
+		}
+		fUpdateJob.schedule(UPDATE_DELAY);
 	}
 
 	private boolean topLevelElement(Object object) {
@@ -101,7 +130,7 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 		return null;
 	}
 
-	private void refreshTopLevelElements(Object object) {
+	private void addTopLevelElements(Object object, Set<Object> elements) {
 		Object topLevelElement = getTopLevelElement(object);
 
 		if (topLevelElement == null) {
@@ -109,31 +138,36 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 		}
 
 		if (topLevelElement.getClass().isArray()) {
-			Object[] array = (Object[]) topLevelElement;
-			fRegistryBrowser.refresh(array);
+			elements.addAll(Arrays.asList((Object[]) topLevelElement));
 		} else {
-			fRegistryBrowser.refresh(topLevelElement);
+			elements.add(topLevelElement);
 		}
 	}
 
+	/**
+	 * Applies the given deltas at once: the whole tree is refreshed once if
+	 * top level elements were added or removed, otherwise, or if the tree
+	 * cannot be refreshed as a whole, each affected top level element is
+	 * refreshed once.
+	 */
 	protected void update(ModelChangeDelta[] deltas) {
+		boolean topLevelChanged = false;
+		Set<Object> added = new LinkedHashSet<>();
+		Set<Object> toRefresh = new LinkedHashSet<>();
 		for (ModelChangeDelta delta : deltas) {
 			ModelObject object = delta.getModelObject();
 			int flag = delta.getFlag();
 
 			switch (flag) {
 				case ModelChangeDelta.ADDED :
-					if (topLevelElement(object)) {
-						fRegistryBrowser.add(object);
-					} else {
-						refreshTopLevelElements(object);
-					}
-					break;
 				case ModelChangeDelta.REMOVED :
 					if (topLevelElement(object)) {
-						fRegistryBrowser.remove(object);
+						topLevelChanged = true;
+						if (flag == ModelChangeDelta.ADDED) {
+							added.add(object);
+						}
 					} else {
-						refreshTopLevelElements(object);
+						addTopLevelElements(object, toRefresh);
 					}
 					break;
 				case ModelChangeDelta.STARTED :
@@ -142,12 +176,24 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 				case ModelChangeDelta.UNRESOLVED :
 				case ModelChangeDelta.UPDATED :
 					if (topLevelElement(object)) {
-						fRegistryBrowser.refresh(object);
+						toRefresh.add(object);
 					} else {
-						refreshTopLevelElements(object);
+						addTopLevelElements(object, toRefresh);
 					}
 					break;
 			}
 		}
+
+		if (topLevelChanged && fRegistryBrowser.refreshAll()) {
+			return;
+		}
+		// the tree is not refreshed as a whole while drilled down, the
+		// affected elements still need their own refresh
+		for (Object object : added) {
+			fRegistryBrowser.add(object);
+		}
+		if (!toRefresh.isEmpty()) {
+			fRegistryBrowser.refresh(toRefresh.toArray());
+		}
 	}
 }
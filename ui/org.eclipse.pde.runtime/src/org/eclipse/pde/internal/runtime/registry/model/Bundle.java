@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.runtime.registry.model;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-
 import org.eclipse.core.runtime.MultiStatus;
 import org.osgi.framework.BundleException;
 
@@ -144,69 +140,28 @@ public class Bundle extends ModelObject {
 		if (model == null) {
 			return new ExtensionPoint[0];
 		}
-		ExtensionPoint[] extPoints = model.getExtensionPoints();
-		List<ExtensionPoint> result = new ArrayList<>();
-
-		for (ExtensionPoint extPoint : extPoints) {
-			if (extPoint.getContributorId().longValue() == id){
-				result.add(extPoint);
-			}
-		}
-		return result.toArray(new ExtensionPoint[result.size()]);
+		return model.getContributedExtensionPoints(id);
 	}
 
 	public Extension[] getExtensions() {
 		if (model == null) {
 			return new Extension[0];
 		}
-		ExtensionPoint[] extPoints = model.getExtensionPoints();
-		List<Extension> result = new ArrayList<>();
-
-		for (ExtensionPoint extPoint : extPoints) {
-			for (Iterator<Extension> it = extPoint.getExtensions().iterator(); it.hasNext();) {
-				Extension a = it.next();
-				if (a.getContributorId().longValue() == id){
-					result.add(a);
-				}
-			}
-
-		}
-		return result.toArray(new Extension[result.size()]);
+		return model.getContributedExtensions(id);
 	}
 
 	public ServiceRegistration[] getRegisteredServices() {
 		if (model == null) {
 			return new ServiceRegistration[0];
 		}
-		ServiceRegistration[] services = model.getServices();
-		List<ServiceRegistration> result = new ArrayList<>();
-
-		for (ServiceRegistration service : services) {
-			if (symbolicName.equals(service.getBundle())){
-				result.add(service);
-			}
-		}
-		return result.toArray(new ServiceRegistration[result.size()]);
+		return model.getRegisteredServices(symbolicName);
 	}
 
 	public ServiceRegistration[] getServicesInUse() {
 		if (model == null) {
 			return new ServiceRegistration[0];
 		}
-		ServiceRegistration[] services = model.getServices();
-		List<ServiceRegistration> result = new ArrayList<>();
-
-		for (ServiceRegistration service : services) {
-			long[] usingBundleIds = service.getUsingBundleIds();
-			if (usingBundleIds != null) {
-				for (long usingBundleId : usingBundleIds){
-					if (id == usingBundleId){
-						result.add(service);
-					}
-				}
-			}
-		}
-		return result.toArray(new ServiceRegistration[result.size()]);
+		return model.getServicesInUse(id);
 	}
 
 	@Override
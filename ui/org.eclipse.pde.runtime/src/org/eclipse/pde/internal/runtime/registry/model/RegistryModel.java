@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,8 @@
 package org.eclipse.pde.internal.runtime.registry.model;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -23,6 +23,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntFunction;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.osgi.framework.Version;
@@ -39,7 +40,7 @@ public class RegistryModel {
 			adapter.setModel(RegistryModel.this);
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.ADDED);
 
-			bundles.put(Long.valueOf(adapter.getId()), adapter);
+			putBundle(adapter);
 
 			if (adapter.getFragmentHost() != null) {
 				addFragment(adapter);
@@ -59,7 +60,10 @@ public class RegistryModel {
 		public void removeBundle(Bundle adapter) {
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.REMOVED);
 
-			bundles.remove(Long.valueOf(adapter.getId()));
+			Bundle old = bundles.remove(Long.valueOf(adapter.getId()));
+			if (old != null) {
+				bundlesByName.remove(old.getSymbolicName(), old);
+			}
 
 			if (adapter.getFragmentHost() != null) {
 				removeFragment(adapter);
@@ -81,7 +85,7 @@ public class RegistryModel {
 			adapter.setModel(RegistryModel.this);
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, updated);
 
-			bundles.put(Long.valueOf(adapter.getId()), adapter); // replace old with new one
+			putBundle(adapter); // replace old with new one
 
 			if (adapter.getFragmentHost() != null) {
 				addFragment(adapter);
@@ -103,7 +107,7 @@ public class RegistryModel {
 			}
 
 			adapter.setModel(RegistryModel.this);
-			services.put(Long.valueOf(adapter.getId()), adapter);
+			putService(adapter);
 
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.ADDED);
 
@@ -117,13 +121,16 @@ public class RegistryModel {
 		@Override
 		public void removeService(ServiceRegistration adapter) {
 			ModelChangeDelta serviceNameDelta = null;
+			ServiceRegistration old = services.remove(Long.valueOf(adapter.getId()));
+			if (old != null) {
+				unindexService(old);
+			}
+
 			if (getServices(adapter.getName().getClasses()).length == 0) {
 				serviceNames.remove(adapter.getName());
 				serviceNameDelta = new ModelChangeDelta(adapter.getName(), ModelChangeDelta.REMOVED);
 			}
 
-			services.remove(Long.valueOf(adapter.getId()));
-
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.REMOVED);
 
 			if (serviceNameDelta != null) {
@@ -139,7 +146,7 @@ public class RegistryModel {
 		@Override
 		public void updateService(ServiceRegistration adapter) {
 			adapter.setModel(RegistryModel.this);
-			services.put(Long.valueOf(adapter.getId()), adapter);
+			putService(adapter);
 
 			ModelChangeDelta delta = new ModelChangeDelta(adapter, ModelChangeDelta.UPDATED);
 
@@ -153,6 +160,7 @@ public class RegistryModel {
 				String id = extension.getExtensionPointUniqueIdentifier();
 				ExtensionPoint extPoint = extensionPoints.get(id);
 				extPoint.getExtensions().add(extension);
+				extensionsByContributor.add(extension.getContributorId(), extension);
 			}
 
 			ModelChangeDelta[] delta = new ModelChangeDelta[extensionAdapters.length];
@@ -168,6 +176,7 @@ public class RegistryModel {
 				String id = extension.getExtensionPointUniqueIdentifier();
 				ExtensionPoint extPoint = extensionPoints.get(id);
 				extPoint.getExtensions().remove(extension);
+				extensionsByContributor.remove(extension.getContributorId(), extension);
 			}
 
 			ModelChangeDelta[] delta = new ModelChangeDelta[extensionAdapters.length];
@@ -185,7 +194,11 @@ public class RegistryModel {
 		public void addExtensionPoints(ExtensionPoint[] extensionPointAdapters) {
 			for (ExtensionPoint extPoint : extensionPointAdapters) {
 				extPoint.setModel(RegistryModel.this);
-				extensionPoints.put(extPoint.getUniqueIdentifier(), extPoint);
+				ExtensionPoint old = extensionPoints.put(extPoint.getUniqueIdentifier(), extPoint);
+				if (old != null) {
+					unindexExtensionPoint(old);
+				}
+				indexExtensionPoint(extPoint);
 			}
 
 			ModelChangeDelta[] delta = new ModelChangeDelta[extensionPointAdapters.length];
@@ -198,7 +211,10 @@ public class RegistryModel {
 		@Override
 		public void removeExtensionPoints(ExtensionPoint[] extensionPointAdapters) {
 			for (ExtensionPoint extPoint : extensionPointAdapters) {
-				extensionPoints.remove(extPoint.getUniqueIdentifier());
+				ExtensionPoint old = extensionPoints.remove(extPoint.getUniqueIdentifier());
+				if (old != null) {
+					unindexExtensionPoint(old);
+				}
 			}
 
 			ModelChangeDelta[] delta = new ModelChangeDelta[extensionPointAdapters.length];
@@ -220,8 +236,44 @@ public class RegistryModel {
 	private final Set<ServiceName> serviceNames;
 	private final Map<String, Set<Bundle>> fragments;
 
+	// indexes of the model objects, to avoid going through all of them
+	private final Index<String, Bundle> bundlesByName = new Index<>();
+	private final Index<ServiceName, ServiceRegistration> servicesByName = new Index<>();
+	private final Index<String, ServiceRegistration> servicesByBundle = new Index<>();
+	private final Index<Long, ServiceRegistration> servicesByUsingBundle = new Index<>();
+	private final Index<Long, ExtensionPoint> extensionPointsByContributor = new Index<>();
+	private final Index<Long, Extension> extensionsByContributor = new Index<>();
+
 	protected RegistryBackend backend;
 
+	/**
+	 * Maps keys to the model objects having that key, in insertion order.
+	 */
+	private static class Index<K, V> {
+		private final Map<K, Set<V>> map = new HashMap<>();
+
+		synchronized void add(K key, V value) {
+			if (key != null) {
+				map.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(value);
+			}
+		}
+
+		synchronized void remove(K key, V value) {
+			Set<V> values = key == null ? null : map.get(key);
+			if (values != null && values.remove(value) && values.isEmpty()) {
+				map.remove(key);
+			}
+		}
+
+		synchronized V[] get(K key, IntFunction<V[]> generator) {
+			Set<V> values = map.get(key);
+			if (values == null) {
+				return generator.apply(0);
+			}
+			return values.toArray(generator.apply(values.size()));
+		}
+	}
+
 	public RegistryModel(RegistryBackend backend) {
 		bundles = Collections.synchronizedMap(new LinkedHashMap<>());
 		services = Collections.synchronizedMap(new LinkedHashMap<>());
@@ -233,6 +285,48 @@ public class RegistryModel {
 		backend.setRegistryListener(backendListener);
 	}
 
+	private void putBundle(Bundle bundle) {
+		Bundle old = bundles.put(Long.valueOf(bundle.getId()), bundle);
+		if (old != null) {
+			bundlesByName.remove(old.getSymbolicName(), old);
+		}
+		bundlesByName.add(bundle.getSymbolicName(), bundle);
+	}
+
+	private void putService(ServiceRegistration service) {
+		ServiceRegistration old = services.put(Long.valueOf(service.getId()), service);
+		if (old != null) {
+			unindexService(old);
+		}
+		servicesByName.add(service.getName(), service);
+		servicesByBundle.add(service.getBundle(), service);
+		for (long usingBundleId : service.getUsingBundleIds()) {
+			servicesByUsingBundle.add(Long.valueOf(usingBundleId), service);
+		}
+	}
+
+	private void unindexService(ServiceRegistration service) {
+		servicesByName.remove(service.getName(), service);
+		servicesByBundle.remove(service.getBundle(), service);
+		for (long usingBundleId : service.getUsingBundleIds()) {
+			servicesByUsingBundle.remove(Long.valueOf(usingBundleId), service);
+		}
+	}
+
+	private void indexExtensionPoint(ExtensionPoint extPoint) {
+		extensionPointsByContributor.add(extPoint.getContributorId(), extPoint);
+		for (Extension extension : extPoint.getExtensions()) {
+			extensionsByContributor.add(extension.getContributorId(), extension);
+		}
+	}
+
+	private void unindexExtensionPoint(ExtensionPoint extPoint) {
+		extensionPointsByContributor.remove(extPoint.getContributorId(), extPoint);
+		for (Extension extension : extPoint.getExtensions()) {
+			extensionsByContributor.remove(extension.getContributorId(), extension);
+		}
+	}
+
 	protected void addFragment(Bundle fragment) {
 		Set<Bundle> hostFragments = fragments.get(fragment.getFragmentHost());
 		if (hostFragments == null) {
@@ -291,18 +385,35 @@ public class RegistryModel {
 	}
 
 	public ServiceRegistration[] getServices(String[] classes) {
-		List<ServiceRegistration> result = new ArrayList<>();
+		return servicesByName.get(new ServiceName(classes, null), ServiceRegistration[]::new);
+	}
 
-		synchronized (services) {
-			for (Iterator<ServiceRegistration> i = services.values().iterator(); i.hasNext();) {
-				ServiceRegistration sr = i.next();
-				if (Arrays.equals(classes, sr.getName().getClasses())) {
-					result.add(sr);
-				}
-			}
-		}
+	/**
+	 * @return the services registered by the bundle with the given symbolic name
+	 */
+	public ServiceRegistration[] getRegisteredServices(String symbolicName) {
+		return servicesByBundle.get(symbolicName, ServiceRegistration[]::new);
+	}
 
-		return result.toArray(new ServiceRegistration[result.size()]);
+	/**
+	 * @return the services used by the bundle with the given id
+	 */
+	public ServiceRegistration[] getServicesInUse(long bundleId) {
+		return servicesByUsingBundle.get(Long.valueOf(bundleId), ServiceRegistration[]::new);
+	}
+
+	/**
+	 * @return the extension points contributed by the bundle with the given id
+	 */
+	public ExtensionPoint[] getContributedExtensionPoints(long bundleId) {
+		return extensionPointsByContributor.get(Long.valueOf(bundleId), ExtensionPoint[]::new);
+	}
+
+	/**
+	 * @return the extensions contributed by the bundle with the given id
+	 */
+	public Extension[] getContributedExtensions(long bundleId) {
+		return extensionsByContributor.get(Long.valueOf(bundleId), Extension[]::new);
 	}
 
 	public void addModelChangeListener(ModelChangeListener listener) {
@@ -329,15 +440,9 @@ public class RegistryModel {
 	}
 
 	public Bundle getBundle(String symbolicName, String versionRange) {
-		synchronized (bundles) {
-			for (Iterator<Bundle> i = bundles.values().iterator(); i.hasNext();) {
-				Bundle bundle = i.next();
-
-				if (bundle.getSymbolicName().equals(symbolicName)) {
-					if (versionMatches(bundle.getVersion(), versionRange)) {
-						return bundle;
-					}
-				}
+		for (Bundle bundle : bundlesByName.get(symbolicName, Bundle[]::new)) {
+			if (versionMatches(bundle.getVersion(), versionRange)) {
+				return bundle;
 			}
 		}
 
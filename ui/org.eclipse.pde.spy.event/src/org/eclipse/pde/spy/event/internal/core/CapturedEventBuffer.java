@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * A bounded ring buffer of captured events. Events are added from the threads
+ * publishing them and drained in batches by the UI. When the buffer is full,
+ * the oldest events are overwritten.
+ */
+public class CapturedEventBuffer {
+
+	private final CapturedEvent[] events;
+
+	private int head;
+
+	private int size;
+
+	public CapturedEventBuffer(int capacity) {
+		events = new CapturedEvent[capacity];
+	}
+
+	/**
+	 * Adds the given event, overwriting the oldest event if the buffer is full.
+	 *
+	 * @return <code>true</code> if the buffer was empty, i.e. a drain has to be
+	 *         scheduled
+	 */
+	public synchronized boolean add(CapturedEvent event) {
+		if (size == events.length) {
+			events[head] = event;
+			head = (head + 1) % events.length;
+			return false;
+		}
+		events[(head + size) % events.length] = event;
+		size++;
+		return size == 1;
+	}
+
+	/**
+	 * Removes and returns the oldest events, at most <code>maxEvents</code>.
+	 */
+	public synchronized List<CapturedEvent> drain(int maxEvents) {
+		int count = Math.min(size, maxEvents);
+		List<CapturedEvent> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			result.add(events[head]);
+			events[head] = null;
+			head = (head + 1) % events.length;
+		}
+		size -= count;
+		return result;
+	}
+
+	public synchronized boolean isEmpty() {
+		return size == 0;
+	}
+
+	public synchronized void clear() {
+		while (size > 0) {
+			events[head] = null;
+			head = (head + 1) % events.length;
+			size--;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -23,22 +26,41 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
 	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
+		/**
+		 * Called, from the thread publishing an event, when an event has been
+		 * captured into an empty buffer. The listener has to drain the buffer,
+		 * which is not notified again until it has been emptied.
+		 */
+		void newEvents(CapturedEventBuffer buffer);
 	}
 
-	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
-			UIEventPublisher.class.getName().hashCode());
+	private static final int BUFFER_CAPACITY = 10_000;
 
-	private Collection<CapturedEventFilter> filters;
+	private static final Set<String> EVENT_HELPER_CLASSES = Set.of(EventBroker.class.getName(),
+			UIEvents.class.getName(), UIEventPublisher.class.getName());
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	// filters that only need the topic of an event
+	private volatile List<CapturedEventFilter> topicFilters = List.of();
+
+	// filters that need the properties of an event
+	private volatile List<CapturedEventFilter> propertyFilters = List.of();
+
+	// filters that need the publisher of an event
+	private volatile List<CapturedEventFilter> publisherFilters = List.of();
 
 	private final IEventBroker eventBroker;
 
+	private final CapturedEventBuffer buffer = new CapturedEventBuffer(BUFFER_CAPACITY);
+
 	private NewEventListener listener;
 
 	private CapturedEventFilterMatcher eventFilterMatcher;
@@ -48,9 +70,13 @@ public class EventMonitor {
 			return;
 		}
 
+		// cheapest filters first, the stack is only walked for events that
+		// pass all other filters
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (!matches(capturedEvent, topicFilters)) {
+			return;
+		}
 
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
@@ -59,9 +85,17 @@ public class EventMonitor {
 				capturedEvent.setChangedElementClassName(value.getClass().getName());
 			}
 		}
+		if (!matches(capturedEvent, propertyFilters)) {
+			return;
+		}
+
+		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (!matches(capturedEvent, publisherFilters)) {
+			return;
+		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
+		if (buffer.add(capturedEvent)) {
+			listener.newEvents(buffer);
 		}
 	};
 
@@ -70,7 +104,24 @@ public class EventMonitor {
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+		List<CapturedEventFilter> topic = new ArrayList<>();
+		List<CapturedEventFilter> property = new ArrayList<>();
+		List<CapturedEventFilter> publisher = new ArrayList<>();
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				if (ItemToFilter.Topic.equals(filter.getItemToFilter())) {
+					topic.add(filter);
+				} else if (ItemToFilter.Publisher.equals(filter.getItemToFilter())) {
+					publisher.add(filter);
+				} else {
+					property.add(filter);
+				}
+			}
+		}
+		topicFilters = topic;
+		propertyFilters = property;
+		publisherFilters = publisher;
+		buffer.clear();
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
@@ -82,31 +133,22 @@ public class EventMonitor {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+	private boolean matches(CapturedEvent event, List<CapturedEventFilter> filters) {
+		for (CapturedEventFilter filter : filters) {
+			if (!getEventFilterMatcher().matches(event, filter)) {
+				return false;
 			}
 		}
 		return true;
 	}
 
 	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
+		// only walk the frames up to the first one outside of the broker
+		Optional<StackFrame> publisher = STACK_WALKER.walk(frames -> frames
+				.dropWhile(frame -> !frame.getClassName().equals(EventBroker.class.getName()))
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName())).findFirst());
+		return publisher.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+				frame.getLineNumber())).orElse(""); //$NON-NLS-1$
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -26,6 +27,7 @@ import org.eclipse.jface.databinding.viewers.ObservableListTreeContentProvider;
 import org.eclipse.jface.databinding.viewers.ObservableMapLabelProvider;
 import org.eclipse.jface.databinding.viewers.TreeStructureAdvisor;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.IEventItem;
 import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
@@ -57,12 +59,18 @@ import org.eclipse.swt.widgets.TreeItem;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class CapturedEventTree extends TreeViewer {
+	// maximum number of events added to the tree at once
+	private static final int DRAIN_BATCH_SIZE = 500;
+
 	private ICapturedEventTreeListener listener;
 
 	private final WritableList<CapturedEvent> capturedEvents;
 
 	private final Clipboard clipboard;
 
+	// captured at creation, the tree must not be accessed from other threads
+	private final Display display;
+
 	private TreeItemCursor treeItemCursor;
 
 	private TreeItemForeground treeItemForeground;
@@ -104,7 +112,8 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents = new WritableList<>(new ArrayList<>(), CapturedEvent.class);
 		setInput(capturedEvents);
 
-		clipboard = new Clipboard(getTree().getDisplay());
+		display = getTree().getDisplay();
+		clipboard = new Clipboard(display);
 
 		createTreeItemResources();
 
@@ -148,8 +157,6 @@ public class CapturedEventTree extends TreeViewer {
 	}
 
 	private void createTreeItemResources() {
-		Display display = getTree().getDisplay();
-
 		treeItemCursor = new TreeItemCursor(getTree().getCursor(), display.getSystemCursor(SWT.CURSOR_HAND));
 
 		treeItemForeground = new TreeItemForeground(new Color(display, new RGB(0, 0, 120)),
@@ -349,8 +356,27 @@ public class CapturedEventTree extends TreeViewer {
 		return -1;
 	}
 
-	public void addEvent(CapturedEvent event) {
-		capturedEvents.add(event);
+	/**
+	 * Adds the events of the given buffer in batches on the UI thread. May be
+	 * called from any thread.
+	 */
+	public void addEvents(CapturedEventBuffer buffer) {
+		if (display.isDisposed()) {
+			return;
+		}
+		display.asyncExec(() -> {
+			if (getTree().isDisposed()) {
+				return;
+			}
+			List<CapturedEvent> events = buffer.drain(DRAIN_BATCH_SIZE);
+			if (!events.isEmpty()) {
+				capturedEvents.addAll(events);
+			}
+			if (!buffer.isEmpty()) {
+				// let the UI breathe before adding the next batch
+				addEvents(buffer);
+			}
+		});
 	}
 
 	public void setListener(ICapturedEventTreeListener listener) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,8 +23,8 @@ import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
-import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
 import org.eclipse.pde.spy.event.internal.util.JDTUtils;
 import org.eclipse.pde.spy.event.internal.util.LoggerWrapper;
@@ -182,8 +182,8 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 	}
 
 	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	public void newEvents(CapturedEventBuffer buffer) {
+		capturedEventTree.addEvents(buffer);
 	}
 
 	private void openResource(String text) {
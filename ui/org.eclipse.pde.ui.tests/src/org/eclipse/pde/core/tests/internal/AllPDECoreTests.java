@@ -6,6 +6,10 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({ //
 	DependencyManagerTest.class, //
+	PDEExtensionRegistryTest.class, //
+	PluginSearchIndexTest.class, //
+	SchemaRegistryTest.class, //
+	TargetRepositoryTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
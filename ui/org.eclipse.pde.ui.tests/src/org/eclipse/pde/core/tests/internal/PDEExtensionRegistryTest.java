@@ -0,0 +1,157 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PDEExtensionRegistryTest {
+
+	private static final String RESOURCES = "org.eclipse.core.resources";
+	private static final String BUILDERS_POINT = RESOURCES + ".builders";
+	private static final String UNRELATED = "org.eclipse.ui.trace";
+	private static final String MISSING_POINT = "org.eclipse.pde.tests.missing.point";
+
+	private IPluginModelBase[] models;
+	private final List<PDEExtensionRegistry> registries = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+		models = PluginRegistry.getExternalModels();
+	}
+
+	@After
+	public void tearDown() {
+		// dispose without writing the registry cache
+		registries.forEach(PDEExtensionRegistry::dispose);
+	}
+
+	@Test
+	public void testDemandLoadSinglePoint() {
+		PDEExtensionRegistry registry = createRegistry();
+		IPluginModelBase resources = findExternalModel(RESOURCES);
+		IPluginModelBase unrelated = findExternalModel(UNRELATED);
+		assertTrue(registry.isContributionPending(resources));
+		assertTrue(registry.isContributionPending(unrelated));
+
+		assertTrue(registry.hasExtensionPoint(BUILDERS_POINT));
+		assertFalse(registry.isContributionPending(resources));
+		// plug-ins neither declaring nor extending the point are not parsed
+		assertTrue(registry.isContributionPending(unrelated));
+
+		Set<String> extensions = getExtensions(registry, BUILDERS_POINT);
+		assertFalse(extensions.isEmpty());
+		assertTrue(registry.isContributionPending(unrelated));
+
+		// the same extensions are found once all contributions have been added
+		PDEExtensionRegistry complete = createRegistry();
+		for (IPluginModelBase model : models) {
+			complete.findExtensionsForPlugin(model);
+			assertFalse(complete.isContributionPending(model));
+		}
+		assertEquals(getExtensions(complete, BUILDERS_POINT), extensions);
+	}
+
+	@Test
+	public void testMissingPoint() {
+		PDEExtensionRegistry registry = createRegistry();
+		List<IPluginModelBase> pending = new ArrayList<>();
+		for (IPluginModelBase model : models) {
+			if (registry.isContributionPending(model)) {
+				pending.add(model);
+			}
+		}
+		assertFalse(pending.isEmpty());
+
+		assertFalse(registry.hasExtensionPoint(MISSING_POINT));
+		assertNull(registry.findExtensionPoint(MISSING_POINT));
+		assertEquals(0, registry.findExtensions(MISSING_POINT, false).length);
+
+		// a missing point does not add any contribution
+		for (IPluginModelBase model : pending) {
+			assertTrue(model.getPluginBase().getId(), registry.isContributionPending(model));
+		}
+	}
+
+	@Test
+	public void testConcurrentDemandLoads() throws Exception {
+		Set<String> expected = getExtensions(createRegistry(), BUILDERS_POINT);
+		assertFalse(expected.isEmpty());
+
+		PDEExtensionRegistry registry = createRegistry();
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Set<String>>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return getExtensions(registry, BUILDERS_POINT);
+				}));
+			}
+			start.countDown();
+			for (Future<Set<String>> result : results) {
+				assertEquals(expected, result.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertNotNull(registry.findExtensionPoint(BUILDERS_POINT));
+	}
+
+	private PDEExtensionRegistry createRegistry() {
+		PDEExtensionRegistry registry = new PDEExtensionRegistry(models);
+		registries.add(registry);
+		return registry;
+	}
+
+	private IPluginModelBase findExternalModel(String id) {
+		for (IPluginModelBase model : models) {
+			if (id.equals(model.getPluginBase().getId())) {
+				return model;
+			}
+		}
+		throw new AssertionError("No external model " + id);
+	}
+
+	private static Set<String> getExtensions(PDEExtensionRegistry registry, String pointId) {
+		Set<String> extensions = new TreeSet<>();
+		for (IExtension extension : registry.findExtensions(pointId, false)) {
+			extensions.add(extension.getContributor().getName() + '/' + extension.getUniqueIdentifier());
+		}
+		return extensions;
+	}
+}
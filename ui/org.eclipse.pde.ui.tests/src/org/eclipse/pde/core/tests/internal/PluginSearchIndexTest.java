@@ -0,0 +1,102 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.osgi.framework.Constants.FRAGMENT_HOST;
+import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.IIdentifiable;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class PluginSearchIndexTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void setupBefore() throws Exception {
+		Path tpJarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		PluginModelManager.getInstance().getState();
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries( //
+				bundle("search.index.a", "1.0.0"), //
+				bundle("search.index.ab", "1.0.0", entry(REQUIRE_BUNDLE, "search.index.a")), //
+				bundle("search.index.b", "1.0.0", entry(REQUIRE_BUNDLE, "search.index.ab")), //
+				bundle("search.index.a.fragment", "1.0.0", entry(FRAGMENT_HOST, "search.index.a"))), //
+				List.of(), tpJarDirectory);
+	}
+
+	@Test
+	public void testExactSearchMatchesFullScan() {
+		List<String> indexed = search("search.index.a", PluginSearchInput.LIMIT_ALL);
+		List<String> scanned = search("search.inde?.a", PluginSearchInput.LIMIT_ALL);
+
+		assertThat(indexed).containsExactlyInAnyOrderElementsOf(scanned);
+		assertThat(indexed).containsExactlyInAnyOrder("search.index.a", "search.index.a", "search.index.a.fragment");
+	}
+
+	@Test
+	public void testPrefixSearchMatchesFullScan() {
+		List<String> indexed = search("search.index.a*", PluginSearchInput.LIMIT_DECLARATIONS);
+		List<String> scanned = search("*search.index.a*", PluginSearchInput.LIMIT_DECLARATIONS);
+
+		assertThat(indexed).containsExactlyInAnyOrderElementsOf(scanned);
+		assertThat(indexed).containsExactlyInAnyOrder("search.index.a", "search.index.ab");
+	}
+
+	@Test
+	public void testCaseInsensitiveSearch() {
+		List<String> indexed = search("SEARCH.INDEX.AB", PluginSearchInput.LIMIT_REFERENCES);
+
+		assertThat(indexed).containsExactly("search.index.ab");
+	}
+
+	private static List<String> search(String searchString, int limit) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(PluginSearchInput.ELEMENT_PLUGIN);
+		input.setSearchLimit(limit);
+		input.setSearchString(searchString);
+		input.setCaseSensitive(false);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_ALL, null));
+		List<String> matches = new ArrayList<>();
+		new PluginSearchOperation(input, match -> matches.add(((IIdentifiable) match).getId()))
+				.execute(new NullProgressMonitor());
+		return matches;
+	}
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.schema.IncludedSchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class SchemaRegistryTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final int MAX_CACHED_SCHEMAS = 500;
+	private static final String PLUGIN_ID = "schema.registry.test";
+	private static final String POINT_ID = PLUGIN_ID + ".point";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private SchemaRegistry registry;
+	private IncludedSchemaDescriptor parent;
+
+	@Before
+	public void setUp() throws Exception {
+		registry = new SchemaRegistry();
+		parent = new IncludedSchemaDescriptor(writeSchema("parent").toURI().toURL());
+	}
+
+	@After
+	public void tearDown() {
+		registry.shutdown();
+		PDECore.getDefault().getPreferencesManager().setToDefault(ICoreConstants.PRELOAD_EXTENSION_POINT_SCHEMAS);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedSchemaEvicted() throws Exception {
+		List<ISchema> schemas = new ArrayList<>();
+		for (int i = 0; i < MAX_CACHED_SCHEMAS; i++) {
+			writeSchema("s" + i);
+			schemas.add(registry.getIncludedSchema(parent, "s" + i + ".exsd"));
+		}
+		// use the first schema again, the second one is now the least recently used
+		assertSame(schemas.get(0), registry.getIncludedSchema(parent, "s0.exsd"));
+
+		writeSchema("s" + MAX_CACHED_SCHEMAS);
+		registry.getIncludedSchema(parent, "s" + MAX_CACHED_SCHEMAS + ".exsd");
+
+		assertNull(registry.getCachedDescriptor(getURL("s1").toString()));
+		assertNotNull(registry.getCachedDescriptor(getURL("s0").toString()));
+		assertSame(schemas.get(0), registry.getIncludedSchema(parent, "s0.exsd"));
+		// an evicted schema is parsed again
+		assertNotSame(schemas.get(1), registry.getIncludedSchema(parent, "s1.exsd"));
+	}
+
+	@Test
+	public void testChangedSchemaParsedAgain() throws Exception {
+		File file = writeSchema("changed");
+		ISchema schema = registry.getIncludedSchema(parent, "changed.exsd");
+		assertNotNull(schema);
+		assertSame(schema, registry.getIncludedSchema(parent, "changed.exsd"));
+
+		assertTrue(file.setLastModified(file.lastModified() - 10000));
+		ISchema changed = registry.getIncludedSchema(parent, "changed.exsd");
+		assertNotSame(schema, changed);
+		assertSame(changed, registry.getIncludedSchema(parent, "changed.exsd"));
+	}
+
+	@Test
+	public void testConcurrentLookupsShareSchema() throws Exception {
+		createPluginWithExtensionPoint();
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<ISchema>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return registry.getSchema(POINT_ID);
+				}));
+			}
+			start.countDown();
+			ISchema schema = results.get(0).get(30, TimeUnit.SECONDS);
+			assertNotNull(schema);
+			for (Future<ISchema> result : results) {
+				assertSame(schema, result.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testPreload() throws Exception {
+		createPluginWithExtensionPoint();
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+
+		preferences.setValue(ICoreConstants.PRELOAD_EXTENSION_POINT_SCHEMAS, false);
+		registry.schedulePreload();
+		TestUtils.waitForJobs("SchemaRegistryTest", 100, 10000);
+		assertNull(registry.getCachedDescriptor(POINT_ID));
+
+		preferences.setValue(ICoreConstants.PRELOAD_EXTENSION_POINT_SCHEMAS, true);
+		registry.schedulePreload();
+		TestUtils.waitForJobs("SchemaRegistryTest", 100, 10000);
+		assertNotNull(registry.getCachedDescriptor(POINT_ID));
+		assertSame(registry.getCachedDescriptor(POINT_ID).getSchema(true), registry.getSchema(POINT_ID));
+	}
+
+	private File writeSchema(String name) throws Exception {
+		File file = new File(folder.getRoot(), name + ".exsd");
+		Files.writeString(file.toPath(), getSchema(PLUGIN_ID, name));
+		return file;
+	}
+
+	private URL getURL(String name) throws Exception {
+		return new File(folder.getRoot(), name + ".exsd").toURI().toURL();
+	}
+
+	private static String getSchema(String plugin, String point) {
+		return """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="%s" xmlns="http://www.w3.org/2001/XMLSchema">
+				<annotation><appInfo><meta.schema plugin="%s" id="%s" name="%s"/></appInfo></annotation>
+				<element name="extension"><complexType>
+				<attribute name="point" type="string" use="required"/>
+				</complexType></element>
+				</schema>
+				""".formatted(plugin, plugin, point, point);
+	}
+
+	private static void createPluginWithExtensionPoint() throws CoreException {
+		if (ResourcesPlugin.getWorkspace().getRoot().getProject(PLUGIN_ID).exists()) {
+			return;
+		}
+		IProject project = ProjectUtils.createPluginProject(PLUGIN_ID, PLUGIN_ID, "1.0.0",
+				(description, service) -> description.setSingleton(true));
+		createFile(project.getFile("schema/point.exsd"), getSchema(PLUGIN_ID, "point"));
+		createFile(project.getFile("plugin.xml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension-point id="point" name="Point" schema="schema/point.exsd"/>
+				   <extension point="%s"/>
+				</plugin>
+				""".formatted(POINT_ID));
+		TestUtils.waitForJobs("SchemaRegistryTest", 100, 10000);
+		assertEquals(POINT_ID, PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(POINT_ID).getFullId());
+	}
+
+	private static void createFile(IFile file, String content) throws CoreException {
+		if (!file.getParent().exists()) {
+			((IFolder) file.getParent()).create(true, true, null);
+		}
+		file.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.IdentityNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
+import org.osgi.resource.Requirement;
+
+import aQute.bnd.osgi.resource.CapReqBuilder;
+import aQute.bnd.osgi.resource.ResourceUtils;
+
+/**
+ * Compares the providers the capability index of the {@link TargetRepository}
+ * finds with the providers of a scan over all capabilities of the state.
+ */
+public class TargetRepositoryTest {
+
+	private static final String SERVICE_NAMESPACE = "osgi.service";
+	private static final String TEST_NAMESPACE = "test.ns";
+
+	private static State state;
+	private static TargetRepository repository;
+
+	@BeforeClass
+	public static void createRepository() throws BundleException {
+		StateObjectFactory factory = StateObjectFactory.defaultFactory;
+		state = factory.createState(true);
+		addBundle(factory, 1, "test.a", "test.pkg.a;version=1.0.0,test.pkg.shared;version=1.0.0",
+				"osgi.service;objectClass:List<String>=\"test.Service,test.OtherService\","
+						+ "test.ns;test.ns=\"a(b)\",test.ns;test.ns=\"a*b\",test.ns;test.ns:Version=1.0.0,"
+						+ "test.ns;other=x");
+		addBundle(factory, 2, "test.b", "test.pkg.b;version=1.0.0,test.pkg.shared;version=2.0.0",
+				"osgi.service;objectClass=test.Service,test.ns;test.ns=plain;other=x");
+		addBundle(factory, 3, "test.c", "test.pkg.ab;version=1.0.0", null);
+		repository = TargetRepository.createTargetRepository(state);
+	}
+
+	private static void addBundle(StateObjectFactory factory, long id, String bsn, String exports,
+			String capabilities) throws BundleException {
+		Dictionary<String, String> headers = new Hashtable<>();
+		headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		headers.put(Constants.BUNDLE_SYMBOLICNAME, bsn);
+		headers.put(Constants.BUNDLE_VERSION, "1.0.0");
+		headers.put(Constants.EXPORT_PACKAGE, exports);
+		if (capabilities != null) {
+			headers.put(Constants.PROVIDE_CAPABILITY, capabilities);
+		}
+		state.addBundle(factory.createBundleDescription(state, headers, bsn, id));
+	}
+
+	@Test
+	public void testEquality() {
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=test.pkg.a)", 1);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=test.pkg.missing)", 0);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(OSGI.WIRING.PACKAGE=test.pkg.a)", -1);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package= test.pkg.a)", -1);
+		assertProviders(IdentityNamespace.IDENTITY_NAMESPACE, "(osgi.identity=test.b)", 1);
+	}
+
+	@Test
+	public void testConjunction() {
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(osgi.wiring.package=test.pkg.shared)(version>=2.0.0))", 1);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(version>=1.0.0)(osgi.wiring.package=test.pkg.shared))", 2);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(osgi.wiring.package=test.pkg.shared)(!(version>=2.0.0)))", 1);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(!(osgi.wiring.package=test.pkg.a))(version>=1.0.0))", -1);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(&(|(osgi.wiring.package=test.pkg.a)(osgi.wiring.package=test.pkg.b))(version>=1.0.0))", 2);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE,
+				"(|(osgi.wiring.package=test.pkg.a)(osgi.wiring.package=test.pkg.b))", 2);
+	}
+
+	@Test
+	public void testEscapedValues() {
+		assertProviders(TEST_NAMESPACE, "(test.ns=a\\(b\\))", 1);
+		assertProviders(TEST_NAMESPACE, "(test.ns=a\\*b)", 1);
+		assertProviders(TEST_NAMESPACE, "(&(test.ns=a\\(b\\))(test.ns=*))", 1);
+	}
+
+	@Test
+	public void testWildcards() {
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=test.pkg.*)", 5);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=test.pkg.a*)", 2);
+		assertProviders(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=*)", 5);
+		assertProviders(TEST_NAMESPACE, "(test.ns=a*b)", -1);
+	}
+
+	@Test
+	public void testObjectClassLists() {
+		assertProviders(SERVICE_NAMESPACE, "(objectClass=test.Service)", 2);
+		assertProviders(SERVICE_NAMESPACE, "(objectClass=test.OtherService)", 1);
+		assertProviders(SERVICE_NAMESPACE, "(&(objectClass=test.Service)(objectClass=test.OtherService))", 1);
+		assertProviders(SERVICE_NAMESPACE, "(objectClass=test.*)", 2);
+		assertProviders(SERVICE_NAMESPACE, "(objectClass=test.Missing)", 0);
+	}
+
+	@Test
+	public void testNoPrimaryAttribute() {
+		assertProviders(TEST_NAMESPACE, "(other=x)", 2);
+		assertProviders(TEST_NAMESPACE, "(&(other=x)(test.ns=plain))", 1);
+		assertProviders(TEST_NAMESPACE, null, 5);
+		// capabilities with a value that is not a string are matched as well
+		assertProviders(TEST_NAMESPACE, "(test.ns=1.0.0)", -1);
+		assertProviders(TEST_NAMESPACE, "(test.ns>=1.0.0)", -1);
+	}
+
+	/**
+	 * Asserts that the repository finds the same providers of a requirement
+	 * with the given filter as a scan over all capabilities of the state
+	 *
+	 * @param expectedCount
+	 *            the expected number of providers or <code>-1</code> if only
+	 *            the results are compared
+	 */
+	private static void assertProviders(String namespace, String filter, int expectedCount) {
+		CapReqBuilder builder = new CapReqBuilder(namespace);
+		if (filter != null) {
+			builder.addDirective(Namespace.REQUIREMENT_FILTER_DIRECTIVE, filter);
+		}
+		Requirement requirement = builder.buildSyntheticRequirement();
+		Predicate<Capability> matcher = ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate);
+		List<String> expected = new ArrayList<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			for (Capability capability : bundle.getCapabilities(namespace)) {
+				if (matcher.test(capability)) {
+					expected.add(bundle.getSymbolicName() + ' ' + capability);
+				}
+			}
+		}
+		List<String> actual = new ArrayList<>();
+		for (Capability capability : repository.findProvider(requirement)) {
+			BundleDescription bundle = ((IAdaptable) capability.getResource()).getAdapter(BundleDescription.class);
+			actual.add(bundle.getSymbolicName() + ' ' + capability);
+		}
+		expected.sort(null);
+		actual.sort(null);
+		assertEquals(filter, expected, actual);
+		if (expectedCount >= 0) {
+			assertEquals(filter, expectedCount, actual.size());
+		}
+	}
+}
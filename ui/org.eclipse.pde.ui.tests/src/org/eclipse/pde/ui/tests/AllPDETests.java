@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2023 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,13 +28,17 @@ import org.eclipse.pde.ui.tests.model.bundle.AllBundleModelTests;
 import org.eclipse.pde.ui.tests.model.xml.AllXMLModelTests;
 import org.eclipse.pde.ui.tests.nls.AllNLSTests;
 import org.eclipse.pde.ui.tests.preferences.AllPreferenceTests;
+import org.eclipse.pde.ui.tests.project.BndBuilderTest;
 import org.eclipse.pde.ui.tests.project.BundleRootTests;
+import org.eclipse.pde.ui.tests.project.CalculateUsesOperationTest;
 import org.eclipse.pde.ui.tests.project.DynamicPluginProjectReferencesTest;
+import org.eclipse.pde.ui.tests.project.GatherUnusedDependenciesOperationTest;
 import org.eclipse.pde.ui.tests.project.PluginRegistryTests;
 import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
+import org.eclipse.pde.ui.tests.views.trace.TracingComponentViewerFilterTest;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
 import org.eclipse.ui.tests.smartimport.ProjectSmartImportTest;
 import org.junit.platform.suite.api.SelectClasses;
@@ -54,7 +58,11 @@ import org.junit.platform.suite.api.Suite;
 	ExportBundleTests.class, //
 	AllLauncherTests.class, //
 	AllLogViewTests.class, //
+	TracingComponentViewerFilterTest.class, //
 	ProjectCreationTests.class, //
+	CalculateUsesOperationTest.class, //
+	GatherUnusedDependenciesOperationTest.class, //
+	BndBuilderTest.class, //
 	BundleRootTests.class, //
 	PluginRegistryTests.class, //
 	ClasspathResolverTest.class, //
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,6 @@ import org.junit.platform.suite.api.Suite;
 	 */
 	// suite.addTest(SwapXMLModelTestCase.suite());
 	StructureXMLModelTestCase.class, ExtensionAttributeTestCase.class, ExtensionElementTestCase.class,
-	ManifestEditorSpellCheckTestCase.class, FeatureDataTestCase.class })
+	ManifestEditorSpellCheckTestCase.class, FeatureDataTestCase.class, ReconcileXMLModelTestCase.class })
 public class AllXMLModelTests {
 }
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.pde.core.IModelChangedEvent;
+import org.eclipse.pde.core.IModelChangedListener;
+import org.eclipse.pde.core.plugin.IPluginElement;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
+import org.eclipse.pde.internal.core.text.IDocumentElementNode;
+import org.eclipse.pde.internal.core.text.IDocumentTextNode;
+import org.eclipse.pde.internal.core.text.IReconcileModelChangedListener;
+import org.eclipse.pde.internal.core.text.plugin.PluginModel;
+import org.junit.Test;
+
+public class ReconcileXMLModelTestCase extends XMLModelTestCase {
+
+	private final List<IModelChangedEvent> fEvents = new ArrayList<>();
+	private final List<IModelChangedEvent> fWorldEvents = new ArrayList<>();
+
+	@Test
+	public void testReconcileAttributeValueLF() throws Exception {
+		reconcileAttributeValue(LF);
+	}
+
+	@Test
+	public void testReconcileAttributeValueCRLF() throws Exception {
+		reconcileAttributeValue(CRLF);
+	}
+
+	@Test
+	public void testReconcileInsertElementLF() throws Exception {
+		reconcileInsertElement(LF);
+	}
+
+	@Test
+	public void testReconcileInsertElementCRLF() throws Exception {
+		reconcileInsertElement(CRLF);
+	}
+
+	@Test
+	public void testReconcileRemoveElementLF() throws Exception {
+		reconcileRemoveElement(LF);
+	}
+
+	@Test
+	public void testReconcileRemoveElementCRLF() throws Exception {
+		reconcileRemoveElement(CRLF);
+	}
+
+	@Test
+	public void testReconcileRootAttribute() throws Exception {
+		setXMLContents(createExtensions(LF), LF);
+		loadWithListeners();
+		String text = fDocument.get();
+		fDocument.replace(text.indexOf("<plugin>") + 7, 0, " id=\"x\"");
+		fModel.reconciled(fDocument);
+
+		// changes outside of the extensions load the whole document
+		assertEquals(1, fEvents.size());
+		assertEquals(IModelChangedEvent.WORLD_CHANGED, fEvents.get(0).getChangeType());
+		assertEquals(1, fWorldEvents.size());
+		assertSameOffsets(fDocument.get());
+	}
+
+	@Test
+	public void testReconcileMalformedElement() throws Exception {
+		setXMLContents(createExtensions(LF), LF);
+		loadWithListeners();
+		String text = fDocument.get();
+		fDocument.replace(text.indexOf("</element1>") + 9, 1, "X");
+		fModel.reconciled(fDocument);
+
+		assertEquals(1, fEvents.size());
+		assertEquals(IModelChangedEvent.WORLD_CHANGED, fEvents.get(0).getChangeType());
+	}
+
+	@Test
+	public void testReconcileKeepsDirtyState() throws Exception {
+		setXMLContents(createExtensions(LF), LF);
+		loadWithListeners();
+		fModel.setDirty(true);
+		String text = fDocument.get();
+		fDocument.replace(text.indexOf("value1"), 6, "changed");
+		fModel.reconciled(fDocument);
+
+		assertEquals(IModelChangedEvent.CHANGE, fEvents.get(0).getChangeType());
+		assertTrue(fModel.isDirty());
+	}
+
+	private void reconcileAttributeValue(String newline) throws Exception {
+		setXMLContents(createExtensions(newline), newline);
+		loadWithListeners();
+		IPluginExtension[] extensions = fModel.getPluginBase().getExtensions();
+		IPluginElement element = (IPluginElement) extensions[1].getChildren()[0];
+		String text = fDocument.get();
+		fDocument.replace(text.indexOf("value1"), 6, "changed");
+		fModel.reconciled(fDocument);
+
+		assertEquals(1, fEvents.size());
+		IModelChangedEvent event = fEvents.get(0);
+		assertEquals(IModelChangedEvent.CHANGE, event.getChangeType());
+		assertSame(element, event.getChangedObjects()[0]);
+		assertEquals("name", event.getChangedProperty());
+		assertEquals("value1", event.getOldValue());
+		assertEquals("changed", event.getNewValue());
+		assertEquals(1, fWorldEvents.size());
+		assertSame(extensions[2], fModel.getPluginBase().getExtensions()[2]);
+		assertSameOffsets(fDocument.get());
+	}
+
+	private void reconcileInsertElement(String newline) throws Exception {
+		setXMLContents(createExtensions(newline), newline);
+		loadWithListeners();
+		IPluginExtension extension = fModel.getPluginBase().getExtensions()[0];
+		String text = fDocument.get();
+		int offset = text.indexOf("</element1>");
+		fDocument.replace(offset, 0, "<child id=\"c\"/>" + newline);
+		fModel.reconciled(fDocument);
+
+		assertEquals(1, fEvents.size());
+		IModelChangedEvent event = fEvents.get(0);
+		assertEquals(IModelChangedEvent.INSERT, event.getChangeType());
+		IPluginElement child = (IPluginElement) event.getChangedObjects()[0];
+		assertEquals("child", child.getName());
+		assertSame(extension.getChildren()[0], child.getParent());
+		assertSameOffsets(fDocument.get());
+	}
+
+	private void reconcileRemoveElement(String newline) throws Exception {
+		setXMLContents(createExtensions(newline), newline);
+		loadWithListeners();
+		IPluginExtension extension = fModel.getPluginBase().getExtensions()[0];
+		IPluginElement element = (IPluginElement) extension.getChildren()[1];
+		String text = fDocument.get();
+		int offset = text.indexOf("<element2");
+		int end = text.indexOf("/>", offset) + 2;
+		fDocument.replace(offset, end - offset, "");
+		fModel.reconciled(fDocument);
+
+		assertEquals(1, fEvents.size());
+		IModelChangedEvent event = fEvents.get(0);
+		assertEquals(IModelChangedEvent.REMOVE, event.getChangeType());
+		assertSame(element, event.getChangedObjects()[0]);
+		assertEquals(1, extension.getChildCount());
+		assertSameOffsets(fDocument.get());
+	}
+
+	private StringBuilder createExtensions(String newline) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 3; i++) {
+			sb.append("<extension point=\"org.eclipse.pde.ui.samples" + i + "\">");
+			sb.append(newline);
+			sb.append("\t<element1 name=\"value" + i + "\">");
+			sb.append(newline);
+			sb.append("\t\tsome text");
+			sb.append(newline);
+			sb.append("\t</element1>");
+			sb.append(newline);
+			sb.append("\t<element2 id=\"id" + i + "\"/>");
+			sb.append(newline);
+			sb.append("</extension>");
+			sb.append(newline);
+		}
+		return sb;
+	}
+
+	private void loadWithListeners() {
+		load();
+		fModel.addModelChangedListener((IReconcileModelChangedListener) fEvents::add);
+		fModel.addModelChangedListener((IModelChangedListener) fWorldEvents::add);
+	}
+
+	private void assertSameOffsets(String text) {
+		PluginModel expected = new PluginModel(new Document(text), true);
+		try {
+			expected.load();
+			assertSameOffsets((IDocumentElementNode) expected.getPluginBase(), (IDocumentElementNode) fModel.getPluginBase());
+		} catch (Exception e) {
+			throw new AssertionError(e);
+		} finally {
+			expected.dispose();
+		}
+	}
+
+	private void assertSameOffsets(IDocumentElementNode expected, IDocumentElementNode actual) {
+		assertEquals(expected.getXMLTagName(), actual.getXMLTagName());
+		assertEquals(expected.getOffset(), actual.getOffset());
+		assertEquals(expected.getLength(), actual.getLength());
+		IDocumentAttributeNode[] attributes = expected.getNodeAttributes();
+		assertEquals(attributes.length, actual.getNodeAttributes().length);
+		for (IDocumentAttributeNode attribute : attributes) {
+			IDocumentAttributeNode other = actual.getDocumentAttribute(attribute.getAttributeName());
+			assertEquals(attribute.getAttributeValue(), other.getAttributeValue());
+			assertEquals(attribute.getNameOffset(), other.getNameOffset());
+			assertEquals(attribute.getValueOffset(), other.getValueOffset());
+		}
+		IDocumentTextNode textNode = expected.getTextNode();
+		if (textNode == null) {
+			assertNull(actual.getTextNode());
+		} else {
+			assertEquals(textNode.getText(), actual.getTextNode().getText());
+			assertEquals(textNode.getOffset(), actual.getTextNode().getOffset());
+			assertEquals(textNode.getLength(), actual.getTextNode().getLength());
+		}
+		assertEquals(expected.getChildCount(), actual.getChildCount());
+		for (int i = 0; i < expected.getChildCount(); i++) {
+			assertSameOffsets(expected.getChildAt(i), actual.getChildAt(i));
+		}
+	}
+}
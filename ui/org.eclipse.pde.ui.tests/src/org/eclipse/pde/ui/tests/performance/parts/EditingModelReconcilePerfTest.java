@@ -0,0 +1,121 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.core.text.AbstractEditingModel;
+import org.eclipse.pde.internal.core.text.bundle.BundleModel;
+import org.eclipse.pde.internal.core.text.plugin.PluginModel;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the typing latency of the plug-in manifest editor models, i.e. the
+ * time to reconcile a large plugin.xml or MANIFEST.MF document after each
+ * typed character.
+ */
+public class EditingModelReconcilePerfTest extends PerformanceTestCase {
+
+	private static final int EXTENSION_COUNT = 2000;
+
+	private static final int PACKAGE_COUNT = 1000;
+
+	private static final int KEYSTROKES = 20;
+
+	private static final int WARMUP_ITERATIONS = 3;
+
+	private static final int TEST_ITERATIONS = 10;
+
+	public void testTypeInPluginXml() throws Exception {
+		tagAsSummary("Type in a plugin.xml of " + EXTENSION_COUNT + " extensions", Dimension.ELAPSED_PROCESS);
+		StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		sb.append("<?eclipse version=\"3.4\"?>\n");
+		sb.append("<plugin>\n");
+		for (int i = 0; i < EXTENSION_COUNT; i++) {
+			sb.append("   <extension point=\"org.eclipse.ui.views\">\n");
+			sb.append("      <category id=\"category").append(i).append("\" name=\"Category ").append(i).append("\"/>\n");
+			sb.append("      <view id=\"view").append(i).append("\" name=\"View ").append(i).append("\">\n");
+			sb.append("         <description>View number ").append(i).append("</description>\n");
+			sb.append("      </view>\n");
+			sb.append("   </extension>\n");
+		}
+		sb.append("</plugin>\n");
+		IDocument document = new Document(sb.toString());
+		PluginModel model = new PluginModel(document, true);
+		model.load();
+		int offset = sb.indexOf("name=\"View " + EXTENSION_COUNT / 2 + "\"") + 6;
+		measureTyping(model, document, offset);
+		assertEquals(EXTENSION_COUNT, model.getPluginBase().getExtensions().length);
+		model.dispose();
+	}
+
+	public void testTypeInBundleManifest() throws Exception {
+		tagAsSummary("Type in a MANIFEST.MF of " + PACKAGE_COUNT + " packages", Dimension.ELAPSED_PROCESS);
+		StringBuilder sb = new StringBuilder();
+		sb.append("Manifest-Version: 1.0\n");
+		sb.append("Bundle-ManifestVersion: 2\n");
+		sb.append("Bundle-Name: Typing\n");
+		sb.append("Bundle-SymbolicName: typing.perf\n");
+		sb.append("Bundle-Version: 1.0.0\n");
+		sb.append("Export-Package: ");
+		appendPackages(sb, "typing.perf.export");
+		sb.append("Import-Package: ");
+		appendPackages(sb, "typing.perf.import");
+		IDocument document = new Document(sb.toString());
+		BundleModel model = new BundleModel(document, true);
+		model.load();
+		int offset = sb.indexOf("Bundle-Name: ") + 13;
+		measureTyping(model, document, offset);
+		assertEquals(PACKAGE_COUNT + 1, model.getBundle().getHeader("Export-Package").split(",").length);
+		model.dispose();
+	}
+
+	private void measureTyping(AbstractEditingModel model, IDocument document, int offset) throws BadLocationException {
+		// Warm-up Iterations
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			type(model, document, offset);
+		}
+		// Test Iterations
+		for (int i = 0; i < TEST_ITERATIONS; i++) {
+			startMeasuring();
+			type(model, document, offset);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static void type(AbstractEditingModel model, IDocument document, int offset) throws BadLocationException {
+		for (int i = 0; i < KEYSTROKES; i++) {
+			document.replace(offset + i, 0, "x");
+			model.reconciled(document);
+		}
+		// restore the document for the next iteration
+		document.replace(offset, KEYSTROKES, "");
+		model.reconciled(document);
+	}
+
+	private static void appendPackages(StringBuilder sb, String prefix) {
+		for (int i = 0; i <= PACKAGE_COUNT; i++) {
+			if (i > 0) {
+				sb.append(",\n ");
+			}
+			sb.append(prefix).append(i).append(";version=\"1.0.0\"");
+		}
+		sb.append('\n');
+	}
+}
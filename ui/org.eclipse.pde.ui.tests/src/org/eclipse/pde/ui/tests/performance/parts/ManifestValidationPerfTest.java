@@ -0,0 +1,89 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.Constants;
+
+/**
+ * Runs the PDE manifest builder over a generated workspace of several hundred
+ * plug-in projects, each requiring the previously created one.
+ */
+public class ManifestValidationPerfTest extends PerformanceTestCase {
+
+	private static final int F_PROJECT_COUNT = 300;
+
+	private static final int F_TEST_ITERATIONS = 10;
+
+	private static final int F_WARMUP_ITERATIONS = 2;
+
+	private final List<IProject> fProjects = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		ProjectUtils.deleteAllWorkspaceProjects();
+		String previous = null;
+		for (int i = 0; i < F_PROJECT_COUNT; i++) {
+			String id = "manifest.validation.perf" + i; //$NON-NLS-1$
+			Map<String, String> headers = previous == null ? Map.of() : Map.of(Constants.REQUIRE_BUNDLE, previous);
+			fProjects.add(ProjectUtils.createPluginProject(id, "1.0.0", headers)); //$NON-NLS-1$
+			previous = id;
+		}
+		ResourcesPlugin.getWorkspace().build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+		Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ProjectUtils.deleteAllWorkspaceProjects();
+		fProjects.clear();
+		super.tearDown();
+	}
+
+	public void testValidateWorkspace() throws Exception {
+		tagAsSummary("Validate " + F_PROJECT_COUNT + " plug-in projects", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$ //$NON-NLS-2$
+		// Warm-up Iterations
+		for (int i = 0; i < F_WARMUP_ITERATIONS; i++) {
+			validateAll();
+		}
+		// Test Iterations
+		for (int i = 0; i < F_TEST_ITERATIONS; i++) {
+			startMeasuring();
+			validateAll();
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void validateAll() throws Exception {
+		for (IProject project : fProjects) {
+			project.build(IncrementalProjectBuilder.FULL_BUILD, PluginProject.MANIFEST_BUILDER_ID, null,
+					new NullProgressMonitor());
+		}
+	}
+}
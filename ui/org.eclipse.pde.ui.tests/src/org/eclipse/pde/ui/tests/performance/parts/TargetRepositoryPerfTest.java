@@ -0,0 +1,120 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Requirement;
+
+/**
+ * Finds the providers of the requirements of some bundles of a synthetic
+ * target with the bnd repository of the target platform state.
+ */
+public class TargetRepositoryPerfTest extends PerformanceTestCase {
+
+	private static final int BUNDLE_COUNT = 3000;
+
+	private static final int PACKAGES_PER_BUNDLE = 5;
+
+	private static final int IMPORTS_PER_BUNDLE = 10;
+
+	private static final int REQUIRING_BUNDLE_COUNT = 50;
+
+	private static final int WARMUP_ITERATIONS = 3;
+
+	private static final int TEST_ITERATIONS = 10;
+
+	public void testFindProviders() throws Exception {
+		tagAsSummary("Find providers in a target of " + BUNDLE_COUNT + " bundles", Dimension.ELAPSED_PROCESS);
+		State state = createState();
+		List<Requirement> requirements = new ArrayList<>();
+		BundleDescription[] bundles = state.getBundles();
+		for (int i = 0; i < REQUIRING_BUNDLE_COUNT; i++) {
+			requirements.addAll(bundles[i].getRequirements(PackageNamespace.PACKAGE_NAMESPACE));
+			requirements.addAll(bundles[i].getRequirements(BundleNamespace.BUNDLE_NAMESPACE));
+		}
+		TargetRepository repository = TargetRepository.createTargetRepository(state);
+
+		// Warm-up Iterations
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			repository.findProviders(requirements);
+		}
+		// Test Iterations
+		Map<Requirement, Collection<Capability>> providers = null;
+		for (int i = 0; i < TEST_ITERATIONS; i++) {
+			startMeasuring();
+			providers = repository.findProviders(requirements);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		assertEquals(REQUIRING_BUNDLE_COUNT * (IMPORTS_PER_BUNDLE + 1), providers.size());
+		for (Map.Entry<Requirement, Collection<Capability>> entry : providers.entrySet()) {
+			assertEquals(entry.getKey().toString(), 1, entry.getValue().size());
+		}
+	}
+
+	private static State createState() throws BundleException {
+		StateObjectFactory factory = StateObjectFactory.defaultFactory;
+		State state = factory.createState(true);
+		for (int i = 0; i < BUNDLE_COUNT; i++) {
+			Dictionary<String, String> headers = new Hashtable<>();
+			headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			headers.put(Constants.BUNDLE_SYMBOLICNAME, getSymbolicName(i));
+			headers.put(Constants.BUNDLE_VERSION, "1.0.0");
+			StringBuilder exports = new StringBuilder();
+			for (int j = 0; j < PACKAGES_PER_BUNDLE; j++) {
+				if (j > 0) {
+					exports.append(',');
+				}
+				exports.append(getSymbolicName(i)).append(".pkg").append(j).append(";version=\"1.0.0\"");
+			}
+			headers.put(Constants.EXPORT_PACKAGE, exports.toString());
+			StringBuilder imports = new StringBuilder();
+			for (int j = 1; j <= IMPORTS_PER_BUNDLE; j++) {
+				if (j > 1) {
+					imports.append(',');
+				}
+				int exporter = (i + j * 97) % BUNDLE_COUNT;
+				imports.append(getSymbolicName(exporter)).append(".pkg").append(j % PACKAGES_PER_BUNDLE)
+						.append(";version=\"[1.0.0,2.0.0)\"");
+			}
+			headers.put(Constants.IMPORT_PACKAGE, imports.toString());
+			headers.put(Constants.REQUIRE_BUNDLE, getSymbolicName((i + 1) % BUNDLE_COUNT));
+			state.addBundle(factory.createBundleDescription(state, headers, getSymbolicName(i), i));
+		}
+		return state;
+	}
+
+	private static String getSymbolicName(int index) {
+		return "synthetic.bundle" + index;
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.natures.BndProject;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the bnd builder only builds the sub-bundles whose inputs have
+ * changed.
+ */
+public class BndBuilderTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final long OLD_TIMESTAMP = 1000000000000L;
+
+	private IProject project;
+	private boolean autoBuilding;
+
+	@Before
+	public void setUp() throws Exception {
+		autoBuilding = ResourcesPlugin.getWorkspace().isAutoBuilding();
+		setAutoBuilding(false);
+		project = ProjectUtils.createBndProject("test.bnd.sub").getProject();
+		createSource("one", "package one; public class One { }");
+		createSource("two", "package two; public class Two { }");
+		createFile("one.bnd", "Bundle-SymbolicName: test.bnd.one\nPrivate-Package: one\n");
+		createFile("two.bnd", "Bundle-SymbolicName: test.bnd.two\nPrivate-Package: two\n");
+		IFile instructions = project.getFile(BndProject.INSTRUCTIONS_FILE);
+		instructions.setContents(new ByteArrayInputStream(
+				"Bundle-SymbolicName: test.bnd.sub\n-sub: one.bnd, two.bnd\n".getBytes(StandardCharsets.UTF_8)),
+				IResource.FORCE, null);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		// settle the changes made by the first build, e.g. the manifest
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		setAutoBuilding(autoBuilding);
+	}
+
+	@Test
+	public void testUnchangedSubBundleReused() throws Exception {
+		File one = getOutput("test.bnd.one");
+		File two = getOutput("test.bnd.two");
+		assertTrue(one.setLastModified(OLD_TIMESTAMP));
+		assertTrue(two.setLastModified(OLD_TIMESTAMP));
+
+		createSource("one", "package one; public class One { public int changed; }");
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+
+		// only the sub-bundle containing the changed class is written again
+		assertNotEquals(OLD_TIMESTAMP, one.lastModified());
+		assertEquals(OLD_TIMESTAMP, two.lastModified());
+	}
+
+	@Test
+	public void testChangedInstructionsRebuildSubBundle() throws Exception {
+		File one = getOutput("test.bnd.one");
+		File two = getOutput("test.bnd.two");
+		assertTrue(one.setLastModified(OLD_TIMESTAMP));
+		assertTrue(two.setLastModified(OLD_TIMESTAMP));
+
+		createFile("two.bnd", "Bundle-SymbolicName: test.bnd.two\nPrivate-Package: two\nBundle-Name: Two\n");
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+
+		assertEquals(OLD_TIMESTAMP, one.lastModified());
+		assertNotEquals(OLD_TIMESTAMP, two.lastModified());
+	}
+
+	private File getOutput(String bsn) {
+		File[] jars = project.getFolder(ProjectUtils.BIN_FOLDER).getLocation().toFile()
+				.listFiles((dir, name) -> name.startsWith(bsn) && name.endsWith(".jar"));
+		assertNotNull(jars);
+		assertEquals(bsn, 1, jars.length);
+		return jars[0];
+	}
+
+	private void createSource(String pkg, String source) throws CoreException {
+		IFolder folder = project.getFolder(ProjectUtils.SRC_FOLDER + "/" + pkg);
+		if (!folder.exists()) {
+			folder.create(true, true, null);
+		}
+		String name = source.substring(source.indexOf("class ") + 6, source.indexOf(" {"));
+		createFile(folder.getProjectRelativePath().append(name + ".java").toString(), source);
+	}
+
+	private void createFile(String path, String content) throws CoreException {
+		IFile file = project.getFile(path);
+		ByteArrayInputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, IResource.FORCE, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+
+	private static void setAutoBuilding(boolean autoBuilding) throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription description = workspace.getDescription();
+		description.setAutoBuilding(autoBuilding);
+		workspace.setDescription(description);
+	}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.pde.internal.core.util.PDEJavaHelper;
+import org.eclipse.pde.internal.ui.search.dependencies.CalculateUsesOperation;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the <code>uses</code> directives computed from the class files of
+ * a project are the ones computed by walking its Java model.
+ */
+public class CalculateUsesOperationTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final String API_PACKAGE = "test.api";
+
+	private static final String API_SOURCE = """
+			package test.api;
+			import java.io.File;
+			import java.io.IOException;
+			import test.base.Base;
+			import test.hidden.Hidden;
+			import test.nested.Nested;
+			import test.param.Param;
+			import test.result.Result;
+			public class Api extends Base {
+				public Result compute(Param param, File file) throws IOException {
+					return null;
+				}
+				private Hidden hidden(Hidden hidden) {
+					return hidden;
+				}
+				public static class Inner {
+					public Nested nested;
+				}
+				private static class PrivateInner {
+					public Hidden hidden;
+				}
+			}
+			class Internal {
+				public Hidden hidden;
+			}
+			""";
+
+	private IJavaProject project;
+	private boolean autoBuilding;
+
+	@Before
+	public void setUp() throws Exception {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		autoBuilding = workspace.isAutoBuilding();
+		setAutoBuilding(false);
+		project = ProjectUtils.createPluginProject("test.calculate.uses", null);
+		for (String pkg : List.of("base", "hidden", "nested", "param", "result", "extra")) {
+			String name = Character.toUpperCase(pkg.charAt(0)) + pkg.substring(1);
+			createSource("test." + pkg, name, "package test." + pkg + "; public class " + name + " {}");
+		}
+		createSource(API_PACKAGE, "Api", API_SOURCE);
+		project.getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		setAutoBuilding(autoBuilding);
+	}
+
+	@Test
+	public void testClassFilesMatchJavaModel() throws Exception {
+		TestOperation operation = new TestOperation(project.getProject());
+		Set<String> fromClassFiles = withoutJava(operation.fromClassFiles(List.of(API_PACKAGE)).get(API_PACKAGE));
+		Set<String> fromJavaModel = withoutJava(operation.fromJavaModel(API_PACKAGE));
+
+		assertEquals(Set.of("test.base", "test.nested", "test.param", "test.result"), fromClassFiles);
+		assertEquals(fromJavaModel, fromClassFiles);
+	}
+
+	@Test
+	public void testChangedSourcesNotBuilt() throws Exception {
+		IFile api = getSourceFile(API_PACKAGE, "Api");
+		long compiled = project.getProject().getFile("bin/test/api/Api.class").getLocalTimeStamp();
+		String source = API_SOURCE.replace("public static class Inner {",
+				"public static class Inner {\n\t\tpublic test.extra.Extra extra;");
+		api.setContents(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), IResource.FORCE, null);
+		api.setLocalTimeStamp(compiled + 10000);
+
+		// the class files are outdated, the Java model is used instead
+		TestOperation operation = new TestOperation(project.getProject());
+		Set<String> uses = withoutJava(operation.fromClassFiles(List.of(API_PACKAGE)).get(API_PACKAGE));
+		assertTrue(uses.toString(), uses.contains("test.extra"));
+		assertEquals(withoutJava(operation.fromJavaModel(API_PACKAGE)), uses);
+	}
+
+	private void createSource(String pkg, String name, String source) throws CoreException {
+		IFolder folder = project.getProject().getFolder(ProjectUtils.SRC_FOLDER + "/" + pkg.replace('.', '/'));
+		for (int i = 1; i <= folder.getProjectRelativePath().segmentCount(); i++) {
+			IFolder parent = project.getProject().getFolder(folder.getProjectRelativePath().uptoSegment(i));
+			if (!parent.exists()) {
+				parent.create(true, true, null);
+			}
+		}
+		getSourceFile(pkg, name).create(new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8)), true,
+				null);
+	}
+
+	private IFile getSourceFile(String pkg, String name) {
+		return project.getProject()
+				.getFile(ProjectUtils.SRC_FOLDER + "/" + pkg.replace('.', '/') + "/" + name + ".java");
+	}
+
+	private static Set<String> withoutJava(Set<String> packages) {
+		Set<String> result = new TreeSet<>(packages);
+		result.removeIf(pkg -> pkg.startsWith("java."));
+		return result;
+	}
+
+	private static void setAutoBuilding(boolean autoBuilding) throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription description = workspace.getDescription();
+		description.setAutoBuilding(autoBuilding);
+		workspace.setDescription(description);
+	}
+
+	private static class TestOperation extends CalculateUsesOperation {
+
+		private final IJavaProject fJavaProject;
+
+		TestOperation(IProject project) {
+			super(project, null);
+			fJavaProject = JavaCore.create(project);
+		}
+
+		Map<String, Set<String>> fromClassFiles(Collection<String> packages) {
+			return findPackageReferences(packages, new NullProgressMonitor());
+		}
+
+		Set<String> fromJavaModel(String packageName) throws JavaModelException {
+			Set<String> packages = new TreeSet<>();
+			for (IPackageFragment fragment : PDEJavaHelper.getPackageFragments(fJavaProject, Set.of(), false)) {
+				if (fragment.getElementName().equals(packageName)) {
+					findReferences(fragment.getCompilationUnits(), packages, new NullProgressMonitor(), false);
+				}
+			}
+			return packages;
+		}
+	}
+}
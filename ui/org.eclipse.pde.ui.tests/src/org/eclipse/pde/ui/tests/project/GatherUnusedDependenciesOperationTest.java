@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.internal.ui.search.dependencies.GatherUnusedDependenciesOperation;
+import org.eclipse.pde.internal.ui.search.dependencies.GatherUnusedDependenciesOperation.GroupSearch;
+import org.junit.Test;
+
+/**
+ * Tests that searching the source references of unused dependency candidates
+ * in groups finds the same candidates as searching each candidate on its own.
+ */
+public class GatherUnusedDependenciesOperationTest {
+
+	/**
+	 * A search finding the references of the referenced candidates, that fails
+	 * for any group containing a broken candidate
+	 */
+	private static final class FakeSearch implements GroupSearch<String> {
+
+		private final Set<String> referencedCandidates;
+		private final Set<String> brokenCandidates;
+		private int searches;
+
+		FakeSearch(Set<String> referencedCandidates, Set<String> brokenCandidates) {
+			this.referencedCandidates = referencedCandidates;
+			this.brokenCandidates = brokenCandidates;
+		}
+
+		@Override
+		public boolean isReferenced(List<String> group, IProgressMonitor monitor) throws CoreException {
+			searches++;
+			if (!Collections.disjoint(group, brokenCandidates)) {
+				throw new CoreException(Status.error("broken " + group));
+			}
+			return !Collections.disjoint(group, referencedCandidates);
+		}
+	}
+
+	@Test
+	public void testGroupedSearchMatchesSingleSearches() {
+		Random random = new Random(4711);
+		for (int size = 1; size <= 40; size++) {
+			for (int run = 0; run < 20; run++) {
+				List<String> candidates = new ArrayList<>();
+				Set<String> referencedCandidates = new HashSet<>();
+				Set<String> brokenCandidates = new HashSet<>();
+				for (int i = 0; i < size; i++) {
+					String candidate = "candidate" + i;
+					candidates.add(candidate);
+					int kind = random.nextInt(10);
+					if (kind < 2) {
+						referencedCandidates.add(candidate);
+					} else if (kind == 2) {
+						brokenCandidates.add(candidate);
+					}
+				}
+				FakeSearch search = new FakeSearch(referencedCandidates, brokenCandidates);
+				assertEquals(candidates.toString(), searchEach(candidates, search), searchGrouped(candidates, search));
+			}
+		}
+	}
+
+	@Test
+	public void testUnreferencedCandidatesSearchedOnce() {
+		List<String> candidates = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			candidates.add("candidate" + i);
+		}
+		FakeSearch search = new FakeSearch(Set.of(), Set.of());
+		assertTrue(searchGrouped(candidates, search).isEmpty());
+		assertEquals(1, search.searches);
+
+		search = new FakeSearch(Set.of("candidate42"), Set.of());
+		assertEquals(Set.of("candidate42"), searchGrouped(candidates, search));
+		assertTrue(String.valueOf(search.searches), search.searches <= 2 * 7 + 1);
+	}
+
+	@Test
+	public void testNoCandidates() {
+		FakeSearch search = new FakeSearch(Set.of(), Set.of());
+		assertTrue(searchGrouped(List.of(), search).isEmpty());
+		assertEquals(0, search.searches);
+	}
+
+	private static Set<String> searchGrouped(List<String> candidates, FakeSearch search) {
+		Set<String> referenced = new TreeSet<>();
+		GatherUnusedDependenciesOperation.findReferenced(candidates, search, referenced, new NullProgressMonitor());
+		return referenced;
+	}
+
+	private static Set<String> searchEach(List<String> candidates, FakeSearch search) {
+		Set<String> referenced = new TreeSet<>();
+		for (String candidate : candidates) {
+			try {
+				if (search.isReferenced(List.of(candidate), new NullProgressMonitor())) {
+					referenced.add(candidate);
+				}
+			} catch (CoreException e) {
+				// a candidate that cannot be searched is assumed to be used
+				referenced.add(candidate);
+			}
+		}
+		return referenced;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.EventListener;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IExtension;
 import org.eclipse.core.runtime.IExtensionPoint;
@@ -141,6 +145,41 @@ public abstract class AbstractRegistryModelTest implements ModelChangeListener {
 		assertEquals(origBundles.length, bundles.length);
 	}
 
+	/**
+	 * Verifies that the indexed lookups of the model match its content
+	 */
+	@Test
+	public void testIndexedLookups() {
+		model.initialize(new NullProgressMonitor());
+
+		ServiceRegistration[] services = model.getServices();
+		for (ServiceName name : model.getServiceNames()) {
+			Set<ServiceRegistration> expected = Arrays.stream(services)
+					.filter(s -> Arrays.equals(name.getClasses(), s.getName().getClasses())).collect(Collectors.toSet());
+			assertEquals(expected, Set.of(model.getServices(name.getClasses())));
+		}
+
+		for (Bundle bundle : model.getBundles()) {
+			if (bundle.getSymbolicName() != null) {
+				Bundle bundleByName = model.getBundle(bundle.getSymbolicName(), bundle.getVersion());
+				assertEquals(bundle.getSymbolicName(), bundleByName.getSymbolicName());
+			}
+
+			Set<ServiceRegistration> registered = Arrays.stream(services)
+					.filter(s -> Objects.equals(bundle.getSymbolicName(), s.getBundle())).collect(Collectors.toSet());
+			assertEquals(registered, Set.of(bundle.getRegisteredServices()));
+
+			Set<ServiceRegistration> inUse = Arrays.stream(services)
+					.filter(s -> Arrays.stream(s.getUsingBundleIds()).anyMatch(id -> id == bundle.getId()))
+					.collect(Collectors.toSet());
+			assertEquals(inUse, Set.of(bundle.getServicesInUse()));
+
+			Set<ExtensionPoint> extPoints = Arrays.stream(model.getExtensionPoints())
+					.filter(e -> Long.valueOf(bundle.getId()).equals(e.getContributorId())).collect(Collectors.toSet());
+			assertEquals(extPoints, Set.of(bundle.getExtensionPoints()));
+		}
+	}
+
 	@Test
 	public void testBundleInstalled() {
 		mockFramework.createBundleEvent(BundleEvent.INSTALLED, testBundle);
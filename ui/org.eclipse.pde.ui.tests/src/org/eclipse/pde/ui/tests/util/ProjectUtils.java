@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -175,6 +175,41 @@ public class ProjectUtils {
 		return javaProject;
 	}
 
+	/**
+	 * Create a Java project with the given name whose manifest is generated by
+	 * bnd from its <code>pde.bnd</code> instructions.
+	 *
+	 * @return a new bnd project
+	 */
+	public static IJavaProject createBndProject(String projectName) throws Exception {
+		PluginFieldData data = new PluginFieldData();
+		data.setName(projectName);
+		data.setId(projectName);
+		data.setLegacy(false);
+		data.setHasBundleStructure(true);
+		data.setSimple(false);
+		data.setProvider("IBM");
+		data.setLibraryName(".");
+		data.setVersion("1.0.0");
+		data.setTargetVersion("3.5");
+		data.setOutputFolderName(BIN_FOLDER);
+		data.setSourceFolderName(SRC_FOLDER);
+		data.setOSGiFramework("standard");
+		data.setAutomaticMetadataGeneration(true);
+		data.setDoGenerateClass(false);
+		data.setEnableAPITooling(false);
+		data.setRCPApplicationPlugin(false);
+		data.setUIPlugin(false);
+		IProjectProvider provider = new TestProjectProvider(projectName);
+		IBundleContentWizard wizard = new TestBundleWizard();
+		NewProjectCreationOperation operation = new NewProjectCreationOperation(data, provider, wizard);
+		operation.run(new NullProgressMonitor());
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		IJavaProject javaProject = JavaCore.create(project);
+		TestUtils.waitForJobs("ProjectUtils.createBndProject " + projectName, 100, 10000);
+		return javaProject;
+	}
+
 	private static final Set<IProject> IMPORTED_PROJECTS = ConcurrentHashMap.newKeySet();
 
 	public static IProject importTestProject(String path) throws IOException, CoreException {
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.ui.trace.internal.TracingComponentViewerFilter;
+import org.eclipse.ui.trace.internal.datamodel.TracingCollections;
+import org.eclipse.ui.trace.internal.datamodel.TracingComponent;
+import org.eclipse.ui.trace.internal.datamodel.TracingComponentDebugOption;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TracingComponentViewerFilterTest {
+
+	private static final String PDE_COMPONENT = "org.eclipse.pde.traceComponent";
+	private static final String CLASSPATH_OPTION = "org.eclipse.pde.core/classpath";
+	private static final String DEBUG_OPTION = "org.eclipse.pde.core/debug";
+	private static final String NESTED_OPTION = DEBUG_OPTION + "/validation";
+
+	private TracingComponent component;
+	private Viewer viewer;
+	private TracingComponentViewerFilter filter;
+
+	@Before
+	public void setUp() {
+		TracingCollections.getInstance().clear();
+		for (IConfigurationElement element : Platform.getExtensionRegistry()
+				.getConfigurationElementsFor("org.eclipse.ui.trace.traceComponents")) {
+			if (PDE_COMPONENT.equals(element.getAttribute("id"))) {
+				component = TracingCollections.getInstance().getTracingComponent(element);
+			}
+		}
+		assertNotNull(component);
+		viewer = mock(Viewer.class);
+		when(viewer.getInput()).thenReturn(new TracingComponent[] { component });
+		filter = new TracingComponentViewerFilter();
+	}
+
+	@After
+	public void tearDown() {
+		TracingCollections.getInstance().clear();
+	}
+
+	@Test
+	public void testLabelMatchShowsAllOptions() {
+		filter.setPattern("PDE");
+		assertTrue(filter.isElementVisible(viewer, component));
+		for (TracingComponentDebugOption option : component.getChildren()) {
+			assertTrue(option.getOptionPath(), filter.isElementVisible(viewer, option));
+		}
+	}
+
+	@Test
+	public void testNoMatch() {
+		filter.setPattern("no such component or option");
+		assertFalse(filter.isElementVisible(viewer, component));
+	}
+
+	@Test
+	public void testOptionMatchOfUnloadedComponent() {
+		filter.setPattern(CLASSPATH_OPTION);
+		// the option-paths of a component that has not been expanded are matched without populating it
+		assertTrue(filter.isElementVisible(viewer, component));
+		assertFalse(component.isInitialized());
+	}
+
+	@Test
+	public void testNestedOptionMatch() {
+		filter.setPattern(NESTED_OPTION);
+		assertTrue(filter.isElementVisible(viewer, component));
+		assertFalse(component.isInitialized());
+		component.initialize();
+		boolean found = false;
+		for (TracingComponentDebugOption option : component.getChildren()) {
+			String path = option.getOptionPath();
+			found |= path.equals(NESTED_OPTION);
+			// the nested option and the option it is nested below are visible
+			boolean visible = path.equals(NESTED_OPTION) || path.equals(DEBUG_OPTION);
+			assertEquals(path, visible, filter.isElementVisible(viewer, option));
+		}
+		assertTrue(found);
+	}
+
+	@Test
+	public void testOptionMatchOfPopulatedComponent() {
+		component.initialize();
+		filter.setPattern(CLASSPATH_OPTION);
+		assertTrue(filter.isElementVisible(viewer, component));
+		boolean found = false;
+		for (TracingComponentDebugOption option : component.getChildren()) {
+			boolean matches = option.getOptionPath().startsWith(CLASSPATH_OPTION);
+			found |= matches;
+			assertEquals(option.getOptionPath(), matches, filter.isElementVisible(viewer, option));
+		}
+		assertTrue(found);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2025 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,7 @@ public class PDEUIMessages extends NLS {
 	public static String BundlesTab_title;
 
 	public static String CalculateUsesOperation_calculatingDirective;
+	public static String CalculateUsesOperation_readingClassFiles;
 
 	public static String ContentSection_0;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 package org.eclipse.pde.internal.ui.editor;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.viewers.IBaseLabelProvider;
@@ -22,16 +24,20 @@ import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.internal.core.text.IEditingModel;
+import org.eclipse.pde.internal.core.text.IReconcileModelChangedListener;
 import org.eclipse.pde.internal.core.text.IReconcilingParticipant;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.ui.part.IPageSite;
 
 /**
- * Content outline page for the XML editor.
+ * Content outline page for the XML editor. When the model has only changed
+ * the properties of some of its objects since the last reconcile, only those
+ * objects are refreshed.
  */
-public class SourceOutlinePage extends PDEOutlinePage implements IReconcilingParticipant, ISortableContentOutlinePage {
+public class SourceOutlinePage extends PDEOutlinePage implements IReconcilingParticipant, ISortableContentOutlinePage, IReconcileModelChangedListener {
 
 	private final IEditingModel fModel;
 	private final IBaseLabelProvider fLabelProvider;
@@ -41,6 +47,10 @@ public class SourceOutlinePage extends PDEOutlinePage implements IReconcilingPar
 	private boolean sorted;
 	TreeViewer viewer;
 
+	// the objects changed since the last reconcile, guarded by this
+	private final Set<Object> fChangedObjects = new LinkedHashSet<>();
+	private boolean fStructureChanged = true;
+
 	/**
 	 * This list is redundant; but, required because we can't access
 	 * org.eclipse.ui.views.contentoutline.ContentOutlinePage.selectionChangedListeners
@@ -74,6 +84,24 @@ public class SourceOutlinePage extends PDEOutlinePage implements IReconcilingPar
 		}
 		viewer.setInput(fModel);
 		viewer.expandAll();
+		fModel.addModelChangedListener(this);
+	}
+
+	@Override
+	public void dispose() {
+		fModel.removeModelChangedListener(this);
+		super.dispose();
+	}
+
+	@Override
+	public synchronized void modelChanged(IModelChangedEvent event) {
+		if (event.getChangeType() == IModelChangedEvent.CHANGE) {
+			for (Object object : event.getChangedObjects()) {
+				fChangedObjects.add(object);
+			}
+		} else {
+			fStructureChanged = true;
+		}
 	}
 
 	@Override
@@ -91,15 +119,34 @@ public class SourceOutlinePage extends PDEOutlinePage implements IReconcilingPar
 			if (control.isDisposed()) {
 				return;
 			}
+			Object[] changedObjects;
+			boolean structureChanged;
+			synchronized (this) {
+				changedObjects = fChangedObjects.toArray();
+				structureChanged = fStructureChanged;
+				fChangedObjects.clear();
+				fStructureChanged = false;
+			}
+			if (!structureChanged && changedObjects.length == 0) {
+				return;
+			}
 			control.setRedraw(false);
 			// Temporarily remove all selection listeners from the tree
 			// viewer.  This is required because the refresh fires a
 			// selection event back to the source page (observered in
 			// the bundle source page) when typing
 			removeAllSelectionChangedListeners();
-			getTreeViewer().refresh();
+			if (structureChanged) {
+				getTreeViewer().refresh();
+			} else {
+				for (Object object : changedObjects) {
+					getTreeViewer().refresh(object, true);
+				}
+			}
 			addAllSelectionChangedListeners();
-			getTreeViewer().expandAll();
+			if (structureChanged) {
+				getTreeViewer().expandAll();
+			}
 			control.setRedraw(true);
 		});
 	}
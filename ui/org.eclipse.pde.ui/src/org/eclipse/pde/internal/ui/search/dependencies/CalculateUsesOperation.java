@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,27 +14,40 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.search.dependencies;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
@@ -100,7 +113,41 @@ public class CalculateUsesOperation extends WorkspaceModifyOperation {
 		IJavaProject jp = JavaCore.create(fProject);
 		Map<String, Set<String>> pkgsAndUses = new HashMap<>();
 		IPackageFragment[] frags = PDEJavaHelper.getPackageFragments(jp, Collections.emptySet(), false);
-		SubMonitor subMonitor = SubMonitor.convert(monitor, frags.length * 2);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, frags.length * 3);
+
+		// decode the class files of all exported packages in parallel first
+		List<IPackageFragment> exported = new ArrayList<>();
+		for (IPackageFragment fragment : frags) {
+			if (packages.contains(fragment.getElementName())) {
+				exported.add(fragment);
+			}
+		}
+		subMonitor.subTask(PDEUIMessages.CalculateUsesOperation_readingClassFiles);
+		Map<IPackageFragment, List<ClassFileUses>> classFileUses = new ConcurrentHashMap<>();
+		// the class files of a project that has never been built cannot be trusted
+		if (jp.hasBuildState()) {
+			exported.parallelStream().forEach(fragment -> {
+				if (!monitor.isCanceled()) {
+					List<ClassFileUses> uses = findClassFileReferences(jp, fragment);
+					if (uses != null) {
+						classFileUses.put(fragment, uses);
+					}
+				}
+			});
+		}
+		// the member classes of a package split across several roots may be
+		// in another root than their enclosing class
+		Map<String, List<ClassFileUses>> packageClasses = new HashMap<>();
+		for (Map.Entry<IPackageFragment, List<ClassFileUses>> entry : classFileUses.entrySet()) {
+			packageClasses.computeIfAbsent(entry.getKey().getElementName(), name -> new ArrayList<>())
+					.addAll(entry.getValue());
+		}
+		for (Map.Entry<String, List<ClassFileUses>> entry : packageClasses.entrySet()) {
+			pkgsAndUses.computeIfAbsent(entry.getKey(), name -> new TreeSet<>())
+					.addAll(ClassFileUses.getUsedPackages(entry.getValue()));
+		}
+		subMonitor.worked(frags.length);
+
 		for (IPackageFragment fragment : frags) {
 			SubMonitor iterationMonitor = subMonitor.split(2);
 			if (iterationMonitor.isCanceled()) {
@@ -109,8 +156,12 @@ public class CalculateUsesOperation extends WorkspaceModifyOperation {
 			iterationMonitor.subTask(
 					NLS.bind(PDEUIMessages.CalculateUsesOperation_calculatingDirective, fragment.getElementName()));
 			if (packages.contains(fragment.getElementName())) {
-				Set<String> pkgs = new TreeSet<>();
-				pkgsAndUses.put(fragment.getElementName(), pkgs);
+				// a package may be split across several source folders or libraries
+				Set<String> pkgs = pkgsAndUses.computeIfAbsent(fragment.getElementName(), name -> new TreeSet<>());
+				if (classFileUses.containsKey(fragment)) {
+					continue;
+				}
+				// fall back to the Java model, e.g. if the project has not been built since the sources changed
 				try {
 					findReferences(fragment.getCompilationUnits(), pkgs, iterationMonitor.split(1), false);
 					findReferences(fragment.getOrdinaryClassFiles(), pkgs, iterationMonitor.split(1), true);
@@ -121,6 +172,87 @@ public class CalculateUsesOperation extends WorkspaceModifyOperation {
 		return pkgsAndUses;
 	}
 
+	/**
+	 * Returns the decoded class files of the given package, i.e. the output of
+	 * a source folder or the content of a library. The class files are read and
+	 * decoded without going through the Java model and can be read from several
+	 * threads.
+	 *
+	 * @return the decoded class files, or <code>null</code> if the class files
+	 *         of a source folder are missing, older than their sources or
+	 *         cannot be read
+	 */
+	private static List<ClassFileUses> findClassFileReferences(IJavaProject jp, IPackageFragment fragment) {
+		try {
+			List<ClassFileUses> classes = new ArrayList<>();
+			IPackageFragmentRoot root = (IPackageFragmentRoot) fragment.getParent();
+			if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+				if (fragment.getOrdinaryClassFiles().length > 0) {
+					return null;
+				}
+				IPath output = root.getRawClasspathEntry().getOutputLocation();
+				if (output == null) {
+					output = jp.getOutputLocation();
+				}
+				IPath path = output.append(fragment.getElementName().replace('.', '/'));
+				if (path.segmentCount() < 2) {
+					return null;
+				}
+				IFolder folder = ResourcesPlugin.getWorkspace().getRoot().getFolder(path);
+				if (!folder.exists()) {
+					return fragment.containsJavaResources() ? null : Collections.emptyList();
+				}
+				// the time stamps of the sources by the name of their primary type
+				Map<String, Long> sourceStamps = new HashMap<>();
+				for (ICompilationUnit unit : fragment.getCompilationUnits()) {
+					String name = IPath.fromOSString(unit.getElementName()).removeFileExtension().toString();
+					IResource source = unit.getResource();
+					if (source != null && !"package-info".equals(name) && !"module-info".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
+						sourceStamps.put(name, source.getLocalTimeStamp());
+					}
+				}
+				Set<String> compiled = new HashSet<>();
+				for (IResource member : folder.members()) {
+					if (member instanceof IFile file && "class".equals(file.getFileExtension())) { //$NON-NLS-1$
+						String name = file.getFullPath().removeFileExtension().lastSegment();
+						int index = name.indexOf('$');
+						if (index > 0) {
+							name = name.substring(0, index);
+						}
+						Long sourceStamp = sourceStamps.get(name);
+						if (sourceStamp != null && file.getLocalTimeStamp() < sourceStamp.longValue()) {
+							// the source has been changed since, but not been compiled yet
+							return null;
+						}
+						compiled.add(name);
+						try (InputStream contents = file.getContents(true)) {
+							ClassFileUses uses = ClassFileUses.get(contents.readAllBytes());
+							if (uses == null) {
+								return null;
+							}
+							classes.add(uses);
+						}
+					}
+				}
+				if (!compiled.containsAll(sourceStamps.keySet())) {
+					// a source has not been compiled yet
+					return null;
+				}
+			} else {
+				for (IClassFile classFile : fragment.getOrdinaryClassFiles()) {
+					ClassFileUses uses = ClassFileUses.get(classFile.getBytes());
+					if (uses == null) {
+						return null;
+					}
+					classes.add(uses);
+				}
+			}
+			return classes;
+		} catch (CoreException | IOException e) {
+			return null;
+		}
+	}
+
 	protected void findReferences(ITypeRoot[] roots, Set<String> pkgs, IProgressMonitor monitor, boolean binary) throws JavaModelException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, roots.length);
 		for (ITypeRoot root : roots) {
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ui.search.dependencies;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.util.IClassFileReader;
+import org.eclipse.jdt.core.util.IExceptionAttribute;
+import org.eclipse.jdt.core.util.IFieldInfo;
+import org.eclipse.jdt.core.util.IInnerClassesAttribute;
+import org.eclipse.jdt.core.util.IInnerClassesAttributeEntry;
+import org.eclipse.jdt.core.util.IMethodInfo;
+import org.eclipse.jdt.core.util.IModifierConstants;
+
+/**
+ * The packages used by the API of a class file, i.e. by its super types and by
+ * the signatures of its public and protected members, as needed to compute the
+ * <code>uses</code> directive of an exported package.
+ * <p>
+ * The class files are decoded without going through the Java model, and the
+ * result of each decoding is cached by the hash of the class file content, so
+ * that only new or changed class files are decoded again. Instances are
+ * immutable and can be computed from several threads.
+ * </p>
+ */
+final class ClassFileUses {
+
+	private static final int CACHE_SIZE = 10000;
+
+	private static final Map<String, ClassFileUses> CACHE = Collections
+			.synchronizedMap(new LinkedHashMap<String, ClassFileUses>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, ClassFileUses> eldest) {
+					return size() > CACHE_SIZE;
+				}
+			});
+
+	/** the binary name of the class, e.g. <code>a/b/C$D</code> */
+	private final String fName;
+	/** the binary name of the enclosing class of a member class, or <code>null</code> */
+	private final String fOuterName;
+	/** whether the class is public or protected, and not a local or anonymous class */
+	private final boolean fApi;
+	/** the packages used by the API of the class */
+	private final Set<String> fPackages;
+
+	private ClassFileUses(String name, String outerName, boolean api, Set<String> packages) {
+		fName = name;
+		fOuterName = outerName;
+		fApi = api;
+		fPackages = packages;
+	}
+
+	/**
+	 * Returns the uses of the given class file content, decoding it only if
+	 * content with the same hash has not been decoded before.
+	 *
+	 * @return the uses, or <code>null</code> if the content is not a valid
+	 *         class file
+	 */
+	static ClassFileUses get(byte[] content) {
+		String key = hash(content);
+		ClassFileUses uses = CACHE.get(key);
+		if (uses == null) {
+			uses = decode(content);
+			if (uses != null) {
+				CACHE.put(key, uses);
+			}
+		}
+		return uses;
+	}
+
+	/**
+	 * Returns the packages used by the API of the given classes of one package.
+	 * Member classes are only considered if all their enclosing classes are
+	 * part of the API as well.
+	 */
+	static Set<String> getUsedPackages(Collection<ClassFileUses> classes) {
+		Map<String, ClassFileUses> byName = new HashMap<>();
+		for (ClassFileUses uses : classes) {
+			byName.put(uses.fName, uses);
+		}
+		Set<String> packages = new HashSet<>();
+		for (ClassFileUses uses : classes) {
+			if (uses.isVisible(byName)) {
+				packages.addAll(uses.fPackages);
+			}
+		}
+		return packages;
+	}
+
+	private boolean isVisible(Map<String, ClassFileUses> byName) {
+		if (!fApi) {
+			return false;
+		}
+		if (fOuterName == null) {
+			return true;
+		}
+		ClassFileUses outer = byName.get(fOuterName);
+		return outer != null && outer != this && outer.isVisible(byName);
+	}
+
+	private static ClassFileUses decode(byte[] content) {
+		IClassFileReader reader = ToolFactory.createDefaultClassFileReader(new ByteArrayInputStream(content),
+				IClassFileReader.ALL_BUT_METHOD_BODIES);
+		if (reader == null) {
+			return null;
+		}
+		String name = new String(reader.getClassName());
+		String outerName = null;
+		int flags = reader.getAccessFlags();
+		boolean member = true;
+		IInnerClassesAttribute innerClasses = reader.getInnerClassesAttribute();
+		if (innerClasses != null) {
+			for (IInnerClassesAttributeEntry entry : innerClasses.getInnerClassAttributesEntries()) {
+				char[] innerName = entry.getInnerClassName();
+				if (innerName != null && name.equals(new String(innerName))) {
+					// the access flags of the class file do not tell private and protected member classes
+					flags = entry.getAccessFlags();
+					char[] outer = entry.getOuterClassName();
+					if (outer != null) {
+						outerName = new String(outer);
+					} else {
+						member = false;
+					}
+					break;
+				}
+			}
+		}
+		boolean api = member && isApi(flags);
+
+		Set<String> packages = new HashSet<>();
+		if (api) {
+			char[] superclassName = reader.getSuperclassName();
+			if (superclassName != null) {
+				addPackage(new String(superclassName), packages);
+			}
+			for (char[] interfaceName : reader.getInterfaceNames()) {
+				addPackage(new String(interfaceName), packages);
+			}
+			for (IFieldInfo field : reader.getFieldInfos()) {
+				if (isApi(field.getAccessFlags()) && !field.isSynthetic()) {
+					addDescriptorPackages(new String(field.getDescriptor()), packages);
+				}
+			}
+			for (IMethodInfo method : reader.getMethodInfos()) {
+				if (isApi(method.getAccessFlags()) && !method.isSynthetic()) {
+					addDescriptorPackages(new String(method.getDescriptor()), packages);
+					IExceptionAttribute exceptions = method.getExceptionAttribute();
+					if (exceptions != null) {
+						for (char[] exceptionName : exceptions.getExceptionNames()) {
+							addPackage(new String(exceptionName), packages);
+						}
+					}
+				}
+			}
+		}
+		return new ClassFileUses(name, outerName, api, packages);
+	}
+
+	private static boolean isApi(int flags) {
+		return (flags & (IModifierConstants.ACC_PUBLIC | IModifierConstants.ACC_PROTECTED)) != 0
+				&& (flags & IModifierConstants.ACC_SYNTHETIC) == 0;
+	}
+
+	/**
+	 * Adds the packages of the classes referenced by a field or method
+	 * descriptor, e.g. <code>(I[Ljava/lang/String;)La/b/C;</code>.
+	 */
+	private static void addDescriptorPackages(String descriptor, Set<String> packages) {
+		int start = descriptor.indexOf('L');
+		while (start != -1) {
+			int end = descriptor.indexOf(';', start);
+			if (end == -1) {
+				return;
+			}
+			addPackage(descriptor.substring(start + 1, end), packages);
+			start = descriptor.indexOf('L', end);
+		}
+	}
+
+	private static void addPackage(String binaryName, Set<String> packages) {
+		int index = binaryName.lastIndexOf('/');
+		if (index > 0) {
+			packages.add(binaryName.substring(0, index).replace('/', '.'));
+		}
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
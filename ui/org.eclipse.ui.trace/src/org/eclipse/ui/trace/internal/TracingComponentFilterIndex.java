@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.trace.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ui.trace.internal.datamodel.TracingComponent;
+
+/**
+ * An immutable index of the texts shown for a set of {@link TracingComponent} objects, i.e. the label of each
+ * component and the option-paths of its debug options. The texts are indexed by their case insensitive trigrams, so
+ * that a filter pattern only has to be matched against the texts containing all the trigrams of its literal parts.
+ * The debug options do not need to be populated to be indexed.
+ */
+final class TracingComponentFilterIndex {
+
+	/**
+	 * Build the index of the specified components.
+	 *
+	 * @param tracingComponents
+	 *            The {@link TracingComponent} objects to index
+	 */
+	TracingComponentFilterIndex(final TracingComponent[] tracingComponents) {
+
+		final List<String> allTexts = new ArrayList<>();
+		final List<TracingComponent> allComponents = new ArrayList<>();
+		final List<Boolean> allLabels = new ArrayList<>();
+		for (TracingComponent component : tracingComponents) {
+			allTexts.add(component.getLabel());
+			allComponents.add(component);
+			allLabels.add(Boolean.TRUE);
+			for (String optionPath : component.getOptionPaths()) {
+				allTexts.add(optionPath);
+				allComponents.add(component);
+				allLabels.add(Boolean.FALSE);
+			}
+		}
+		texts = allTexts.toArray(new String[allTexts.size()]);
+		components = allComponents.toArray(new TracingComponent[allComponents.size()]);
+		labels = new boolean[texts.length];
+		for (int id = 0; id < labels.length; id++) {
+			labels[id] = allLabels.get(id).booleanValue();
+		}
+
+		// collect the postings of all texts first, then trim them once
+		final Map<Long, int[]> postings = new HashMap<>();
+		for (int id = 0; id < texts.length; id++) {
+			final String text = texts[id];
+			for (int i = 0; i + 3 <= text.length(); i++) {
+				final Long key = Long.valueOf(trigram(text, i));
+				int[] posting = postings.get(key);
+				if (posting == null) {
+					// first slot holds the number of ids
+					posting = new int[4];
+					postings.put(key, posting);
+				}
+				final int size = posting[0];
+				if ((size > 0) && (posting[size] == id)) {
+					continue;
+				}
+				if (size + 1 == posting.length) {
+					posting = Arrays.copyOf(posting, posting.length * 2);
+					postings.put(key, posting);
+				}
+				posting[size + 1] = id;
+				posting[0] = size + 1;
+			}
+		}
+		trigrams = new HashMap<>(postings.size());
+		for (Map.Entry<Long, int[]> posting : postings.entrySet()) {
+			final int[] ids = posting.getValue();
+			trigrams.put(posting.getKey(), Arrays.copyOfRange(ids, 1, ids[0] + 1));
+		}
+	}
+
+	/**
+	 * Accessor for the number of indexed texts
+	 *
+	 * @return The number of indexed texts
+	 */
+	int size() {
+		return texts.length;
+	}
+
+	/**
+	 * Accessor for an indexed text
+	 *
+	 * @param id
+	 *            The id of the text
+	 * @return The label of a {@link TracingComponent} or the option-path of one of its debug options
+	 */
+	String getText(final int id) {
+		return texts[id];
+	}
+
+	/**
+	 * Accessor for the {@link TracingComponent} an indexed text belongs to
+	 *
+	 * @param id
+	 *            The id of the text
+	 * @return The {@link TracingComponent} whose label or debug option the text is
+	 */
+	TracingComponent getComponent(final int id) {
+		return components[id];
+	}
+
+	/**
+	 * Accessor to find out if an indexed text is the label of a {@link TracingComponent}
+	 *
+	 * @param id
+	 *            The id of the text
+	 * @return Returns true if the text is the label of a {@link TracingComponent}; Otherwise, the text is the
+	 *         option-path of a debug option and false is returned.
+	 */
+	boolean isLabel(final int id) {
+		return labels[id];
+	}
+
+	/**
+	 * Returns the ids, in ascending order, of the texts that may match the specified filter pattern, in which
+	 * <code>*</code> and <code>?</code> are wildcards. The candidates still have to be matched against the pattern.
+	 *
+	 * @param pattern
+	 *            The filter pattern
+	 * @return The ids of the candidates, or <code>null</code> if all texts are candidates
+	 */
+	int[] getCandidates(final String pattern) {
+
+		if ((pattern == null) || (pattern.indexOf('\\') != -1) || pattern.chars().anyMatch(Character::isWhitespace)) {
+			// escaped wildcards and multiple words are not handled by the index
+			return null;
+		}
+		int[] result = null;
+		for (String literal : pattern.split("[*?]")) { //$NON-NLS-1$
+			for (int i = 0; i + 3 <= literal.length(); i++) {
+				final int[] ids = trigrams.get(Long.valueOf(trigram(literal, i)));
+				if (ids == null) {
+					return new int[0];
+				}
+				result = (result == null) ? ids : intersect(result, ids);
+				if (result.length == 0) {
+					return result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static long trigram(final String s, final int start) {
+		return (long) fold(s.charAt(start)) << 32 | (long) fold(s.charAt(start + 1)) << 16 | fold(s.charAt(start + 2));
+	}
+
+	private static char fold(final char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static int[] intersect(final int[] a, final int[] b) {
+		final int[] result = new int[Math.min(a.length, b.length)];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while ((i < a.length) && (j < b.length)) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				result[size++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return (size == result.length) ? result : Arrays.copyOf(result, size);
+	}
+
+	/** The label of each component followed by the option-paths of its debug options */
+	private final String[] texts;
+
+	/** The {@link TracingComponent} each text belongs to */
+	private final TracingComponent[] components;
+
+	/** Whether each text is the label of its {@link TracingComponent} */
+	private final boolean[] labels;
+
+	/** The ids of the texts, in ascending order, containing a case insensitive trigram */
+	private final Map<Long, int[]> trigrams;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,22 @@
  *******************************************************************************/
 package org.eclipse.ui.trace.internal;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.ui.dialogs.PatternFilter;
 import org.eclipse.ui.trace.internal.datamodel.TracingComponent;
 import org.eclipse.ui.trace.internal.datamodel.TracingComponentDebugOption;
+import org.eclipse.ui.trace.internal.datamodel.TracingNode;
 
 /**
- * A {@link ViewerFilter} for filtering the contents of the trace component tree viewer.
+ * A {@link ViewerFilter} for filtering the contents of the trace component tree viewer. The labels of the tracing
+ * components and the option-paths of their debug options are matched through a {@link TracingComponentFilterIndex}
+ * built from the .options files of the bundles, so that filtering never populates the debug options of a component.
+ * A debug option is shown if it matches, if one of the debug options nested below it matches or if its component or
+ * one of the debug options it is nested below matches.
  */
 public class TracingComponentViewerFilter extends PatternFilter {
 
@@ -32,70 +37,122 @@ public class TracingComponentViewerFilter extends PatternFilter {
 	 */
 	public TracingComponentViewerFilter() {
 
-		visibleTracingComponentsCache = new HashMap<>();
-		visibleTracingDebugOptions = new HashMap<>();
+		visibleTracingComponents = new HashSet<>();
+		labelMatchingTracingComponents = new HashSet<>();
+		matchingOptionPaths = new HashSet<>();
+		visibleOptionPaths = new HashSet<>();
 	}
 
 	@Override
 	public void setPattern(final String patternString) {
 
 		super.setPattern(patternString);
+		pattern = patternString;
 		/**
 		 * Hack to clear my own caches (whenever the contents changes)
 		 */
-		visibleTracingComponentsCache.clear();
-		visibleTracingDebugOptions.clear();
+		matchesComputed = false;
 	}
 
 	/*
-	 * Force the array of {@link TracingComponentDebugOption} and their children to be visible.
+	 * Match the pattern against the candidates found in the index of the viewer input.
 	 */
-	private void forceVisibleDebugOptions(final TracingComponentDebugOption[] options) {
+	private void computeMatches(final Viewer viewer) {
 
-		for (TracingComponentDebugOption option : options) {
-			if (option.hasChildren()) {
-				forceVisibleDebugOptions(option.getChildren());
+		visibleTracingComponents.clear();
+		labelMatchingTracingComponents.clear();
+		matchingOptionPaths.clear();
+		visibleOptionPaths.clear();
+		final Object input = viewer.getInput();
+		if ((index == null) || (indexedInput != input)) {
+			index = new TracingComponentFilterIndex(input instanceof TracingComponent[] components ? components : new TracingComponent[0]);
+			indexedInput = input;
+		}
+		final int[] candidates = index.getCandidates(pattern);
+		final int candidateCount = (candidates == null) ? index.size() : candidates.length;
+		for (int i = 0; i < candidateCount; i++) {
+			final int id = (candidates == null) ? i : candidates[i];
+			final String text = index.getText(id);
+			if (wordMatches(text)) {
+				final TracingComponent component = index.getComponent(id);
+				visibleTracingComponents.add(component);
+				if (index.isLabel(id)) {
+					// the text matches - all children of this component are visible
+					labelMatchingTracingComponents.add(component);
+				} else {
+					matchingOptionPaths.add(text);
+					// the debug options this debug option is nested below are visible as well
+					for (int slash = text.indexOf('/'); slash != -1; slash = text.indexOf('/', slash + 1)) {
+						visibleOptionPaths.add(text.substring(0, slash));
+					}
+					visibleOptionPaths.add(text);
+				}
+			}
+		}
+		matchesComputed = true;
+	}
+
+	/*
+	 * Find out if the component of the specified debug option or one of the debug options it is nested below matches.
+	 */
+	private boolean isAncestorMatch(final TracingComponentDebugOption option) {
+
+		final String optionPath = option.getOptionPath();
+		for (int slash = optionPath.indexOf('/'); slash != -1; slash = optionPath.indexOf('/', slash + 1)) {
+			if (matchingOptionPaths.contains(optionPath.substring(0, slash))) {
+				return true;
+			}
+		}
+		TracingNode parent = option.getParent();
+		while (parent instanceof TracingComponentDebugOption parentOption) {
+			if (matchingOptionPaths.contains(parentOption.getOptionPath())) {
+				return true;
 			}
-			visibleTracingDebugOptions.put(option, Boolean.TRUE);
+			parent = parentOption.getParent();
 		}
+		return labelMatchingTracingComponents.contains(parent);
 	}
 
 	@Override
 	public boolean isElementVisible(final Viewer viewer, final Object element) {
 
+		if ((pattern == null) || pattern.isEmpty()) {
+			return true;
+		}
+		if (!matchesComputed || (indexedInput != viewer.getInput())) {
+			computeMatches(viewer);
+		}
 		boolean isVisible = false;
-		if (element instanceof TracingComponent component) {
-			boolean textMatches = super.isLeafMatch(viewer, component);
-			if (textMatches) {
-				// the text matches - make sure all children of this component are visible
-				isVisible = true;
-				visibleTracingComponentsCache.put(component, Boolean.TRUE);
-				// show all children
-				forceVisibleDebugOptions(component.getChildren());
-			} else {
-				// show only if has 1 child that matches
-				isVisible = super.isElementVisible(viewer, element);
-				visibleTracingComponentsCache.put(component, Boolean.valueOf(isVisible));
-			}
-		} else if (element instanceof TracingComponentDebugOption) {
-			// check to see if this debug option is forced to be visible
-			Boolean enabled = visibleTracingDebugOptions.get(element);
-			if (enabled != null) {
-				// it should be enabled because the parent is enabled and forced it to be enabled
-				isVisible = enabled.booleanValue();
-			} else {
-				// make it visible only if it matches
-				isVisible = super.isLeafMatch(viewer, element);
-				if (!isVisible) {
-					// This debug option did not match - does anything for this branch/category match?
-					isVisible = super.isParentMatch(viewer, element);
-				}
-			}
+		if (element instanceof TracingComponent) {
+			// show if the label or at least one debug option matches
+			isVisible = visibleTracingComponents.contains(element);
+		} else if (element instanceof TracingComponentDebugOption option) {
+			// show if this debug option or one nested below it matches, or if an ancestor matches (which forces all
+			// of its descendants to be visible)
+			isVisible = visibleOptionPaths.contains(option.getOptionPath()) || isAncestorMatch(option);
 		}
 		return isVisible;
 	}
 
-	private final Map<TracingComponent, Boolean> visibleTracingComponentsCache;
+	/** The current filter pattern */
+	private String pattern;
+
+	/** The index of the current viewer input */
+	private TracingComponentFilterIndex index;
+
+	/** The viewer input the index was built for */
+	private Object indexedInput;
+
+	/** A flag to determine if the current pattern has been matched against the index */
+	private boolean matchesComputed = false;
+
+	private final Set<TracingComponent> visibleTracingComponents;
+
+	private final Set<TracingComponent> labelMatchingTracingComponents;
+
+	/** The option-paths matching the current pattern */
+	private final Set<String> matchingOptionPaths;
 
-	private final Map<TracingComponentDebugOption, Boolean> visibleTracingDebugOptions;
-}
\ No newline at end of file
+	/** The matching option-paths and the option-paths they are nested below */
+	private final Set<String> visibleOptionPaths;
+}
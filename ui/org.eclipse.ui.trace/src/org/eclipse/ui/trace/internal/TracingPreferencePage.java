@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -581,19 +581,17 @@ public class TracingPreferencePage extends PreferencePage implements IWorkbenchP
 				displayableTracingComponents.put(components[i].getId(), components[i]);
 			}
 		}
-		// now that the components are created - populate the debug options for each component
-		Iterator<TracingComponent> componentIterator = displayableTracingComponents.values().iterator();
-		while (componentIterator.hasNext()) {
-			componentIterator.next().initialize();
-		}
-		// update any TracingComponentDebugOption entries if their value differs from the preference value
+		// the debug options of each component are populated when the component is expanded - remember the preference
+		// values that should be used for them
 		mergePrefsWithDebugOptions();
 	}
 
 	/**
 	 * This method will merge the value of the options stored in the preferences with the value in the debug options.
+	 * The merged values are applied to the debug options of a {@link TracingComponent} when they are populated.
 	 */
 	private void mergePrefsWithDebugOptions() {
+		Map<String, String> preferredValues = new HashMap<>();
 		Map<String, String> prefDebugOptions = PreferenceHandler.getPreferenceProperties();
 		// get all debug options (this ensures that the disabled debug options are used when populating)
 		Map<String, String> debugOptions = DebugOptionsHandler.getDebugOptions().getOptions();
@@ -626,8 +624,10 @@ public class TracingPreferencePage extends PreferencePage implements IWorkbenchP
 				for (TracingComponentDebugOption identicalOption : identicalOptions) {
 					identicalOption.setOptionPathValue(prefDebugOption.getValue());
 				}
+				preferredValues.put(prefDebugOption.getKey(), prefDebugOption.getValue());
 			}
 		}
+		TracingCollections.getInstance().storePreferredDebugOptionValues(preferredValues);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,15 @@ public abstract class AbstractTracingNode implements TracingNode {
 		}
 	}
 
+	/**
+	 * Accessor to find out if the children of this node have been populated yet.
+	 *
+	 * @return Returns true if the list of children has been populated; Otherwise, false is returned.
+	 */
+	public boolean isInitialized() {
+		return childrenInitialized;
+	}
+
 	@Override
 	public void setLabel(final String label) {
 		this.label = label;
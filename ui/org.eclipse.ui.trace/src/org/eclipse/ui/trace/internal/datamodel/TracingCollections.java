@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.ui.trace.internal.utils.TracingConstants;
 import org.eclipse.ui.trace.internal.utils.TracingUtils;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.wiring.BundleRevision;
 
 /**
  * A utility class for handling the various collections of the product tracing UI.
@@ -37,7 +39,7 @@ public class TracingCollections {
 
 		this.fComponentCollection = new HashMap<>();
 		this.fDebugOptionCollection = new HashMap<>();
-		this.fBundleOptionsCollection = new HashMap<>();
+		this.fPreferredDebugOptionValues = new HashMap<>();
 		this.fBundleConsumedCollection = new HashMap<>();
 		this.fBundleComponentCollection = new HashMap<>();
 		this.fModifiedDebugOptions = new ModifiedDebugOptions();
@@ -140,9 +142,9 @@ public class TracingCollections {
 
 	/**
 	 * Accessor for a {@link Properties} of debug options where the key of the {@link Properties} is the debug option
-	 * path and the value of the {@link Properties} is the debug option value. If the debug options for a specific
-	 * {@link Bundle} have not been accessed then it will attempt to read in all of the entries defined in the .options
-	 * file for this bundle.
+	 * path and the value of the {@link Properties} is the debug option value. If the debug options for the current
+	 * revision of a specific {@link Bundle} have not been accessed then it will attempt to read in all of the entries
+	 * defined in the .options file for this bundle. The returned {@link Properties} are shared and must not be modified.
 	 *
 	 * @param bundle
 	 *            The {@link Bundle} to access the debug options defined for it.
@@ -152,17 +154,72 @@ public class TracingCollections {
 	public Properties getDebugOptions(final Bundle bundle) {
 		Properties results = null;
 		if (bundle != null) {
-			results = fBundleOptionsCollection.get(bundle);
-			if (results == null) {
-				// this bundle has not been processed yet - so do it now.
+			final BundleRevision revision = bundle.adapt(BundleRevision.class);
+			if (revision != null) {
+				results = BUNDLE_OPTIONS_CACHE.get(revision);
+				if (results == null) {
+					// this bundle revision has not been processed yet - so do it now.
+					results = TracingUtils.loadOptionsFromBundle(bundle);
+					// and store the results
+					BUNDLE_OPTIONS_CACHE.put(revision, results);
+				}
+			} else {
+				// the bundle has been uninstalled - there is no revision to cache the options for
 				results = TracingUtils.loadOptionsFromBundle(bundle);
-				// and store the results
-				fBundleOptionsCollection.put(bundle, results);
 			}
 		}
 		return results;
 	}
 
+	/**
+	 * Accessor to find out if a specific bundle defines any debug options. The .options file of the bundle is only read
+	 * if it has already been read for the current revision of the bundle.
+	 *
+	 * @param bundle
+	 *            The {@link Bundle} to check.
+	 * @return Returns true if this bundle contains a .options file with at least one entry or a .options file that has
+	 *         not been read yet. Otherwise, false is returned.
+	 */
+	public boolean hasDebugOptions(final Bundle bundle) {
+		boolean result = false;
+		if (bundle != null) {
+			final BundleRevision revision = bundle.adapt(BundleRevision.class);
+			final Properties options = revision != null ? BUNDLE_OPTIONS_CACHE.get(revision) : null;
+			if (options != null) {
+				result = !options.isEmpty();
+			} else {
+				result = bundle.getEntry(TracingConstants.OPTIONS_FILENAME) != null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Store the debug option values that were persisted in the preferences and take precedence over the values of the
+	 * debug options when a {@link TracingComponent} populates its debug options.
+	 *
+	 * @param preferredValues
+	 *            A {@link Map} where the key is the debug option path and the value is the preferred debug option value.
+	 */
+	public void storePreferredDebugOptionValues(final Map<String, String> preferredValues) {
+		fPreferredDebugOptionValues.clear();
+		if (preferredValues != null) {
+			fPreferredDebugOptionValues.putAll(preferredValues);
+		}
+	}
+
+	/**
+	 * Accessor for the preferred value of a debug option.
+	 *
+	 * @param optionPath
+	 *            The name of the option-path.
+	 * @return The value persisted in the preferences for the option-path or <code>null</code> if the value of the
+	 *         debug option should be used.
+	 */
+	public String getPreferredDebugOptionValue(final String optionPath) {
+		return fPreferredDebugOptionValues.get(optionPath);
+	}
+
 	/**
 	 * Set the consumed state of the specified {@link Bundle}.
 	 *
@@ -239,7 +296,7 @@ public class TracingCollections {
 	public final void clear() {
 		fComponentCollection.clear();
 		fDebugOptionCollection.clear();
-		fBundleOptionsCollection.clear();
+		fPreferredDebugOptionValues.clear();
 		fBundleConsumedCollection.clear();
 		fBundleComponentCollection.clear();
 	}
@@ -256,8 +313,8 @@ public class TracingCollections {
 	 */
 	private Map<String, List<TracingComponentDebugOption>> fDebugOptionCollection = null;
 
-	/** A collection of {@link Properties} entries which contain the various tracing strings for a specific {@link Bundle}. */
-	private Map<Bundle, Properties> fBundleOptionsCollection = null;
+	/** A collection of debug option values persisted in the preferences for a specific {@link String} option-path. */
+	private Map<String, String> fPreferredDebugOptionValues = null;
 
 	/**
 	 * A collection of {@link Bundle} entries with a {@link Boolean} value to state if it is a consumed by any tracing
@@ -271,6 +328,13 @@ public class TracingCollections {
 	 */
 	private Map<Bundle, List<TracingComponent>> fBundleComponentCollection = null;
 
+	/**
+	 * A collection of {@link Properties} entries which contain the various tracing strings for a specific
+	 * {@link BundleRevision}. It is kept across instances so that the .options files are only read again when a bundle
+	 * is updated.
+	 */
+	private static final Map<BundleRevision, Properties> BUNDLE_OPTIONS_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/** The singleton instance of this class */
 	private static TracingCollections instance = null;
 }
\ No newline at end of file
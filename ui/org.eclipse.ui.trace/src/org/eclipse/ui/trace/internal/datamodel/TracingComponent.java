@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2012 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.ui.trace.internal.Messages;
@@ -130,25 +131,26 @@ public class TracingComponent extends AbstractTracingNode {
 						// check to see if this debug option already exists in the cache
 						String key = (String) option.getKey();
 						String value = (String) option.getValue();
+						final TracingComponentDebugOption[] debugOptions = TracingCollections.getInstance().getTracingDebugOptions(key);
+						final String preferredValue = TracingCollections.getInstance().getPreferredDebugOptionValue(key);
 						final String debugOptionValue = currentDebugOptions.get(key);
 						String finalValue = null;
-						if (debugOptionValue != null) {
+						if (debugOptions.length > 0) {
+							// An existing tracing debug option has already been created (possibly by another
+							// component that was expanded earlier and may have been modified since). Use the value
+							// of this existing debug option to ensure the values of all identical debug options are
+							// the same.
+							finalValue = debugOptions[0].getOptionPathValue();
+						} else if (preferredValue != null) {
+							// This entry has been persisted in the preferences - so use its value.
+							finalValue = preferredValue;
+						} else if (debugOptionValue != null) {
 							// This entry is already in the debug options - so use its value.
 							finalValue = debugOptionValue;
 						} else {
-							// create a TracingComponentDebugOption for this entry
-							final TracingComponentDebugOption[] debugOptions = TracingCollections.getInstance().getTracingDebugOptions(key);
-							if (debugOptions.length > 0) {
-								// An existing tracing debug option has already been created but it does not
-								// exist in the debug options (yet). Use the value of this existing debug option
-								// despite what the .option file may say to ensure the initial value of all debug
-								// options are the same.
-								finalValue = debugOptions[0].getOptionPathValue();
-							} else {
-								// An existing tracing debug option does not exist nor does it exist in the
-								// debug options (yet). Use the value read in from the .options file.
-								finalValue = value;
-							}
+							// An existing tracing debug option does not exist nor does it exist in the
+							// debug options (yet). Use the value read in from the .options file.
+							finalValue = value;
 						}
 						// create the TracingComponentDebugOption object
 						final TracingComponentDebugOption newDebugOption = new TracingComponentDebugOption(key, finalValue);
@@ -161,6 +163,43 @@ public class TracingComponent extends AbstractTracingNode {
 		}
 	}
 
+	/**
+	 * A {@link TracingComponent} populates its debug options when it is expanded. Until then it has children if any of
+	 * its bundles contains a .options file.
+	 */
+	@Override
+	public boolean hasChildren() {
+
+		boolean hasChildren = false;
+		if (isInitialized()) {
+			hasChildren = super.hasChildren();
+		} else {
+			for (Bundle bundle : bundles) {
+				if (TracingCollections.getInstance().hasDebugOptions(bundle)) {
+					hasChildren = true;
+					break;
+				}
+			}
+		}
+		return hasChildren;
+	}
+
+	/**
+	 * Accessor for the option-paths of the debug options defined by the bundles of this {@link TracingComponent}. The
+	 * .options files of the bundles are read but no {@link TracingComponentDebugOption} objects are created.
+	 *
+	 * @return A list of option-paths
+	 */
+	public List<String> getOptionPaths() {
+		final List<String> optionPaths = new ArrayList<>();
+		for (Bundle bundle : bundles) {
+			for (Object key : TracingCollections.getInstance().getDebugOptions(bundle).keySet()) {
+				optionPaths.add((String) key);
+			}
+		}
+		return optionPaths;
+	}
+
 	@Override
 	public TracingComponentDebugOption[] getChildren() {
 
@@ -181,9 +220,10 @@ public class TracingComponent extends AbstractTracingNode {
 	 */
 	private void addBundle(final String name, final boolean consumed, final Bundle[] allBundles) {
 		if (name != null) {
+			final Pattern namePattern = Pattern.compile(name);
 			for (int bundleIndex = 0; bundleIndex < allBundles.length; bundleIndex++) {
 				String symbolicName = allBundles[bundleIndex].getSymbolicName();
-				if ((symbolicName != null) && symbolicName.matches(name)) {
+				if ((symbolicName != null) && namePattern.matcher(symbolicName).matches()) {
 					if (!TracingCollections.getInstance().isBundleConsumed(allBundles[bundleIndex])) {
 						// this bundle has not been consumed by any other component yet so include it here.
 						bundles.add(allBundles[bundleIndex]);